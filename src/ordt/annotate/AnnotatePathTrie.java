@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2016 Juniper Networks, Inc. All rights reserved.
+ */
+package ordt.annotate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+
+import ordt.extract.model.ModBaseComponent;
+import ordt.extract.model.ModComponent;
+import ordt.extract.model.ModInstance;
+import ordt.extract.model.ModComponent.CompType;
+
+/** list of annotate commands with paths compiled into a trie of path elements, so that model elements matching
+ *  all commands are found in a single traversal of the model component and instance trees.
+ *  Matches are saved per command and then processed in command order, making the same process calls in the
+ *  same order as if each command were applied in a separate traversal. */
+public class AnnotatePathTrie {
+	private List<AnnotateCommand> commands;
+	private List<List<ModBaseComponent>> matches = new ArrayList<List<ModBaseComponent>>();  // matching elements of each command in traversal order
+	private PathMatcher componentPaths = new PathMatcher();
+	private PathMatcher instancePaths = new PathMatcher();
+
+	/** compile a list of annotate commands */
+	public AnnotatePathTrie(List<AnnotateCommand> commands) {
+		this.commands = commands;
+		for (int idx=0; idx<commands.size(); idx++) {
+			AnnotateCommand cmd = commands.get(idx);
+			if (cmd.pathUsesComponents()) componentPaths.addCommand(idx, cmd.getPath());
+			else instancePaths.addCommand(idx, cmd.getPath());
+			matches.add(new ArrayList<ModBaseComponent>());
+		}
+	}
+
+	/** find model elements matching each command, starting at the model root */
+	public void findMatches(ModComponent root) {
+		if (componentPaths.hasCommands()) root.findComponentAnnotationMatches(this, componentPaths.getRootState());
+		if (instancePaths.hasCommands()) root.findInstanceAnnotationMatches(this, instancePaths.getRootState());
+	}
+
+	/** process all matching model elements found for the command at specified index */
+	public void processMatches(int cmdIdx) {
+		AnnotateCommand cmd = commands.get(cmdIdx);
+		for (ModBaseComponent elem: matches.get(cmdIdx)) {
+			if (cmd.pathUsesComponents()) cmd.processComponent((ModComponent) elem);
+			else cmd.processInstance((ModInstance) elem);
+		}
+		matches.get(cmdIdx).clear();
+	}
+
+	/** save component matches and return match state of its child components, or null if no children can match */
+	public MatchState matchComponent(ModComponent modComponent, MatchState state) {
+		return componentPaths.match(modComponent, modComponent.getId(), modComponent.getCompType(), state);
+	}
+
+	/** save instance matches and return match state of its component's child instances, or null if no children can match */
+	public MatchState matchInstance(ModInstance modInstance, MatchState state) {
+		return instancePaths.match(modInstance, modInstance.getId(), modInstance.getRegComp().getCompType(), state);
+	}
+
+	/** trie node holding commands whose paths end at (or continue with a trailing ** after) this node */
+	private static class TrieNode {
+		private HashMap<String, TrieNode> children = new HashMap<String, TrieNode>();
+		private TrieNode wildcardChild;  // child matching any element name
+		private List<Integer> endCommands = new ArrayList<Integer>();  // commands whose path ends at this node
+		private List<Integer> doubleStarCommands = new ArrayList<Integer>();  // commands matching all descendants of this node
+
+		/** return child node matching an element name, creating it if needed */
+		private TrieNode addChild(String elem) {
+			if ("*".equals(elem)) {
+				if (wildcardChild == null) wildcardChild = new TrieNode();
+				return wildcardChild;
+			}
+			TrieNode child = children.get(elem);
+			if (child == null) {
+				child = new TrieNode();
+				children.put(elem, child);
+			}
+			return child;
+		}
+
+		/** return true if paths continue below this node */
+		private boolean hasChildren() {
+			return (wildcardChild != null) || !children.isEmpty();
+		}
+	}
+
+	/** trie nodes matching the path of a model element and commands matching all of its descendants */
+	public static class MatchState {
+		private List<TrieNode> nodes;
+		private List<Integer> doubleStarCommands;
+
+		private MatchState(List<TrieNode> nodes, List<Integer> doubleStarCommands) {
+			this.nodes = nodes;
+			this.doubleStarCommands = doubleStarCommands;
+		}
+	}
+
+	/** compiled paths of commands using one path type (component or instance) */
+	private class PathMatcher {
+		private TrieNode root = new TrieNode();
+		private HashMap<String, List<Integer>> singletonCommands = new HashMap<String, List<Integer>>();  // single element paths matching elements at any level
+		private List<Integer> wildcardSingletonCommands = new ArrayList<Integer>();  // single * or ** paths matching all elements
+		private boolean hasCommands = false;
+
+		/** add a command path.  A single element path matches elements at all levels.  Otherwise each element must
+		 *  match at its level, with * matching any name and a trailing ** matching all elements below the prior level. */
+		private void addCommand(int cmdIdx, List<String> path) {
+			hasCommands = true;
+			if (path.size() == 1) {
+				String elem = path.get(0);
+				if ("*".equals(elem) || "**".equals(elem)) wildcardSingletonCommands.add(cmdIdx);
+				else {
+					List<Integer> cmds = singletonCommands.get(elem);
+					if (cmds == null) {
+						cmds = new ArrayList<Integer>();
+						singletonCommands.put(elem, cmds);
+					}
+					cmds.add(cmdIdx);
+				}
+				return;
+			}
+			boolean isDoubleStar = "**".equals(path.get(path.size() - 1));
+			int prefixSize = isDoubleStar? path.size() - 1 : path.size();
+			TrieNode node = root;
+			for (int idx=0; idx<prefixSize; idx++) node = node.addChild(path.get(idx));
+			if (isDoubleStar) node.doubleStarCommands.add(cmdIdx);
+			else node.endCommands.add(cmdIdx);
+		}
+
+		private boolean hasCommands() {
+			return hasCommands;
+		}
+
+		/** return the match state of elements at the first path level */
+		private MatchState getRootState() {
+			List<Integer> noCommands = Collections.emptyList();
+			return new MatchState(Collections.singletonList(root), noCommands);
+		}
+
+		/** save commands matching an element and return match state of its children, or null if no children can match */
+		private MatchState match(ModBaseComponent elem, String name, CompType compType, MatchState state) {
+			List<TrieNode> nextNodes = new ArrayList<TrieNode>();
+			for (TrieNode node: state.nodes) {
+				TrieNode child = node.children.get(name);
+				if (child != null) nextNodes.add(child);
+				if (node.wildcardChild != null) nextNodes.add(node.wildcardChild);
+			}
+			// save matching commands
+			for (TrieNode node: nextNodes) addMatches(elem, compType, node.endCommands);
+			addMatches(elem, compType, state.doubleStarCommands);
+			List<Integer> cmds = singletonCommands.get(name);
+			if (cmds != null) addMatches(elem, compType, cmds);
+			addMatches(elem, compType, wildcardSingletonCommands);
+			// compute child state
+			List<TrieNode> childNodes = new ArrayList<TrieNode>();
+			List<Integer> childDoubleStarCommands = state.doubleStarCommands;
+			for (TrieNode node: nextNodes) {
+				if (node.hasChildren()) childNodes.add(node);
+				if (!node.doubleStarCommands.isEmpty()) {
+					childDoubleStarCommands = new ArrayList<Integer>(childDoubleStarCommands);
+					childDoubleStarCommands.addAll(node.doubleStarCommands);
+				}
+			}
+			if (childNodes.isEmpty() && childDoubleStarCommands.isEmpty() && singletonCommands.isEmpty() && wildcardSingletonCommands.isEmpty()) return null;
+			return new MatchState(childNodes, childDoubleStarCommands);
+		}
+
+		/** save an element as a match of each listed command having a matching target */
+		private void addMatches(ModBaseComponent elem, CompType compType, List<Integer> cmds) {
+			for (int cmdIdx: cmds) {
+				if (commands.get(cmdIdx).isTargetMatch(compType)) matches.get(cmdIdx).add(elem);
+			}
+		}
+	}
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2016 Juniper Networks, Inc. All rights reserved.
+ */
+package ordt.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import ordt.extract.SyntheticInputGenerator;
+import ordt.extract.model.ModComponent;
+import ordt.extract.model.ModInstance;
+
+/** input files and model helpers shared by ordt benchmarks.
+ *  Inputs are named by test directory, relative to the directory specified by the ordt.benchmark.tests
+ *  system property (default test/basic_tests), or are synthetic inputs named synthetic_rdl_<regs> or
+ *  synthetic_js_<regs> that are generated on first use */
+public class BenchmarkInputs {
+	private static final String testDir = System.getProperty("ordt.benchmark.tests", "test/basic_tests");
+	private static final String SYNTHETIC_PREFIX = "synthetic_";
+	private static final int SYNTHETIC_REGFILES = 84;   // synthetic inputs have 3 levels of 4 regfiles
+	private static File syntheticDir;
+
+	/** return the rdl or jspec input file of a test */
+	public static String getInputFile(String test) {
+		if (test.startsWith(SYNTHETIC_PREFIX)) return getSyntheticInputFile(test);
+		File rdlFile = new File(testDir, test + File.separator + "test.rdl");
+		if (rdlFile.isFile()) return rdlFile.getPath();
+		File jspecFile = new File(testDir, test + File.separator + "test.js");
+		if (jspecFile.isFile()) return jspecFile.getPath();
+		throw new IllegalArgumentException("No benchmark input found for test " + test + " in " + testDir);
+	}
+
+	/** return a generated synthetic input file having approximately the register count specified in its name */
+	private static synchronized String getSyntheticInputFile(String test) {
+		String[] parts = test.split("_");  // synthetic_<type>_<regs>
+		if ((parts.length != 3) || !(parts[1].equals("rdl") || parts[1].equals("js")))
+			throw new IllegalArgumentException("Invalid synthetic benchmark input name " + test);
+		try {
+			if (syntheticDir == null) {
+				syntheticDir = File.createTempFile("ordt_benchmark", "");
+				syntheticDir.delete();
+				syntheticDir.mkdirs();
+				syntheticDir.deleteOnExit();
+			}
+			File inputFile = new File(syntheticDir, test + "." + parts[1]);
+			if (!inputFile.isFile()) {
+				int regs = Integer.parseInt(parts[2]);
+				SyntheticInputGenerator gen = new SyntheticInputGenerator();
+				gen.setRegFileDepth(3);
+				gen.setRegFilesPerLevel(4);
+				gen.setRegsPerRegFile(Math.max(1, regs / SYNTHETIC_REGFILES));
+				gen.setExternalPercent(25);
+				gen.setAliasPercent(5);
+				gen.setIntrPercent(10);
+				gen.setUserProperties(2);
+				gen.generate(inputFile.getPath());
+				inputFile.deleteOnExit();
+			}
+			return inputFile.getPath();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/** return the parameter files of a test */
+	public static List<String> getParmFiles(String test) {
+		List<String> parmFiles = new ArrayList<String>();
+		File parmFile = new File(testDir, test + File.separator + "test.parms");
+		if (parmFile.isFile()) parmFiles.add(parmFile.getPath());
+		return parmFiles;
+	}
+
+	/** add all instances below a component in depth-first order
+	 * @param comp - component whose child instances will be added
+	 * @param path - instance path of comp
+	 * @param instances - list of instances found
+	 * @param paths - list of instance paths found (same order as instances)
+	 */
+	public static void addInstances(ModComponent comp, List<String> path, List<ModInstance> instances, List<List<String>> paths) {
+		for (ModInstance inst: comp.getChildInstances()) {
+			if ((inst == null) || (inst.getRegComp() == null)) continue;
+			List<String> instPath = new ArrayList<String>(path);
+			instPath.add(inst.getId());
+			instances.add(inst);
+			paths.add(instPath);
+			addInstances(inst.getRegComp(), instPath, instances, paths);
+		}
+	}
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2016 Juniper Networks, Inc. All rights reserved.
+ */
+package ordt.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import ordt.extract.Ordt;
+import ordt.extract.RegModelIntf;
+import ordt.output.OutputBuilder;
+import ordt.output.drvmod.cpp.CppDrvModBuilder;
+import ordt.output.othertypes.XmlBuilder;
+import ordt.output.systemverilog.SystemVerilogBuilder;
+import ordt.output.uvmregs.UVMRegsBuilder;
+
+/** full model traversal (generateOutput) of a builder, as done in builder construction */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BuilderBenchmark {
+
+	@Param({"rdl_basic_01", "rdl_sec_if", "synthetic_rdl_1000", "synthetic_rdl_20000"})
+	public String test;
+
+	@Param({"SYSTEMVERILOG", "UVMREGS", "XML", "CPPDRVMOD"})
+	public String output;
+
+	private RegModelIntf model;
+
+	@Setup(Level.Trial)
+	public void loadModel() {
+		model = Ordt.loadModel(BenchmarkInputs.getInputFile(test), BenchmarkInputs.getParmFiles(test));
+	}
+
+	/** reset builder static state (eg systemverilog module names) so it does not accumulate */
+	@Setup(Level.Iteration)
+	public void initBuilders() {
+		SystemVerilogBuilder.init();
+	}
+
+	@Benchmark
+	public OutputBuilder build() {
+		switch (output) {
+		   case "SYSTEMVERILOG":
+			   return new SystemVerilogBuilder(model);
+		   case "UVMREGS":
+			   return new UVMRegsBuilder(model, true);
+		   case "XML":
+			   return new XmlBuilder(model);
+		   case "CPPDRVMOD":
+			   return new CppDrvModBuilder(model);
+		   default:
+			   throw new IllegalArgumentException("Unsupported benchmark output " + output);
+		}
+	}
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2016 Juniper Networks, Inc. All rights reserved.
+ */
+package ordt.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import ordt.extract.JSpecModelExtractor;
+import ordt.extract.Ordt;
+import ordt.extract.ParsedInputFile;
+import ordt.extract.RdlModelExtractor;
+import ordt.extract.RegModelIntf;
+
+/** parse and model extraction of rdl and jspec inputs */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExtractBenchmark {
+
+	@Param({"rdl_hello", "rdl_sec_if", "synthetic_rdl_1000", "synthetic_rdl_20000", "js_basic_01", "synthetic_js_1000", "synthetic_js_20000"})
+	public String test;
+
+	private String inputFile;
+	private boolean isJspec;
+	private ParsedInputFile parsedFile;
+
+	@Setup(Level.Trial)
+	public void parseInput() {
+		inputFile = BenchmarkInputs.getInputFile(test);
+		isJspec = inputFile.endsWith("js");
+		Ordt.initExtract(inputFile, BenchmarkInputs.getParmFiles(test));
+		parsedFile = parseFile();
+	}
+
+	/** reset extractor state so anonymous component ids and user properties do not accumulate */
+	@Setup(Level.Iteration)
+	public void initExtract() {
+		Ordt.initExtract(inputFile, BenchmarkInputs.getParmFiles(test));
+	}
+
+	private ParsedInputFile parseFile() {
+		return isJspec? JSpecModelExtractor.parse(inputFile) : RdlModelExtractor.parse(inputFile);
+	}
+
+	@Benchmark
+	public ParsedInputFile parse() {
+		return parseFile();
+	}
+
+	@Benchmark
+	public RegModelIntf extract() {
+		return isJspec? new JSpecModelExtractor(inputFile, parsedFile) : new RdlModelExtractor(inputFile, parsedFile);
+	}
+
+	@Benchmark
+	public RegModelIntf parseAndExtract() {
+		return isJspec? new JSpecModelExtractor(inputFile) : new RdlModelExtractor(inputFile);
+	}
+
+	@Benchmark
+	public RegModelIntf extractDuringParse() {
+		return isJspec? JSpecModelExtractor.extractDuringParse(inputFile) : RdlModelExtractor.extractDuringParse(inputFile);
+	}
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2016 Juniper Networks, Inc. All rights reserved.
+ */
+package ordt.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import ordt.extract.Ordt;
+import ordt.extract.RegModelIntf;
+import ordt.extract.model.ModComponent;
+import ordt.extract.model.ModInstance;
+
+/** ModComponent instance lookups of every instance path in a model */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FindInstanceBenchmark {
+
+	@Param({"rdl_basic_01", "js_basic_01", "synthetic_rdl_20000"})
+	public String test;
+
+	private ModComponent root;
+	private List<ModInstance> instances = new ArrayList<ModInstance>();
+	private List<List<String>> paths = new ArrayList<List<String>>();
+
+	@Setup
+	public void loadModel() {
+		RegModelIntf model = Ordt.loadModel(BenchmarkInputs.getInputFile(test), BenchmarkInputs.getParmFiles(test));
+		root = model.getRoot();
+		BenchmarkInputs.addInstances(root, new ArrayList<String>(), instances, paths);
+	}
+
+	/** look up each instance id in its parent component */
+	@Benchmark
+	public void findLocalInstance(Blackhole bh) {
+		for (ModInstance inst: instances) bh.consume(inst.getParent().findLocalInstance(inst.getId()));
+	}
+
+	/** look up each instance by full path from the model root */
+	@Benchmark
+	public void findInstance(Blackhole bh) {
+		for (List<String> path: paths) bh.consume(root.findInstance(new ArrayList<String>(path)));  // findInstance consumes its path list
+	}
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2016 Juniper Networks, Inc. All rights reserved.
+ */
+package ordt.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import ordt.extract.Ordt;
+import ordt.extract.PropertyList;
+import ordt.extract.RegModelIntf;
+import ordt.extract.model.ModInstance;
+
+/** PropertyList lookups using the property lists of all instances in a model */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PropertyListBenchmark {
+	private static final String[] lookupNames = { "sw", "hw", "reset", "name", "desc", "external", "intr", "p_missing" };
+
+	@Param({"rdl_basic_01", "js_basic_01"})
+	public String test;
+
+	private List<PropertyList> propertyLists = new ArrayList<PropertyList>();
+
+	@Setup
+	public void loadProperties() {
+		RegModelIntf model = Ordt.loadModel(BenchmarkInputs.getInputFile(test), BenchmarkInputs.getParmFiles(test));
+		List<ModInstance> instances = new ArrayList<ModInstance>();
+		BenchmarkInputs.addInstances(model.getRoot(), new ArrayList<String>(), instances, new ArrayList<List<String>>());
+		for (ModInstance inst: instances) {
+			PropertyList pList = new PropertyList();
+			pList.updateProperties(inst.getRegComp().getProperties());
+			pList.updateProperties(inst.getProperties());
+			propertyLists.add(pList);
+		}
+	}
+
+	@Benchmark
+	public void getProperty(Blackhole bh) {
+		for (PropertyList pList: propertyLists)
+			for (String name: lookupNames) bh.consume(pList.getProperty(name));
+	}
+
+	@Benchmark
+	public void hasTrueProperty(Blackhole bh) {
+		for (PropertyList pList: propertyLists)
+			for (String name: lookupNames) bh.consume(pList.hasTrueProperty(name));
+	}
+
+	@Benchmark
+	public void getIntegerProperty(Blackhole bh) {
+		for (PropertyList pList: propertyLists) bh.consume(pList.getIntegerProperty("regwidth"));
+	}
+
+	@Benchmark
+	public PropertyList updateProperties() {
+		PropertyList merged = new PropertyList();
+		for (PropertyList pList: propertyLists) merged.updateProperties(pList, true);
+		return merged;
+	}
+}
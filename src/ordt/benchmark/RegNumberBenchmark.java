@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2016 Juniper Networks, Inc. All rights reserved.
+ */
+package ordt.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import ordt.extract.RegNumber;
+import ordt.extract.RegNumber.NumBase;
+import ordt.extract.RegNumber.NumFormat;
+
+/** RegNumber parsing and address arithmetic */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RegNumberBenchmark {
+
+	@Param({"4096", "0x1000", "0x1234_5678", "32'h1234_5678", "0b1010"})
+	public String numStr;
+
+	private RegNumber number;
+	private RegNumber increment = new RegNumber("0x40");
+	private RegNumber modulus = new RegNumber("0x1000");
+
+	@Setup
+	public void createNumber() {
+		number = new RegNumber(numStr);
+	}
+
+	@Benchmark
+	public RegNumber parse() {
+		return new RegNumber(numStr);
+	}
+
+	@Benchmark
+	public RegNumber add() {
+		RegNumber sum = new RegNumber(number);
+		sum.add(increment);
+		return sum;
+	}
+
+	@Benchmark
+	public RegNumber multiply() {
+		RegNumber product = new RegNumber(number);
+		product.multiply(16);
+		return product;
+	}
+
+	@Benchmark
+	public RegNumber shift() {
+		RegNumber shifted = new RegNumber(number);
+		shifted.lshift(4);
+		shifted.rshift(2);
+		return shifted;
+	}
+
+	@Benchmark
+	public RegNumber roundUpToModulus() {
+		RegNumber rounded = new RegNumber(number);
+		rounded.roundUpToModulus(modulus);
+		return rounded;
+	}
+
+	@Benchmark
+	public RegNumber nextHighestPowerOf2() {
+		return number.getNextHighestPowerOf2();
+	}
+
+	@Benchmark
+	public boolean compare() {
+		return number.isLessThan(modulus) || number.isEqualTo(increment);
+	}
+
+	@Benchmark
+	public String format() {
+		return number.toFormat(NumBase.Hex, NumFormat.Address);
+	}
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2016 Juniper Networks, Inc. All rights reserved.
+ */
+package ordt.extract;
+
+import java.io.Serializable;
+
+import ordt.extract.Ordt.InputType;
+import ordt.extract.model.ModComponent;
+import ordt.extract.model.ModInstance;
+import ordt.output.common.MsgUtils.RecordedMessages;
+
+/** extracted model saved in / loaded from a ModelCache */
+public class CachedModel implements RegModelIntf, Serializable {
+	private static final long serialVersionUID = 1L;
+	private ModComponent root;   // the root element of the model
+	private String ordtInputFile;   // input file name used for model extract
+	private boolean fieldOffsetsFromZero;
+	private InputType inputType;   // type of the extracted input file
+	private int nextAnonCompId;   // extractor anonymous component id following this extract
+	private ExtractStateChanges stateChanges;   // global state changes made during extract of the model
+	private RecordedMessages extractMessages;   // messages issued during parse/extract of the model
+
+	public CachedModel(RegModelIntf model, InputType inputType, int nextAnonCompId, ExtractStateChanges stateChanges, RecordedMessages extractMessages) {
+		this.root = model.getRoot();
+		this.ordtInputFile = model.getOrdtInputFile();
+		this.fieldOffsetsFromZero = model.fieldOffsetsFromZero();
+		this.inputType = inputType;
+		this.nextAnonCompId = nextAnonCompId;
+		this.stateChanges = stateChanges;
+		this.extractMessages = extractMessages;
+	}
+
+	/** get root component
+	 *  @return the root
+	 */
+	public ModComponent getRoot() {
+		return root;
+	}
+
+	/** get root instance
+	 *  @return the root
+	 */
+	public ModInstance getRootInstance() {
+		return getRoot().getFirstChildInstance();
+	}
+
+	/** get root instanced component (usually base addrmap)
+	 *  @return the root
+	 */
+	public ModComponent getRootInstancedComponent() {
+	    if (getRootInstance() != null) return getRootInstance().getRegComp();
+	    return null;
+	}
+
+	/** get ordtInputFile name
+	 *  @return the ordtInputFile
+	 */
+	public String getOrdtInputFile() {
+		return ordtInputFile;
+	}
+
+	/** return true if field offsets are relative to zero or max reg/fieldset width (rdl=true, jspec=false) **/
+	public boolean fieldOffsetsFromZero() {
+		return fieldOffsetsFromZero;
+	}
+
+	/** return the type of the extracted input file */
+	public InputType getInputType() {
+		return inputType;
+	}
+
+	/** return the extractor anonymous component id following this extract */
+	public int getNextAnonCompId() {
+		return nextAnonCompId;
+	}
+
+	/** return the global state changes made during extract of the model */
+	public ExtractStateChanges getStateChanges() {
+		return stateChanges;
+	}
+
+	/** return the messages issued during parse/extract of the model */
+	public RecordedMessages getExtractMessages() {
+		return extractMessages;
+	}
+}
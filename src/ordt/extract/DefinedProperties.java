@@ -25,15 +25,37 @@ public class DefinedProperties {
 	public static Set<String> jsPassthruRegPropertyNames = new HashSet<String>();  // set of all jspec passthru reg property names
 	public static Set<String> jsPassthruRegSetPropertyNames = new HashSet<String>();  // set of all jspec passthru regset property names
 
+	private static HashMap<String, Integer> builtinPropertyIds = new HashMap<String, Integer>();  // dense ids of built-in properties (kept across init calls)
+	private static List<String> builtinPropertyNames = new ArrayList<String>();  // shared name instance of each built-in property id
+
 	private static HashMap<String, DefinedProperty> propertySet = initDefinedProperties();  // set of all defined properties
 	
 	
+	/** reset the defined properties, removing any user defined properties */
+	public static void init() {
+		userDefFieldPropertyNames.clear();
+		userDefFieldSetPropertyNames.clear();
+		userDefRegPropertyNames.clear();
+		userDefRegSetPropertyNames.clear();
+		userDefAddrmapPropertyNames.clear();
+		jsPassthruFieldPropertyNames.clear();
+		jsPassthruFieldSetPropertyNames.clear();
+		jsPassthruRegPropertyNames.clear();
+		jsPassthruRegSetPropertyNames.clear();
+		propertySet = initDefinedProperties();
+	}
+	
 	/** initialize the list of defined properties */
 	private static HashMap<String, DefinedProperty> initDefinedProperties() {
 		HashMap<String, DefinedProperty> newList = new HashMap<String, DefinedProperty>();
 		int REGSETorREGorFIELD = DefinedProperty.REGSET | DefinedProperty.REG |DefinedProperty.FIELD;
 		int ADDRMAPorREGSETorREG = DefinedProperty.ADDRMAP | DefinedProperty.REGSET | DefinedProperty.REG;
 		int ADDRMAPorREGSET = DefinedProperty.ADDRMAP | DefinedProperty.REGSET;
+		// internal properties set by model extraction and property reconciliation
+		addBuiltinPropertyId("intrType");
+		addBuiltinPropertyId("intrStickyType");
+		addBuiltinPropertyId("compId");
+		addBuiltinPropertyId("internal");
 		// common properties
 		addProperty(newList, "name", DefinedPropertyType.STRING, "", DefinedProperty.ANY, false, false, false);
 		addProperty(newList, "desc", DefinedPropertyType.STRING, "", DefinedProperty.ANY, false, false, false);
@@ -195,6 +217,24 @@ public class DefinedProperties {
 		return propertySet.get(name).isUserDefined();
 	}
 
+	/** return the dense id of a built-in property or -1 if name is user-defined, a jspec passthru or unknown */
+	public static int getBuiltinPropertyId(String name) {
+		Integer id = builtinPropertyIds.get(name);
+		return (id == null)? -1 : id;
+	}
+
+	/** return the shared name instance of a built-in property id */
+	public static String getBuiltinPropertyName(int id) {
+		return builtinPropertyNames.get(id);
+	}
+
+	/** assign the next dense id to a built-in property name if not already assigned */
+	private static void addBuiltinPropertyId(String name) {
+		if (builtinPropertyIds.containsKey(name)) return;
+		builtinPropertyIds.put(name, builtinPropertyIds.size());
+		builtinPropertyNames.add(name);
+	}
+
 	// -------
 	
 	/** update or add a new property to the specified set of defined properties 
@@ -212,6 +252,8 @@ public class DefinedProperties {
 		DefinedProperty newProp = new DefinedProperty(name, type, defaultValue, usage, hidden, userDefined, jsPassthru);
         // first add to the full list
 		propSet.put(name, newProp);
+		// assign an id if a built-in property
+		if (!userDefined && !jsPassthru) addBuiltinPropertyId(name);
 		// add to user property lists by component
 		if (userDefined) {
 			if (newProp.isFieldProperty()) userDefFieldPropertyNames.add(name);
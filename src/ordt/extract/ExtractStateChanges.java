@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2016 Juniper Networks, Inc. All rights reserved.
+ */
+package ordt.extract;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import ordt.output.common.MsgUtils;
+import ordt.parameters.ExtParameters;
+import ordt.parse.jspec.JSpecLexer;
+import ordt.parse.systemrdl.SystemRDLLexer;
+
+/** global state changes made during a model extract (user property definitions, inline parameters and annotations).
+ *  Changes are saved with a cached model so they can be re-applied when the model is loaded. */
+public class ExtractStateChanges implements Serializable {
+	private static final long serialVersionUID = 1L;
+	private static final String RDL_PROPERTY = "rdl_property";
+	private static final String JSPEC_PROPERTY = "jspec_property";
+	private static final String PARAMETER = "parameter";
+	private static final String WRAPPER_REMAP = "wrapper_remap";
+	private static final String ANNOTATION = "annotation";
+
+	private List<List<String>> changes = new ArrayList<List<String>>();   // change type followed by its args, in extract order
+	private boolean issuedMessages = false;   // set if a change issued messages (changes cannot be re-applied silently)
+
+	/** define an rdl user property and save the change
+	 *  @param name - property name
+	 *  @param typeStr - property type
+	 *  @param defaultValue - property default or null
+	 *  @param components - components that may use the property
+	 */
+	public void addRdlUserProperty(String name, String typeStr, String defaultValue, List<String> components) {
+		int messageCount = MsgUtils.getMessageCount();
+		DefinedProperties.addUserProperty(name, typeStr, defaultValue, components);
+		addChange(messageCount, RDL_PROPERTY, name, typeStr, defaultValue, components);
+	}
+
+	/** define a jspec user parameter (js_ prefixed user property) and save the change
+	 *  @param lexerName - parameter name as added to the jspec lexer
+	 *  @param typeStr - parameter type
+	 */
+	public void addJspecUserProperty(String lexerName, String typeStr) {
+		List<String> components = new ArrayList<String>();
+		components.add("all");
+		int messageCount = MsgUtils.getMessageCount();
+		DefinedProperties.addUserProperty("js_" + lexerName, typeStr, null, components);  // js usr properties can apply to any comp type, have no default
+		addChange(messageCount, JSPEC_PROPERTY, lexerName, typeStr, null, components);
+	}
+
+	/** assign an inline parameter and save the change */
+	public void assignParameter(String name, String value) {
+		int messageCount = MsgUtils.getMessageCount();
+		ExtParameters.assignParameter(name, value);
+		addChange(messageCount, PARAMETER, name, value);
+	}
+
+	/** add an inline SystemVerilog wrapper remap command and save the change
+	 *  @param command - text of each command token
+	 */
+	public void addWrapperRemapCommand(List<String> command) {
+		int messageCount = MsgUtils.getMessageCount();
+		RdlModelExtractor.addWrapperRemapCommand(command);
+		addChange(messageCount, WRAPPER_REMAP, command);
+	}
+
+	/** add an inline annotation command and save the change
+	 *  @param command - text of each command token
+	 */
+	public void addAnnotationCommand(List<String> command) {
+		int messageCount = MsgUtils.getMessageCount();
+		ExtParameters.processAnnotationCommand(command);
+		addChange(messageCount, ANNOTATION, command);
+	}
+
+	/** save a change of specified type */
+	private void addChange(int messageCount, String type, String name, String value) {
+		addChange(messageCount, type, Arrays.asList(name, value));
+	}
+
+	/** save a change of specified type having specified args */
+	private void addChange(int messageCount, String type, List<String> args) {
+		List<String> change = new ArrayList<String>();
+		change.add(type);
+		change.addAll(args);
+		changes.add(change);
+		if (MsgUtils.getMessageCount() != messageCount) issuedMessages = true;
+	}
+
+	/** save a user property change of specified type */
+	private void addChange(int messageCount, String type, String name, String typeStr, String defaultValue, List<String> components) {
+		List<String> args = new ArrayList<String>(Arrays.asList(name, typeStr, defaultValue));
+		args.addAll(components);
+		addChange(messageCount, type, args);
+	}
+
+	/** return true if no changes were made */
+	public boolean isEmpty() {
+		return changes.isEmpty();
+	}
+
+	/** return true if changes can be re-applied without issuing messages */
+	public boolean isReplayable() {
+		return !issuedMessages;
+	}
+
+	/** re-apply saved changes in extract order */
+	public void apply() {
+		for (List<String> change: changes) {
+			String type = change.get(0);
+			if (PARAMETER.equals(type)) ExtParameters.assignParameter(change.get(1), change.get(2));
+			else if (WRAPPER_REMAP.equals(type)) RdlModelExtractor.addWrapperRemapCommand(change.subList(1, change.size()));
+			else if (ANNOTATION.equals(type)) ExtParameters.processAnnotationCommand(change.subList(1, change.size()));
+			else {
+				String name = change.get(1);
+				List<String> components = new ArrayList<String>(change.subList(4, change.size()));
+				if (RDL_PROPERTY.equals(type)) {
+					SystemRDLLexer.addUserProperty(name);
+					DefinedProperties.addUserProperty(name, change.get(2), change.get(3), components);
+				}
+				else {
+					JSpecLexer.addUserParameter(name);
+					DefinedProperties.addUserProperty("js_" + name, change.get(2), change.get(3), components);
+				}
+			}
+		}
+	}
+
+	/** return a string listing saved changes (used in model cache keys of later extracts) */
+	@Override
+	public String toString() {
+		return changes.toString();
+	}
+}
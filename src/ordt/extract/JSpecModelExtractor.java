@@ -3,14 +3,14 @@
  */
 package ordt.extract;
 
-import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.Stack;
 
 import ordt.extract.model.ModAddressableInstance;
@@ -32,8 +32,11 @@ import ordt.parse.jspec.JSpecLexer;
 import ordt.parse.jspec.JSpecParser;
 
 import org.antlr.v4.runtime.ANTLRInputStream;
+import org.antlr.v4.runtime.CharStream;
 import org.antlr.v4.runtime.CommonTokenStream;
 import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.UnbufferedTokenStream;
 import org.antlr.v4.runtime.misc.NotNull;
 import org.antlr.v4.runtime.tree.ParseTree;
 import org.antlr.v4.runtime.tree.ParseTreeWalker;
@@ -65,19 +68,81 @@ public class JSpecModelExtractor extends JSpecBaseListener implements RegModelIn
 	
 	private Integer accumulated_constant_width;
 	private String activeConstantId;
+
+	private static Set<Integer> streamingContainerRules = new HashSet<Integer>(Arrays.asList(JSpecParser.RULE_root, JSpecParser.RULE_register_set_def, 
+			JSpecParser.RULE_type_definition));  // rules walked incrementally in extractDuringParse
+	private static Set<Integer> streamingElementRules = new HashSet<Integer>(Arrays.asList(JSpecParser.RULE_num_constant_def, JSpecParser.RULE_string_constant_def, 
+			JSpecParser.RULE_type_definition, JSpecParser.RULE_param_type_definition, JSpecParser.RULE_typedef_instance, JSpecParser.RULE_register_set_def, 
+			JSpecParser.RULE_value_assign, JSpecParser.RULE_register_def, JSpecParser.RULE_test_group_def, JSpecParser.RULE_field_def, JSpecParser.RULE_transaction_def));
+
+	private ExtractStateChanges stateChanges = new ExtractStateChanges();  // defined property changes made by this extract
 	
 	/** create data model from rdl file 
 	 * @param rdlFile to be parsed
 	 * @param moduleName to be used as default name for addrmap instances
 	 * */
 	public JSpecModelExtractor (String rdlFile) {
+		this(rdlFile, parse(rdlFile));
+	}
+
+	/** extract model from a previously parsed jspec file */
+	public JSpecModelExtractor (String rdlFile, ParsedInputFile parsedFile) {
         this.jspecInputFile = rdlFile;  // save rdl file
+        if (parsedFile == null) return;  // parse failed
+
+    	ParseTreeWalker walker = new ParseTreeWalker(); // create standard
+    	walker.walk(this, parsedFile.getTree()); // initiate walk of tree with listener
+    	if (parsedFile.getSyntaxErrorCount() > 0) {
+    		MsgUtils.errorExit("Jspec parser errors detected.");  
+    	}
+    	finishExtract();
+	}
+
+	/** extract model from a jspec file during parse so that a full parse tree is not held in memory.
+	 *  The file is first checked for syntax errors in a separate pass.  If errors are found, null
+	 *  is returned and the model should be extracted from a full parse so that errors are reported.
+	 * */
+	public static JSpecModelExtractor extractDuringParse(String jspecFile) {
+		Set<String> userParameters = JSpecLexer.getUserParameters();  // lexer state prior to check
+		JSpecModelExtractor extractor = null;
+		try {
+			JSpecParser parser = createStreamingParser(jspecFile);
+			boolean isValid = StreamingTreeWalker.check(parser, parser::root, jspecFile);
+			JSpecLexer.setUserParameters(userParameters);
+			if (!isValid) return null;
+			extractor = new JSpecModelExtractor(jspecFile, (ParsedInputFile) null);
+			parser = createStreamingParser(jspecFile);
+			new StreamingTreeWalker(extractor, streamingContainerRules, streamingElementRules).parse(parser, parser::root, jspecFile);
+		} catch (FileNotFoundException e) {
+			MsgUtils.errorExit("jspec file not found. "  + e.getMessage());
+		} catch (IOException e) {
+			e.printStackTrace();
+			return null;
+		}
+		extractor.finishExtract();
+		return extractor;
+	}
+
+	/** create a jspec file parser using an unbuffered token stream */
+	private static JSpecParser createStreamingParser(String jspecFile) throws IOException {
+		JSpecLexer lexer = new JSpecLexer(MappedCharStream.open(jspecFile));
+		return new JSpecParser(new UnbufferedTokenStream<Token>(lexer));
+	}
+
+	/** complete extraction after the parse tree walk */
+	private void finishExtract() {
+    	// if typedefs are specified for processing, find each and create an instance  
+    	if (ExtParameters.hasJspecProcessTypedefs()) processTypedefs();
+    	else if (root.getFirstChildInstance() == null)
+    		MsgUtils.errorExit("No jspec structures instanced or typedefs specified for processing.");
 
+    	//root.display(true);
+	}
+
+	/** parse a jspec file and return the resulting parse tree (null on read error) */
+	public static ParsedInputFile parse(String jspecFile) {
         try {
-        	InputStream is = System.in;
-        	if ( rdlFile!=null ) is = new FileInputStream(jspecInputFile);
-        
-        	ANTLRInputStream input = new ANTLRInputStream(is);
+        	CharStream input = (jspecFile!=null)? MappedCharStream.open(jspecFile) : new ANTLRInputStream(System.in);
         	JSpecLexer lexer = new JSpecLexer(input);
 
         	// check input post lexer
@@ -95,26 +160,14 @@ public class JSpecModelExtractor extends JSpecBaseListener implements RegModelIn
         	JSpecParser parser; // = new SystemRDLParser(null);
         	parser = new JSpecParser(tokens);
 
-        	ParseTree tree = parser.root(); //compilationUnit(); // parse
-        	//System.out.println(tree.toStringTree());
-        	ParseTreeWalker walker = new ParseTreeWalker(); // create standard
-        	walker.walk(this, tree); // initiate walk of tree with listener
-        	if (parser.getNumberOfSyntaxErrors() > 0) {
-        		MsgUtils.errorExit("Jspec parser errors detected.");  
-        	}
-
-        	// if typedefs are specified for processing, find each and create an instance  
-        	if (ExtParameters.hasJspecProcessTypedefs()) processTypedefs();
-        	else if (root.getFirstChildInstance() == null)
-        		MsgUtils.errorExit("No jspec structures instanced or typedefs specified for processing.");
-
-        	//root.display(true);
+        	return ParsedInputFile.parse(parser, parser::root, jspecFile);  // sll parse with ll fallback
 
         } catch (FileNotFoundException e) {
         	MsgUtils.errorExit("jspec file not found. "  + e.getMessage());
         } catch (IOException e) {
             e.printStackTrace();
-        }		
+        }
+        return null;
 	}
 	
 
@@ -423,12 +476,8 @@ public class JSpecModelExtractor extends JSpecBaseListener implements RegModelIn
 	 */
 	@Override public void enterParam_type_definition(JSpecParser.Param_type_definitionContext ctx) {
 		activeRules.add(ctx.getRuleIndex());
-		String usrPropertyName = "js_" + ctx.getChild(2).getText();
-		String usrPropertyType = ctx.getChild(4).getText();
-		List<String> comps = new ArrayList<String>();
-		comps.add("all");
         // add the new property to defined list
-		DefinedProperties.addUserProperty(usrPropertyName, usrPropertyType, null, comps);  // js usr properties can apply to any comp type, have no default
+		stateChanges.addJspecUserProperty(ctx.getChild(2).getText(), ctx.getChild(4).getText());
 	}
 	
 	@Override public void exitParam_type_definition(JSpecParser.Param_type_definitionContext ctx) {
@@ -799,6 +848,28 @@ public class JSpecModelExtractor extends JSpecBaseListener implements RegModelIn
 		return false;
 	}
 
+	/** return defined property changes made by extract of this model */
+	public ExtractStateChanges getStateChanges() {
+		return stateChanges;
+	}
+
+	/** reset static extract state for a new run */
+	static void init() {
+		anonCompId = 0;
+		numExpessionDepth = 0;
+		JSpecLexer.clearUserParameters();
+	}
+
+	/** get next anonymous component id */
+	static int getAnonCompId() {
+		return anonCompId;
+	}
+
+	/** set next anonymous component id (used when a model is loaded from cache) */
+	static void setAnonCompId(int anonCompId) {
+		JSpecModelExtractor.anonCompId = anonCompId;
+	}
+
     // ------------------------------------------------------------------------------------------------
 	
 	/** set the width and offset for current field/fieldset instance
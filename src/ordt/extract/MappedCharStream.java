@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2016 Juniper Networks, Inc. All rights reserved.
+ */
+package ordt.extract;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+
+import org.antlr.v4.runtime.ANTLRInputStream;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.IntStream;
+import org.antlr.v4.runtime.misc.Interval;
+
+/** lexer input stream that reads an ascii file through a read-only memory mapping, so file text is
+ *  not copied into the java heap.  Chars are returned the same as an ANTLRInputStream of the file. */
+public class MappedCharStream implements CharStream {
+	private MappedByteBuffer data;
+	private int n;   // number of chars in the file
+	private int p = 0;   // index of the next char to be consumed
+	private String name;
+
+	private MappedCharStream(MappedByteBuffer data, String name) {
+		this.data = data;
+		this.n = data.limit();
+		this.name = name;
+	}
+
+	/** return a char stream of the specified file.  A mapped stream is returned if the file is ascii, otherwise
+	 *  the file is read into an ANTLRInputStream so that multi-byte chars are decoded as before */
+	public static CharStream open(String fileName) throws IOException {
+		try (FileInputStream is = new FileInputStream(fileName)) {
+			FileChannel channel = is.getChannel();
+			long size = channel.size();
+			if (size < Integer.MAX_VALUE) {
+				MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+				if (isAscii(buffer)) return new MappedCharStream(buffer, fileName);
+			}
+			return new ANTLRInputStream(is);
+		}
+	}
+
+	/** return true if all bytes in buffer are 7-bit ascii */
+	private static boolean isAscii(MappedByteBuffer buffer) {
+		int size = buffer.limit();
+		for (int idx=0; idx<size; idx++) {
+			if (buffer.get(idx) < 0) return false;
+		}
+		return true;
+	}
+
+	@Override
+	public void consume() {
+		if (p >= n) throw new IllegalStateException("cannot consume EOF");
+		p++;
+	}
+
+	@Override
+	public int LA(int i) {
+		if (i == 0) return 0;  // undefined
+		if (i < 0) {
+			i++;  // LA(-1) is the last consumed char
+			if ((p + i - 1) < 0) return IntStream.EOF;
+		}
+		int idx = p + i - 1;
+		if (idx >= n) return IntStream.EOF;
+		return data.get(idx);
+	}
+
+	/** marks are not needed since the whole file is always available */
+	@Override
+	public int mark() {
+		return -1;
+	}
+
+	@Override
+	public void release(int marker) {
+	}
+
+	@Override
+	public int index() {
+		return p;
+	}
+
+	@Override
+	public void seek(int index) {
+		p = Math.min(Math.max(index, 0), n);
+	}
+
+	@Override
+	public int size() {
+		return n;
+	}
+
+	@Override
+	public String getSourceName() {
+		return ((name == null) || name.isEmpty())? IntStream.UNKNOWN_SOURCE_NAME : name;
+	}
+
+	@Override
+	public String getText(Interval interval) {
+		int start = interval.a;
+		int stop = Math.min(interval.b, n - 1);
+		if (start >= n) return "";
+		byte[] bytes = new byte[stop - start + 1];
+		for (int idx=start; idx<=stop; idx++) bytes[idx - start] = data.get(idx);
+		return new String(bytes, StandardCharsets.US_ASCII);
+	}
+
+	@Override
+	public String toString() {
+		return getText(Interval.of(0, n - 1));
+	}
+}
@@ -0,0 +1,228 @@
+/*
+ * Copyright (c) 2016 Juniper Networks, Inc. All rights reserved.
+ */
+package ordt.extract;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import ordt.output.common.MsgUtils;
+
+/** on-disk or in-memory cache of extracted models keyed by a hash of the input file, parameter files, ordt version and cache format.
+ *  Models are stored using java serialization with fixed serialVersionUIDs, so FORMAT_VERSION must be incremented
+ *  whenever the serialized form of a model class changes. */
+public class ModelCache {
+	private static final int FORMAT_VERSION = 3;   // version of the serialized model format
+	private static final Set<String> allowedJdkClasses = new HashSet<String>(Arrays.asList(   // non-ordt classes allowed in a cached model
+			"java.lang.Boolean", "java.lang.Enum", "java.lang.Integer", "java.lang.Number", "java.lang.String",
+			"java.math.BigInteger", "java.util.ArrayList", "java.util.HashMap", "java.util.HashSet", 
+			"java.util.LinkedHashMap", "java.util.LinkedHashSet"));
+	private File cacheDir;   // directory containing cached models (null if an in-memory cache)
+	private LinkedHashMap<String, byte[]> memoryModels;   // serialized models of an in-memory cache in lru order
+	private boolean refresh;   // if true, cached models are ignored and replaced
+	private int hits = 0;
+	private int misses = 0;
+	private int stores = 0;
+
+	public ModelCache(String cacheDirName, boolean refresh) {
+		this.cacheDir = new File(cacheDirName);
+		this.refresh = refresh;
+		if (!cacheDir.isDirectory() && !cacheDir.mkdirs())
+			MsgUtils.errorExit("Unable to create model cache directory " + cacheDirName);
+	}
+
+	/** create an in-memory cache holding up to maxModels serialized models */
+	public ModelCache(final int maxModels) {
+		this.memoryModels = new LinkedHashMap<String, byte[]>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, byte[]> eldest) {
+				return size() > maxModels;
+			}
+		};
+	}
+
+	/** return the cache key for an input file
+	 * @param inputFile - name of the input file to be extracted
+	 * @param parmFiles - list of parameter files used in extract
+	 * @param anonCompId - starting anonymous component id of the extract
+	 * @param priorStateChanges - global state changes made by earlier extracts of the run
+	 * @return key string or null if a file could not be read
+	 */
+	public String getKey(String inputFile, List<String> parmFiles, int anonCompId, String priorStateChanges) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			addToDigest(digest, Ordt.getVersion());
+			addToDigest(digest, String.valueOf(FORMAT_VERSION));
+			addToDigest(digest, inputFile);
+			addToDigest(digest, Files.readAllBytes(Paths.get(inputFile)));
+			for (String parmFile: parmFiles) addToDigest(digest, Files.readAllBytes(Paths.get(parmFile)));
+			addToDigest(digest, String.valueOf(anonCompId));
+			addToDigest(digest, priorStateChanges);
+			StringBuilder key = new StringBuilder();
+			for (byte b: digest.digest()) key.append(String.format("%02x", b));
+			return key.toString();
+		} catch (IOException | NoSuchAlgorithmException e) {
+			return null;
+		}
+	}
+
+	/** add a length-prefixed string to a digest */
+	private static void addToDigest(MessageDigest digest, String str) {
+		addToDigest(digest, str.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/** add length-prefixed data to a digest */
+	private static void addToDigest(MessageDigest digest, byte[] data) {
+		digest.update(String.valueOf(data.length).getBytes(StandardCharsets.UTF_8));
+		digest.update((byte) 0);
+		digest.update(data);
+	}
+
+	/** return the cache file for a key */
+	private File getCacheFile(String key) {
+		return new File(cacheDir, key + ".model");
+	}
+
+	/** load a cached model
+	 * @param key - cache key of the model
+	 * @return the cached model or null if not found
+	 */
+	public CachedModel load(String key) {
+		if (refresh) return null;
+		byte[] data = null;
+		try {
+			if (cacheDir == null) data = memoryModels.get(key);
+			else {
+				File cacheFile = getCacheFile(key);
+				if (cacheFile.isFile()) data = Files.readAllBytes(cacheFile.toPath());
+			}
+			if (data != null) {
+				ObjectInputStream is = new ModelInputStream(new ByteArrayInputStream(data));
+				CachedModel model = (CachedModel) is.readObject();
+				is.close();
+				hits++;
+				return model;
+			}
+		} catch (IOException | ClassNotFoundException | ClassCastException e) {
+			// stale or corrupt entry, so treat as a miss
+		}
+		return null;
+	}
+
+	/** record extraction of a model that was not found in the cache */
+	public void addMiss() {
+		misses++;
+	}
+
+	/** save a model in the cache
+	 * @param key - cache key of the model
+	 * @param model - model to be saved
+	 */
+	public void store(String key, CachedModel model) {
+		if (cacheDir == null) {
+			storeInMemory(key, model);
+			return;
+		}
+		File cacheFile = getCacheFile(key);
+		File tempFile = null;
+		try {
+			tempFile = File.createTempFile(key, ".tmp", cacheDir);
+			ObjectOutputStream os = new ObjectOutputStream(new BufferedOutputStream(new FileOutputStream(tempFile)));
+			os.writeObject(model);
+			os.close();
+			// rename so concurrent ordt runs never see a partial entry
+			if (!tempFile.renameTo(cacheFile)) {
+				cacheFile.delete();
+				if (!tempFile.renameTo(cacheFile)) throw new IOException("rename of " + tempFile + " failed");
+			}
+			stores++;
+		} catch (IOException e) {
+			if (tempFile != null) tempFile.delete();
+			MsgUtils.warnMessage("Unable to save model in cache: " + e.getMessage());
+		}
+	}
+
+	/** save a serialized model in an in-memory cache */
+	private void storeInMemory(String key, CachedModel model) {
+		try {
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			ObjectOutputStream os = new ObjectOutputStream(bytes);
+			os.writeObject(model);
+			os.close();
+			memoryModels.put(key, bytes.toByteArray());
+			stores++;
+		} catch (IOException e) {
+			MsgUtils.warnMessage("Unable to save model in cache: " + e.getMessage());
+		}
+	}
+
+	/** object stream that only resolves ordt classes and allowed jdk classes, since a cache directory may be shared.
+	 *  Boxed Integers are returned from the Integer cache, as autoboxing does, so that
+	 *  identity comparisons of small boxed values behave the same as in a newly extracted model */
+	private static class ModelInputStream extends ObjectInputStream {
+
+		private ModelInputStream(InputStream in) throws IOException {
+			super(in);
+			enableResolveObject(true);
+		}
+
+		@Override
+		protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+			String name = desc.getName();
+			if (name.startsWith("[")) {  // check element class of arrays
+				name = name.replaceFirst("^\\[+", "");
+				if (name.length() == 1) return super.resolveClass(desc);  // primitive element
+				name = name.substring(1, name.length() - 1);
+			}
+			if (!name.startsWith("ordt.") && !allowedJdkClasses.contains(name)) {
+				throw new InvalidClassException(name, "class not allowed in model cache");
+			}
+			return super.resolveClass(desc);
+		}
+
+		@Override
+		protected Object resolveObject(Object obj) {
+			if (obj instanceof Integer) return Integer.valueOf((Integer) obj);
+			return obj;
+		}
+	}
+
+	/** reset cache statistics */
+	public void clearStatistics() {
+		hits = 0;
+		misses = 0;
+		stores = 0;
+	}
+
+	/** set to true if cached models should be ignored and replaced */
+	public void setRefresh(boolean refresh) {
+		this.refresh = refresh;
+	}
+
+	/** return a string of cache statistics for display */
+	public String getStatistics() {
+		return "hits=" + hits + ", misses=" + misses + ", stored=" + stores;
+	}
+}
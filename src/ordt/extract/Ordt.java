@@ -3,18 +3,36 @@
  */
 package ordt.extract;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import ordt.annotate.AnnotateCommand;
+import ordt.annotate.AnnotatePathTrie;
 import ordt.extract.model.ModRegister;
+import ordt.output.JspecCategory;
+import ordt.output.JspecSubCategory;
 import ordt.output.OutputBuilder;
+import ordt.output.common.ChangedFileWriter;
 import ordt.output.common.MsgUtils;
+import ordt.output.common.MsgUtils.CapturedMessages;
+import ordt.output.common.MsgUtils.ExitException;
+import ordt.output.common.MsgUtils.RecordedMessages;
 import ordt.output.cppmod.CppModBuilder;
+import ordt.output.drvmod.DrvModBuilder;
 import ordt.output.drvmod.cpp.CppDrvModBuilder;
 import ordt.output.drvmod.py.PyDrvModBuilder;
+import ordt.output.othertypes.AddressLookupBuilder;
 import ordt.output.othertypes.JsonBuilder;
 import ordt.output.othertypes.JspecBuilder;
 import ordt.output.othertypes.RdlBuilder;
@@ -42,11 +60,22 @@ public class Ordt {
 	private static InputType inputType;   // primary input file type
 	private static String inputFile = null;   // primary input file
     private static List<OverlayFileInfo> overlayFiles = new ArrayList<OverlayFileInfo>();   // overlay input files
+    private static HashMap<OverlayFileInfo, RegModelIntf> overlayModels = null;   // extracted overlay models, shared by all builders supporting overlays
 	
 	private static List<String> inputParmFiles = new ArrayList<String>();
 
+	private static String modelCacheDir = null;   // directory of extracted model cache
+	private static boolean refreshModelCache = false;   // if true, cached models are ignored and replaced
+	private static ModelCache modelCache = null;
+	private static String priorStateChanges = "";   // global state changes made by earlier extracts of this run (included in model cache keys)
+	private static ModelCache serverModelCache = null;   // in-memory model cache shared by jobs in server mode
+	private static String statsFileName = null;   // if non-null, run statistics are collected and written to this file
+
+	private static final int SERVER_MODEL_CACHE_SIZE = 16;   // max models held in memory in server mode
+	private static final String SERVER_JOB_DONE = "Ordt: server job complete, rc=";   // line displayed after each server job
+
 	public enum OutputType { VERILOG, SYSTEMVERILOG, JSPEC, RALF, RDL, REGLIST, SVBENCH, VBENCH, 
-		                     UVMREGS, UVMREGSPKG, XML, CPPMOD, CPPDRVMOD, PYDRVMOD, JSON, SVCHILDINFO };
+		                     UVMREGS, UVMREGSPKG, XML, CPPMOD, CPPDRVMOD, PYDRVMOD, JSON, SVCHILDINFO, ADDRLOOKUP };
 	private static HashMap<OutputType, String> outputNames = new HashMap<OutputType, String>();
 	private static HashMap<OutputType, String> commentChars = new HashMap<OutputType, String>();
 	private static HashMap<OutputType, String> outputFileNames = new HashMap<OutputType, String>();
@@ -58,6 +87,70 @@ public class Ordt {
 	 * @param args
 	 */
     public static void main(String[] args) throws Exception {
+    	if ((args.length == 1) && args[0].equals("-server")) runServer();
+    	else runJob(args);
+    }
+
+    /** run ordt as a server, reading jobs from stdin until end of input or an exit line. Each job is a line
+     *  containing command line args (separated by whitespace) and is run in this jvm, so parser state
+     *  is kept warm and extracted models are reused by later jobs having identical input and parameter files.
+     *  Jobs share static state so are run strictly sequentially on the calling thread, and after each job a
+     *  line containing the job return code is displayed.
+     */
+    private static void runServer() throws IOException {
+    	MsgUtils.setExitOnError(false);
+    	serverModelCache = new ModelCache(SERVER_MODEL_CACHE_SIZE);
+    	BufferedReader reader = new BufferedReader(new InputStreamReader(System.in));
+    	String line;
+    	while ((line = reader.readLine()) != null) {
+    		line = line.trim();
+    		if (line.isEmpty()) continue;
+    		if (line.equals("exit")) break;
+    		int rc;
+    		try {
+    			initJobState();
+    			runJob(line.split("\\s+"));
+    			rc = MsgUtils.getReturnCode();
+    		} catch (ExitException e) {
+    			rc = e.getReturnCode();
+    		}
+    		System.err.flush();
+    		System.out.println(SERVER_JOB_DONE + rc);
+    		System.out.flush();
+    	}
+    }
+
+    /** reset static state so a new job may be run (server mode).  Classes holding static job state are reset
+     *  by their init methods here, except parameters, defined properties and the defined signal map, which
+     *  are reset by runJob once their inputs are known */
+    private static void initJobState() {
+    	inputType = null;
+    	inputFile = null;
+    	overlayFiles.clear();
+    	overlayModels = null;
+    	inputParmFiles.clear();
+    	modelCacheDir = null;
+    	refreshModelCache = false;
+    	modelCache = null;
+    	priorStateChanges = "";
+    	statsFileName = null;
+    	outputNames.clear();
+    	commentChars.clear();
+    	outputFileNames.clear();
+    	model = null;
+    	MsgUtils.init();
+    	ChangedFileWriter.init();
+    	RunStatistics.init();
+    	RdlModelExtractor.init();
+    	JSpecModelExtractor.init();
+    	SystemVerilogBuilder.init();
+    	DrvModBuilder.init();
+    	JspecCategory.init();
+    	JspecSubCategory.init();
+    }
+
+    /** run a single ordt job using the specified command line args */
+    private static void runJob(String[] args) {
         
         // extract command line args
         defineOutputArgs();
@@ -85,6 +178,20 @@ public class Ordt {
         			overlayFiles.add(new OverlayFileInfo(olayName, olayTag));
             		remainingArgs -= 3;
         		}
+        		// extracted model cache directory
+        		else if (arg.equals("-modelcache") && (remainingArgs>1)) {
+        			modelCacheDir = args[args.length - remainingArgs];
+            		remainingArgs -= 2;
+        		}
+        		else if (arg.equals("-modelcache_refresh")) {
+        			refreshModelCache = true;
+            		remainingArgs -= 1;
+        		}
+        		// run statistics output file
+        		else if (arg.equals("-stats") && (remainingArgs>1)) {
+        			statsFileName = args[args.length - remainingArgs];
+            		remainingArgs -= 2;
+        		}
         		else showUsage();
         	}
         	//System.out.println("input=" + inputFile + ", verilog=" + vlogOutName + ", jspec=" + jspecOutName); System.exit(0);
@@ -97,9 +204,28 @@ public class Ordt {
         
 		try {	  
 	    	System.out.println("Open Register Design Tool, version=" + getVersion() + ", input=" + inputFile);
+	    	if (statsFileName != null) RunStatistics.enable(statsFileName);
+	    	RunStatistics.Phase runPhase = RunStatistics.startPhase("run", inputFile);
+	    	
 	    	// get control parameters from parms files
+	    	RunStatistics.Phase parmsPhase = RunStatistics.startPhase("parameters", inputParmFiles);
 	    	ExtParameters.init();
 	    	ExtParameters.loadParameters(inputParmFiles);
+	    	RunStatistics.endPhase(parmsPhase);
+	    	
+	    	// set up extracted model cache if specified (server mode uses an in-memory cache by default)
+	    	if (modelCacheDir != null) modelCache = new ModelCache(modelCacheDir, refreshModelCache);
+	    	else if (serverModelCache != null) {
+	    		modelCache = serverModelCache;
+	    		modelCache.setRefresh(refreshModelCache);
+	    		modelCache.clearStatistics();
+	    	}
+	    	
+	    	// in server mode, reset defined properties once primary input type is known, since defaults depend on it
+	    	if (serverModelCache != null) {
+	    		setInputType(isJspecFile(inputFile)? InputType.JSPEC : InputType.RDL);
+	    		DefinedProperties.init();
+	    	}
 	    	
 			// extract model from input file and prep as needed
 	    	model = extractModel(inputFile);
@@ -111,15 +237,20 @@ public class Ordt {
     		SystemVerilogDefinedOrdtSignals.initDefinedSignalMap();  // load the mapping of pre-defined systemverilog signals since used in multiple outputs, eg uvmregs
         	
         	// generate output of all types specified on command line
-        	for (OutputType tp : OutputType.values()) {
-        		if (tp == OutputType.UVMREGS) 
-        	    	createUvmRegs(model); // special method for uvm gen
-        		else if (tp != OutputType.UVMREGSPKG)
-        	    	createOutput(model, tp);  // gen all others
+        	if (ExtParameters.getOutputGenerationThreads() > 1)
+        		generateOutputsInParallel(model, ExtParameters.getOutputGenerationThreads());
+        	else {
+        		for (OutputType tp : OutputType.values()) generateOutput(model, tp);
         	}
 
+	    	RunStatistics.endPhase(runPhase);
+	    	RunStatistics.writeSummary();
+	    	if (modelCache != null) System.out.println("Ordt: model cache " + modelCache.getStatistics());
+	    	if (ExtParameters.skipUnchangedOutputs()) System.out.println("Ordt: " + ChangedFileWriter.getWrittenFiles() + " output files written, " + ChangedFileWriter.getSkippedFiles() + " unchanged output files skipped");
 	    	System.out.println("Ordt complete " + new Date());
-	    	System.exit(MsgUtils.getReturnCode());
+	    	MsgUtils.exit(MsgUtils.getReturnCode());
+		} catch (ExitException e) {
+			throw e;
 		} catch (Exception e) {
 			//errorMessage("Read of rdl file " + inputFile + " failed");
 			e.printStackTrace();
@@ -147,6 +278,7 @@ public class Ordt {
 		outputArgs.put("-pydrvmod", OutputType.PYDRVMOD);
 		outputArgs.put("-json", OutputType.JSON);
 		outputArgs.put("-svchildinfo", OutputType.SVCHILDINFO);
+		outputArgs.put("-addrlookup", OutputType.ADDRLOOKUP);
 	}
 
 	/** assign a name string for each output type */
@@ -167,6 +299,7 @@ public class Ordt {
 		outputNames.put(OutputType.PYDRVMOD, "python driver model");
 		outputNames.put(OutputType.JSON, "json");
 		outputNames.put(OutputType.SVCHILDINFO, "systemverilog child map info");
+		outputNames.put(OutputType.ADDRLOOKUP, "address lookup");
 	}
 
 	/** assign a comment string for each output type */
@@ -187,6 +320,7 @@ public class Ordt {
 		commentChars.put(OutputType.PYDRVMOD, "#");
 		commentChars.put(OutputType.JSON, null);
 		commentChars.put(OutputType.SVCHILDINFO, (ExtParameters.getSysVerChildInfoMode() == SVChildInfoModes.MODULE)? "//" : "#");
+		commentChars.put(OutputType.ADDRLOOKUP, "//");
 	}
 
     /** return an OutputBuilder of specified type */
@@ -230,11 +364,33 @@ public class Ordt {
 			   return new JsonBuilder(model);
 		   case SVCHILDINFO: 
 			   return new SystemVerilogChildInfoBuilder(model);
+		   case ADDRLOOKUP: 
+			   return new AddressLookupBuilder(model);
            default:
 		}
 		return null;
 	}
 
+	/** return the generation group of an output type. Builders of types in the same group share
+	 *  static state, so are run sequentially in OutputType order when generating in parallel */
+	private static OutputType getGenerationGroup(OutputType type) {
+		switch (type) {
+		   case VERILOG: 
+		   case SYSTEMVERILOG: 
+		   case SVBENCH: 
+		   case VBENCH: 
+		   case SVCHILDINFO: 
+			   return OutputType.SYSTEMVERILOG;  // shared legacy verilog and module statics
+		   case UVMREGSPKG:   
+			   return OutputType.UVMREGS;
+		   case CPPDRVMOD:   
+		   case PYDRVMOD:   
+			   return OutputType.CPPDRVMOD;  // shared drvmod instance count
+		   default:
+		}
+		return type;
+	}
+
 	// -------------------------------------------------------------------------------
 	
 	/** return true if model has a root address map */
@@ -248,37 +404,348 @@ public class Ordt {
 		return true;
 	}
     
-	/** extract model from input file and prep as needed */
+	/** extract model from input file (or model cache if active) and prep as needed */
 	private static RegModelIntf extractModel(String inputFile) {
+		RegModelIntf cachedModel = loadCachedModel(inputFile);
+		if (cachedModel != null) return prepModel(cachedModel);
+		if (modelCache != null) MsgUtils.startMessageRecording();  // save extract messages with cached model
+		if (ExtParameters.streamingExtract()) {
+			RegModelIntf streamedModel = extractModelDuringParse(inputFile);
+			if (streamedModel != null) return streamedModel;
+		}
+		return extractModel(inputFile, null);
+	}
+
+	/** extract model from input file during parse and prep as needed. Returns null if the input has syntax
+	 *  errors, so model should be extracted from a full parse */
+	private static RegModelIntf extractModelDuringParse(String inputFile) {
+		String cacheKey = getModelCacheKey(inputFile);  // key uses anonymous id at start of extract
+		boolean isJspec = isJspecFile(inputFile);
+		setInputType(isJspec? InputType.JSPEC : InputType.RDL);
+		RunStatistics.Phase extractPhase = RunStatistics.startPhase("parse_extract", inputFile);
 		RegModelIntf newModel;
+		ExtractStateChanges stateChanges = null;
+		if (isJspec) {
+			JSpecModelExtractor extractor = JSpecModelExtractor.extractDuringParse(inputFile);
+			newModel = extractor;
+			if (extractor != null) stateChanges = extractor.getStateChanges();
+		}
+		else {
+			RdlModelExtractor extractor = RdlModelExtractor.extractDuringParse(inputFile);
+			newModel = extractor;
+			if (extractor != null) stateChanges = extractor.getStateChanges();
+		}
+		RunStatistics.endPhase(extractPhase);
+		if (newModel == null) return null;
+		storeCachedModel(cacheKey, newModel, stateChanges);
+		return prepModel(newModel);
+	}
+
+	/** extract model from input file and prep as needed. If parsedFile is non-null, it is used as
+	 *  the previously parsed input rather than reparsing the file */
+	private static RegModelIntf extractModel(String inputFile, ParsedInputFile parsedFile) {
+		RegModelIntf newModel;
+		ExtractStateChanges stateChanges;
+		String cacheKey = getModelCacheKey(inputFile);  // key uses anonymous id at start of extract
 		
 		// extract model from rdl or jspec input file depending on name
-    	if (inputFile.endsWith("js")) {
+    	if (isJspecFile(inputFile)) {
     		setInputType(InputType.JSPEC);
-    		newModel = new JSpecModelExtractor(inputFile);
+    		if (parsedFile == null) parsedFile = parseInputFile(inputFile);
+    		RunStatistics.Phase extractPhase = RunStatistics.startPhase("extract", inputFile);
+    		JSpecModelExtractor extractor = new JSpecModelExtractor(inputFile, parsedFile);
+    		RunStatistics.endPhase(extractPhase);
+    		stateChanges = extractor.getStateChanges();
+    		newModel = extractor;
     	}
     	else {
     		setInputType(InputType.RDL);
-    		newModel = new RdlModelExtractor(inputFile);
+    		if (parsedFile == null) parsedFile = parseInputFile(inputFile);
+    		RunStatistics.Phase extractPhase = RunStatistics.startPhase("extract", inputFile);
+    		RdlModelExtractor extractor = new RdlModelExtractor(inputFile, parsedFile);
+    		RunStatistics.endPhase(extractPhase);
+    		stateChanges = extractor.getStateChanges();
+    		newModel = extractor;
     	}
+    	storeCachedModel(cacheKey, newModel, stateChanges);
+    	return prepModel(newModel);
+	}
+	
+	/** parse an rdl or jspec input file depending on name */
+	private static ParsedInputFile parseInputFile(String inputFile) {
+		RunStatistics.Phase parsePhase = RunStatistics.startPhase("parse", inputFile);
+		ParsedInputFile parsedFile = isJspecFile(inputFile)? JSpecModelExtractor.parse(inputFile) : RdlModelExtractor.parse(inputFile);
+		RunStatistics.endPhase(parsePhase);
+		return parsedFile;
+	}
+	
+	/** compute model sizes, sort and annotate an extracted model */
+	private static RegModelIntf prepModel(RegModelIntf newModel) {
     	
     	// precompute min size of each register and regset
+		RunStatistics.Phase sizePhase = RunStatistics.startPhase("size", newModel.getOrdtInputFile());
     	newModel.getRoot().setAlignedSize(ModRegister.defaultWidth);
+    	RunStatistics.endPhase(sizePhase);
     	
     	// fix simple address ordering issues 
-    	if (ExtParameters.allowUnorderedAddresses()) newModel.getRoot().sortRegisters();
+    	if (ExtParameters.allowUnorderedAddresses()) {
+    		RunStatistics.Phase sortPhase = RunStatistics.startPhase("sort", newModel.getOrdtInputFile());
+    		newModel.getRoot().sortRegisters();
+    		RunStatistics.endPhase(sortPhase);
+    	}
     	
     	// add any debug annotation commands to the active list
     	if (debug.isActive()) debug.addAnnotations(); 
     	
     	// process any model annotate cmds
-    	for (AnnotateCommand cmd: ExtParameters.getAnnotations()) {
-    		newModel.getRoot().processAnnotation(cmd, 0);
-    		MsgUtils.infoMessage("Annotate command: " + cmd.getSignature() + " processed " + cmd.getChangeCount() + " elements");
+    	RunStatistics.Phase annotatePhase = RunStatistics.startPhase("annotate", newModel.getOrdtInputFile());
+    	List<AnnotateCommand> annotations = ExtParameters.getAnnotations();
+    	if (!annotations.isEmpty()) {
+    		AnnotatePathTrie annotationPaths = new AnnotatePathTrie(annotations);
+    		annotationPaths.findMatches(newModel.getRoot());  // find matches of all commands in one model traversal
+    		for (int idx=0; idx<annotations.size(); idx++) {
+    			annotationPaths.processMatches(idx);
+    			AnnotateCommand cmd = annotations.get(idx);
+    			MsgUtils.infoMessage("Annotate command: " + cmd.getSignature() + " processed " + cmd.getChangeCount() + " elements");
+    		}
     	}
+    	RunStatistics.endPhase(annotatePhase);
+
+    	// cache model hashes used in output class reuse compares
+    	newModel.getRoot().freezeHashes();
     	return newModel;
 	}
 
+	/** generate output of the specified type if specified on command line */
+	private static void generateOutput(RegModelIntf model, OutputType type) {
+		if (type == OutputType.UVMREGS) 
+			createUvmRegs(model); // special method for uvm gen
+		else if (type != OutputType.UVMREGSPKG)
+			createOutput(model, type);  // gen all others
+	}
+
+	/** generate all outputs specified on command line using a pool of worker threads.  
+	 *  Each generation group runs on a single worker and messages from each output type 
+	 *  are displayed in OutputType order once generation of that type is complete. */
+	private static void generateOutputsInParallel(RegModelIntf model, int threads) throws Exception {
+		// group the requested output types
+		LinkedHashMap<OutputType, List<OutputType>> groups = new LinkedHashMap<OutputType, List<OutputType>>();
+		for (OutputType tp : OutputType.values()) {
+			if (!outputFileNames.containsKey(tp)) continue;
+			OutputType group = getGenerationGroup(tp);
+			if (!groups.containsKey(group)) groups.put(group, new ArrayList<OutputType>());
+			groups.get(group).add(tp);
+		}
+		// overlay extraction is not thread safe, so extract overlay models before starting workers
+		if (!overlayFiles.isEmpty()) getOverlayModels();
+		// create a task per group and save captured messages of each output type
+		final HashMap<OutputType, CapturedMessages> messages = new HashMap<OutputType, CapturedMessages>();
+		final RegModelIntf genModel = model;
+		HashMap<OutputType, Future<?>> results = new HashMap<OutputType, Future<?>>();
+		ExecutorService executor = Executors.newFixedThreadPool(Math.min(threads, Math.max(groups.size(), 1)));
+		for (final List<OutputType> groupTypes : groups.values()) {
+			Future<?> result = executor.submit(new Callable<Void>() {
+				@Override
+				public Void call() throws Exception {
+					for (OutputType tp : groupTypes) {
+						MsgUtils.startMessageCapture();
+						try {
+							generateOutput(genModel, tp);
+						} finally {
+							CapturedMessages msgs = MsgUtils.stopMessageCapture();
+							synchronized (messages) { messages.put(tp, msgs); }
+						}
+					}
+					return null;
+				}
+			});
+			for (OutputType tp : groupTypes) results.put(tp, result);
+		}
+		executor.shutdown();
+		// wait for each output type in order and display its messages
+		try {
+			for (OutputType tp : OutputType.values()) {
+				if (!results.containsKey(tp)) continue;
+				Exception failure = null;
+				try {
+					results.get(tp).get();
+				} catch (ExecutionException e) {
+					failure = (e.getCause() instanceof Exception)? (Exception) e.getCause() : e;
+				}
+				CapturedMessages msgs;
+				synchronized (messages) { msgs = messages.get(tp); }
+				if (msgs != null) msgs.replay();
+				if (failure != null) throw failure;
+			}
+		} finally {
+			executor.shutdownNow();
+			MsgUtils.removeCaptureStreams();
+		}
+	}
+
+	/** return the model cache key of an input file or null if cache is not active */
+	private static String getModelCacheKey(String inputFile) {
+		if (modelCache == null) return null;
+		return modelCache.getKey(inputFile, inputParmFiles, getAnonCompId(isJspecFile(inputFile)? InputType.JSPEC : InputType.RDL), priorStateChanges);
+	}
+
+	/** return the cached model of an input file or null if not found */
+	private static RegModelIntf loadCachedModel(String inputFile) {
+		String cacheKey = getModelCacheKey(inputFile);
+		if (cacheKey == null) return null;
+		RunStatistics.Phase loadPhase = RunStatistics.startPhase("cache_load", inputFile);
+		CachedModel cachedModel = modelCache.load(cacheKey);
+		RunStatistics.endPhase(loadPhase);
+		if (cachedModel == null) return null;
+		// restore extractor state as if model had been extracted
+		setInputType(cachedModel.getInputType());
+		setAnonCompId(cachedModel.getInputType(), cachedModel.getNextAnonCompId());
+		cachedModel.getStateChanges().apply();
+		addPriorStateChanges(cachedModel.getStateChanges());
+		cachedModel.getExtractMessages().replay();
+		return cachedModel;
+	}
+
+	/** save a newly extracted model in the cache along with the global state changes made by its extract.
+	 *  Models are not saved if errors were issued before the extract started or if re-applying its
+	 *  state changes would issue messages */
+	private static void storeCachedModel(String cacheKey, RegModelIntf newModel, ExtractStateChanges stateChanges) {
+		RecordedMessages messages = MsgUtils.stopMessageRecording();
+		if (stateChanges != null) addPriorStateChanges(stateChanges);
+		if (cacheKey == null) return;
+		modelCache.addMiss();
+		if ((messages != null) && messages.startedClean() && stateChanges.isReplayable()) 
+			modelCache.store(cacheKey, new CachedModel(newModel, inputType, getAnonCompId(inputType), stateChanges, messages));
+	}
+
+	/** add state changes of an extract to those included in model cache keys of later extracts */
+	private static void addPriorStateChanges(ExtractStateChanges stateChanges) {
+		if (!stateChanges.isEmpty()) priorStateChanges += stateChanges;
+	}
+
+	/** return the next anonymous component id of the extractor for the specified input type */
+	private static int getAnonCompId(InputType type) {
+		return (type == InputType.JSPEC)? JSpecModelExtractor.getAnonCompId() : RdlModelExtractor.getAnonCompId();
+	}
+
+	/** set the next anonymous component id of the extractor for the specified input type */
+	private static void setAnonCompId(InputType type, int anonCompId) {
+		if (type == InputType.JSPEC) JSpecModelExtractor.setAnonCompId(anonCompId);
+		else RdlModelExtractor.setAnonCompId(anonCompId);
+	}
+
+	/** return true if input file name indicates a jspec file */
+	private static boolean isJspecFile(String fileName) {
+		return fileName.endsWith("js");
+	}
+
+	/** return models for all overlay files, extracting them on first call */
+	private static synchronized HashMap<OverlayFileInfo, RegModelIntf> getOverlayModels() {
+		if (overlayModels == null) extractOverlayModels();
+		return overlayModels;
+	}
+
+	/** extract, size, sort and annotate the model of each overlay file once.  
+	 *  If output_generation_threads > 1, overlay files are parsed concurrently and each parsed
+	 *  file is then extracted sequentially in overlay order. Since rdl user property definitions 
+	 *  change lexing of subsequent files, any overlay defining user properties is parsed alone,
+	 *  after all prior overlay parses complete and before later overlays are started. */
+	private static void extractOverlayModels() {
+		InputType primaryInputType = inputType;
+		overlayModels = new HashMap<OverlayFileInfo, RegModelIntf>();
+		int threads = Math.min(ExtParameters.getOutputGenerationThreads(), overlayFiles.size());
+		if (threads > 1) {
+			ExecutorService executor = Executors.newFixedThreadPool(threads);
+			try {
+				// load overlays from model cache in order until first miss
+				int cachedCount = 0;
+				for (OverlayFileInfo ofile: overlayFiles) {
+					RegModelIntf cachedModel = loadCachedModel(ofile.getName());
+					if (cachedModel == null) break;
+					System.out.println("Ordt: extracting overlay file " + ofile.getName() + "...");
+					overlayModels.put(ofile, prepModel(cachedModel));
+					cachedCount++;
+				}
+				List<OverlayFileInfo> parseFiles = overlayFiles.subList(cachedCount, overlayFiles.size());
+				// start a parse of each remaining overlay, parsing overlays that define user properties alone
+				List<Future<OverlayParseResult>> parses = new ArrayList<Future<OverlayParseResult>>();
+				boolean prevDefinesProperties = false;
+				for (final OverlayFileInfo ofile: parseFiles) {
+					boolean definesProperties = !isJspecFile(ofile.getName()) && RdlModelExtractor.definesUserProperties(ofile.getName());
+					if (definesProperties || prevDefinesProperties) {
+						for (int idx=0; idx<parses.size(); idx++) getOverlayParseResult(parses.get(idx), parseFiles.get(idx));
+					}
+					parses.add(executor.submit(new Callable<OverlayParseResult>() {
+						@Override
+						public OverlayParseResult call() {
+							MsgUtils.startMessageCapture();
+							MsgUtils.startMessageRecording();
+							ParsedInputFile parsedFile;
+							try {
+								parsedFile = parseInputFile(ofile.getName());
+							} catch (RuntimeException e) {
+								MsgUtils.stopMessageRecording();
+								MsgUtils.stopMessageCapture().replay();  // display any messages prior to failure
+								throw e;
+							}
+							RecordedMessages recordedMessages = MsgUtils.stopMessageRecording();
+							return new OverlayParseResult(parsedFile, MsgUtils.stopMessageCapture(), recordedMessages);
+						}
+					}));
+					prevDefinesProperties = definesProperties;
+				}
+				// extract each overlay model in order
+				for (int idx=0; idx<parseFiles.size(); idx++) {
+					OverlayFileInfo ofile = parseFiles.get(idx);
+					System.out.println("Ordt: extracting overlay file " + ofile.getName() + "...");
+					OverlayParseResult result = getOverlayParseResult(parses.get(idx), ofile);
+					result.messages.replay();
+					if (modelCache != null) {  // save parse messages with cached model
+						MsgUtils.startMessageRecording();
+						MsgUtils.addRecordedMessages(result.recordedMessages);
+					}
+					overlayModels.put(ofile, extractModel(ofile.getName(), result.parsedFile));
+				}
+			} finally {
+				executor.shutdownNow();
+				MsgUtils.removeCaptureStreams();
+			}
+		}
+		else {
+			for (OverlayFileInfo ofile: overlayFiles) {
+				System.out.println("Ordt: extracting overlay file " + ofile.getName() + "...");
+				overlayModels.put(ofile, extractModel(ofile.getName()));
+			}
+		}
+		setInputType(primaryInputType);  // restore primary input type
+	}
+
+	/** wait for an overlay parse to complete and return the result */
+	private static OverlayParseResult getOverlayParseResult(Future<OverlayParseResult> parse, OverlayFileInfo ofile) {
+		try {
+			return parse.get();
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof ExitException) throw (ExitException) e.getCause();  // exit in server mode
+			MsgUtils.errorExit("Parse of overlay file " + ofile.getName() + " failed: " + e.getMessage());
+		} catch (InterruptedException e) {
+			MsgUtils.errorExit("Parse of overlay file " + ofile.getName() + " failed: " + e.getMessage());
+		}
+		return null;
+	}
+
+	/** parse tree and messages produced by a concurrent overlay parse */
+	private static class OverlayParseResult {
+		private ParsedInputFile parsedFile;
+		private CapturedMessages messages;
+		private RecordedMessages recordedMessages;
+
+		private OverlayParseResult(ParsedInputFile parsedFile, CapturedMessages messages, RecordedMessages recordedMessages) {
+			this.parsedFile = parsedFile;
+			this.messages = messages;
+			this.recordedMessages = recordedMessages;
+		}
+	}
+
 	/**create output of the specified type if non-null output name is specified
 	 */
     public static void createOutput(RegModelIntf model, OutputType type) { 
@@ -286,20 +753,25 @@ public class Ordt {
     	if (outFileName == null) return;
     	// create builder and generate structures from model
 		System.out.println("Ordt: building " + outputNames.get(type) + "...");
+		RunStatistics.Phase buildPhase = RunStatistics.startPhase("build", type);
     	OutputBuilder outBuilder = getBuilder(model, type);  
+    	RunStatistics.endPhase(buildPhase, outBuilder);
     	if (outBuilder != null) {
         	// process overlay files if builder type supports
         	if (outBuilder.supportsOverlays()) {
+        		HashMap<OverlayFileInfo, RegModelIntf> models = getOverlayModels();  // overlay models are extracted once and shared
         		for (OverlayFileInfo ofile: overlayFiles) {
         			String fname=ofile.getName();
         			System.out.println("Ordt: processing overlay file " + fname + "...");
-        			// extract model from overlay file and prep as needed
-        	    	model = extractModel(fname);
-        	    	outBuilder.processOverlay(model);
+        			RunStatistics.Phase overlayPhase = RunStatistics.startPhase("overlay", type);
+        	    	outBuilder.processOverlay(models.get(ofile));
+        	    	RunStatistics.endPhase(overlayPhase);
         		}
         	}
         	// generate output
+        	RunStatistics.Phase writePhase = RunStatistics.startPhase("write", type);
         	outBuilder.write(outFileName, outputNames.get(type), commentChars.get(type));
+        	RunStatistics.endPhase(writePhase);
     	}
     }
 
@@ -316,16 +788,22 @@ public class Ordt {
     	if (outFileName == null) return;
 
 		System.out.println("Ordt: building " + outName + "...");
+		RunStatistics.Phase buildPhase = RunStatistics.startPhase("build", OutputType.UVMREGS);
 		UVMRegsBuilder uvm = (ExtParameters.uvmregsModelMode() == UVMModelModes.LITE1)? new UVMRegsLite1Builder(model) :
 			(ExtParameters.uvmregsModelMode() == UVMModelModes.NATIVE)? new UVMRegsNativeBuilder(model) :
 			new UVMRegsBuilder(model, true);
+		RunStatistics.endPhase(buildPhase, uvm);
     	if (uvm != null) {
+    		RunStatistics.Phase writePhase = RunStatistics.startPhase("write", OutputType.UVMREGS);
     		uvm.write(outFileName, outName, "//");
+    		RunStatistics.endPhase(writePhase);
     		
     		// now output the pkg if specified
     		if (outPkgFileName != null) {
     			System.out.println("Ordt: building " + outPkgName + "...");
+    			RunStatistics.Phase pkgPhase = RunStatistics.startPhase("write", OutputType.UVMREGSPKG);
     			uvm.writePkg(outPkgFileName, outPkgName);  
+    			RunStatistics.endPhase(pkgPhase);
     		}
     	}
     }
@@ -336,6 +814,8 @@ public class Ordt {
     	System.out.println("   -parms <input_parms_filename>");
     	System.out.println("       <input_parms_filename> will be used to set ordt control parameters. The -parms");
     	System.out.println("       option may be specified multiple times to include multiple parameter files.");
+    	System.out.println("   -addrlookup <filename>");
+    	System.out.println("       <filename> will be created containing a listing of register and register set address ranges");
     	System.out.println("   -cppmod <dirname>");
     	System.out.println("       <dirname> will be created containing C++ model output files");
     	System.out.println("   -cppdrvmod <dirname>");
@@ -344,6 +824,11 @@ public class Ordt {
     	//System.out.println("       <filename> will be created containing json output");
     	System.out.println("   -jspec <filename>");
     	System.out.println("       <filename> will be created containing jspec output");
+    	System.out.println("   -modelcache <dirname>");
+    	System.out.println("       extracted models will be saved in directory <dirname> and reused in later runs");
+    	System.out.println("       having identical input, overlay, and parameter files");
+    	System.out.println("   -modelcache_refresh");
+    	System.out.println("       ignore any previously cached models and replace them");
     	System.out.println("   -overlay <tag> <input_filename>");
     	System.out.println("       <input_filename> will be processed as an overlay input with specified tag");
     	System.out.println("   -pydrvmod <filename>");
@@ -374,7 +859,15 @@ public class Ordt {
     	System.out.println("       file containing verilog output for all generated modules.");
     	System.out.println("   -xml <filename>");
     	System.out.println("       <filename> will be created containing xml output");
-    	System.exit(0);
+    	System.out.println("   -stats <filename>");
+    	System.out.println("       <filename> will be created containing json wall time, cpu time, and allocation statistics");
+    	System.out.println("       of each run phase and output type.  Phases are also recorded as ordt.Phase jfr events.");
+    	System.out.println("   -server");
+    	System.out.println("       if specified as the only option, ordt will run jobs read from stdin, one job per line.");
+    	System.out.println("       Each job line contains the options and input file of a single ordt run, and");
+    	System.out.println("       a line '" + SERVER_JOB_DONE + "<return code>' is displayed at job completion.");
+    	System.out.println("       Jobs are run sequentially and reuse extracted models of unchanged inputs.  An 'exit' line ends the server.");
+    	MsgUtils.exit(0);
     }
     
     // ------------------------ common static methods ---------------------------
@@ -432,4 +925,27 @@ public class Ordt {
 		return retlist;
 	}
 
+    // ------------------------ static methods for benchmarks ---------------------------
+
+	/** reset state, load parameter files and set the input type of an input file so that a model
+	 *  may be extracted outside of a normal run (used by benchmarks) */
+	public static void initExtract(String inFile, List<String> parmFiles) {
+		initJobState();
+		inputFile = inFile;
+		inputParmFiles.addAll(parmFiles);
+		ExtParameters.init();
+		ExtParameters.loadParameters(inputParmFiles);
+		setInputType(isJspecFile(inFile)? InputType.JSPEC : InputType.RDL);
+		DefinedProperties.init();
+	}
+
+	/** extract and prep the model of an input file outside of a normal run.  The model is also
+	 *  returned by getModel, so builders may then be created from it (used by benchmarks) */
+	public static RegModelIntf loadModel(String inFile, List<String> parmFiles) {
+		initExtract(inFile, parmFiles);
+		model = extractModel(inFile);
+		SystemVerilogDefinedOrdtSignals.initDefinedSignalMap();
+		return model;
+	}
+
 }
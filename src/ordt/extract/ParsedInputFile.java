@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2016 Juniper Networks, Inc. All rights reserved.
+ */
+package ordt.extract;
+
+import org.antlr.v4.runtime.BailErrorStrategy;
+import org.antlr.v4.runtime.ConsoleErrorListener;
+import org.antlr.v4.runtime.DefaultErrorStrategy;
+import org.antlr.v4.runtime.Parser;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
+import org.antlr.v4.runtime.tree.ParseTree;
+
+import ordt.parameters.ExtParameters;
+
+/** class holding the parse result of an input file so that parsing can be done separately from model extraction */
+public class ParsedInputFile {
+	private ParseTree tree;  // parse tree of the input file
+	private int syntaxErrorCount;  // number of syntax errors detected in parse
+
+	public ParsedInputFile(ParseTree tree, int syntaxErrorCount) {
+		super();
+		this.tree = tree;
+		this.syntaxErrorCount = syntaxErrorCount;
+	}
+
+	/** return the parse tree */
+	public ParseTree getTree() {
+		return tree;
+	}
+
+	/** return the number of syntax errors detected in parse */
+	public int getSyntaxErrorCount() {
+		return syntaxErrorCount;
+	}
+
+	/** start rule of a generated parser */
+	public interface StartRule {
+		ParseTree parse();
+	}
+
+	/** parse an input file using the specified parser start rule.
+	 *  If use_sll_parse is set, a fast sll parse that bails on the first syntax error is attempted
+	 *  first and the input is reparsed using full ll prediction only if the sll parse fails, so
+	 *  resulting trees and syntax error messages are the same as a full ll parse.
+	 * @param parser - parser of the input file
+	 * @param startRule - start rule of parser
+	 * @param inputFile - name of the input file (used for statistics)
+	 */
+	public static ParsedInputFile parse(Parser parser, StartRule startRule, String inputFile) {
+		if (ExtParameters.useSllParse()) {
+			RunStatistics.Phase phase = RunStatistics.startPhase("parse_sll", inputFile);
+			parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+			parser.removeErrorListeners();
+			parser.setErrorHandler(new BailErrorStrategy());
+			try {
+				ParseTree tree = startRule.parse();
+				return new ParsedInputFile(tree, parser.getNumberOfSyntaxErrors());
+			} catch (ParseCancellationException e) {
+				// sll parse failed, so rewind input and restore default error reporting for an ll parse
+				parser.reset();
+				parser.addErrorListener(ConsoleErrorListener.INSTANCE);
+				parser.setErrorHandler(new DefaultErrorStrategy());
+			} finally {
+				RunStatistics.endPhase(phase);
+			}
+		}
+		RunStatistics.Phase phase = RunStatistics.startPhase("parse_ll", inputFile);
+		parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+		ParseTree tree = startRule.parse();
+		RunStatistics.endPhase(phase);
+		return new ParsedInputFile(tree, parser.getNumberOfSyntaxErrors());
+	}
+}
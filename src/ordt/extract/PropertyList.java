@@ -3,18 +3,62 @@
  */
 package ordt.extract;
 
-import java.util.HashMap;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /**
- *  class for storage of assigned properties
+ *  class for storage of assigned properties.
+ *  values are stored in a compact array in assignment order, with built-in properties matched by DefinedProperties id.
+ *  values are returned in the order of the HashMap used by prior versions of this class (see getPropertyValues),
+ *  so the results of updates from another list, which apply woclr/woset and rclr/rset reconciliation in order, are unchanged.
  */
-public class PropertyList {
-	private HashMap<String, PropertyValue> values = new HashMap<String, PropertyValue>();  // saved parm values
+public class PropertyList implements Serializable {
+	private static final long serialVersionUID = 1L;
+	private static final PropertyValue[] NO_VALUES = new PropertyValue[0];
+	private static final byte NON_BOOLEAN = 0;
+	private static final byte TRUE_BOOLEAN = 1;
+	private static final byte FALSE_BOOLEAN = 2;
+	private static final Object NON_INTEGER = new Object();  // cached parse result of non-integer values
+	private static final Pattern refPattern = Pattern.compile("^\\s*(\\S+)\\s*->\\s*(\\S+)\\s*$");
+	
+	private transient PropertyValue[] values = NO_VALUES;  // values in assignment order
+	private transient int size = 0;  // number of values stored
+	private transient byte tableBits = 0;  // log2 of the table size a HashMap holding these values would have (0 if never used)
+	private transient boolean readOnly = false;  // if true, updates are not allowed (set while owning model element is frozen)
+	
+	public PropertyList() {
+	}
+	
+	/** create a copy of a list, sharing its (immutable) values */
+	public PropertyList(PropertyList oldList) {
+		values = (oldList.size == 0)? NO_VALUES : Arrays.copyOf(oldList.values, oldList.size);
+		size = oldList.size;
+		tableBits = oldList.tableBits;
+	}
+	
+	/** set read only state of this list */
+	public void setReadOnly(boolean readOnly) {
+		this.readOnly = readOnly;
+	}
+	
+	/** throw an exception if this list is read only */
+	private void checkWritable() {
+		if (readOnly) throw new UnsupportedOperationException("update of read only property list");
+	}
 	
 	/** clear all params */
 	public void clear() {
-		values.clear();
+		checkWritable();
+		values = NO_VALUES;
+		size = 0;
 	}
 
 	/** get a property string value
@@ -22,7 +66,7 @@ public class PropertyList {
 	 *  @return the value
 	 */
 	public String getProperty(String name) {
-		PropertyValue prop = values.get(name);
+		PropertyValue prop = getValue(name);
 		return (prop == null) ? null : prop.getValue();
 	}
 
@@ -31,7 +75,7 @@ public class PropertyList {
 	 *  @return the depth
 	 */
 	public int getDepth(String name) {
-		PropertyValue prop = values.get(name);
+		PropertyValue prop = getValue(name);
 		return (prop == null) ? 0 : prop.getDepth();
 	}
 	
@@ -40,13 +84,26 @@ public class PropertyList {
 	 *  @return the integer property value
 	 */
 	public Integer getIntegerProperty(String name) {
-		Integer retval;
-		try {
-			retval = Integer.valueOf(getProperty(name));
-		} catch (NumberFormatException e) {
-			return null;
-		}
-		return retval;
+		PropertyValue prop = getValue(name);
+		return (prop == null) ? null : prop.getIntegerValue();
+	}
+	
+	/** get a numeric property as a new RegNumber (undefined if value is not a number) or null if no value
+	 *  @param name of the property value to get
+	 *  @return a RegNumber that may be modified by the caller
+	 */
+	public RegNumber getRegNumberProperty(String name) {
+		PropertyValue prop = getValue(name);
+		return ((prop == null) || (prop.getValue() == null)) ? null : prop.getRegNumberValue();
+	}
+	
+	/** get a reference property split into instance path and deref or null if no value
+	 *  @param name of the property value to get
+	 *  @return the reference
+	 */
+	public RefValue getRefProperty(String name) {
+		PropertyValue prop = getValue(name);
+		return ((prop == null) || (prop.getValue() == null)) ? null : prop.getRefValue();
 	}
 	
 	/** return true if a key exists
@@ -62,8 +119,8 @@ public class PropertyList {
 	 *  @return boolean
 	 */
 	public Boolean hasTrueProperty(String name) {
-		String prop = getProperty(name);
-		return (prop==null)? false : "true".equals(prop.toLowerCase());
+		PropertyValue prop = getValue(name);
+		return (prop==null)? false : prop.booleanValue == TRUE_BOOLEAN;
 	}
 
 	/** return true if a prop value=false
@@ -71,8 +128,8 @@ public class PropertyList {
 	 *  @return boolean
 	 */
 	public Boolean hasFalseProperty(String name) {
-		String prop = getProperty(name);
-		return (prop==null)? false : "false".equals(prop.toLowerCase());
+		PropertyValue prop = getValue(name);
+		return (prop==null)? false : prop.booleanValue == FALSE_BOOLEAN;
 	}
 	
 	/** return true if a prop value=true or false
@@ -80,7 +137,8 @@ public class PropertyList {
 	 *  @return boolean
 	 */
 	public Boolean hasBooleanProperty(String name) {
-		return hasTrueProperty(name) || hasFalseProperty(name);
+		PropertyValue prop = getValue(name);
+		return (prop==null)? false : prop.booleanValue != NON_BOOLEAN;
 	}
 	
 	/** return true if a prop value is non-boolean and non-null
@@ -88,7 +146,8 @@ public class PropertyList {
 	 *  @return boolean
 	 */
 	public Boolean hasRefProperty(String name) {
-		return hasProperty(name) && !hasBooleanProperty(name);
+		PropertyValue prop = getValue(name);
+		return (prop==null)? false : (prop.getValue() != null) && (prop.booleanValue == NON_BOOLEAN);
 	}
 	
 	/** return true if a prop value=true or is non-boolean and non-null
@@ -96,14 +155,68 @@ public class PropertyList {
 	 *  @return boolean
 	 */
 	public Boolean hasTrueOrRefProperty(String name) {
-		return hasTrueProperty(name) || (hasProperty(name) && !hasFalseProperty(name));
+		PropertyValue prop = getValue(name);
+		return (prop==null)? false : (prop.getValue() != null) && (prop.booleanValue != FALSE_BOOLEAN);
 	}
 
-	/** get property hashmap
-	 *  @return values
+	/** return true if a property is stored with specified name, even if its value is null
+	 *  @param name of the property 
+	 *  @return boolean
 	 */
-	public HashMap<String, PropertyValue> getProperties() {
-		return values;
+	public boolean hasPropertyKey(String name) {
+		return getValue(name) != null;
+	}
+
+	/** get property names in the order given by getPropertyValues
+	 *  @return list of names
+	 */
+	public List<String> getPropertyNames() {
+		List<String> names = new ArrayList<String>(size);
+		for (PropertyValue prop: getPropertyValues()) names.add(prop.getName());
+		return names;
+	}
+
+	/** get property values in the iteration order of a HashMap having the same assignment history - 
+	 *  by hash bucket of the name in a table sized as HashMap would size it, then by assignment order.
+	 *  @return list of values
+	 */
+	public List<PropertyValue> getPropertyValues() {
+		PropertyValue[] sorted = Arrays.copyOf(values, size);
+		int mask = (1 << tableBits) - 1;
+		// stable insertion sort by bucket, so values in a bucket stay in assignment order
+		for (int idx=1; idx<size; idx++) {
+			PropertyValue prop = sorted[idx];
+			int bucket = getBucket(prop.getName(), mask);
+			int pos = idx;
+			while ((pos > 0) && (getBucket(sorted[pos - 1].getName(), mask) > bucket)) {
+				sorted[pos] = sorted[pos - 1];
+				pos--;
+			}
+			sorted[pos] = prop;
+		}
+		return Arrays.asList(sorted);
+	}
+	
+	/** return the HashMap table index of a name */
+	private static int getBucket(String name, int mask) {
+		int hash = name.hashCode();
+		return (hash ^ (hash >>> 16)) & mask;
+	}
+	
+	/** return the index of the stored value with specified name or -1 if none */
+	private int indexOf(String name) {
+		int id = DefinedProperties.getBuiltinPropertyId(name);
+		for (int idx=0; idx<size; idx++) {
+			PropertyValue prop = values[idx];
+			if ((id < 0)? (prop.id < 0) && name.equals(prop.name) : prop.id == id) return idx;
+		}
+		return -1;
+	}
+	
+	/** return the stored value with specified name or null if none */
+	private PropertyValue getValue(String name) {
+		int idx = indexOf(name);
+		return (idx < 0)? null : values[idx];
 	}
 	
 	/** set a prop value and reconcile values
@@ -119,11 +232,11 @@ public class PropertyList {
 		else prop = new PropertyValue();
 		
 		// reconcile woset/woclr assigns
-		if (name.equals("woclr") && isTrueString(value)) values.remove("woset"); 
-		else if (name.equals("woset") && isTrueString(value)) values.remove("woclr"); 
+		if (name.equals("woclr") && isTrueString(value)) removeProperty("woset"); 
+		else if (name.equals("woset") && isTrueString(value)) removeProperty("woclr"); 
 		// reconcile rset/rclr assigns
-		else if (name.equals("rclr") && isTrueString(value)) values.remove("rset"); 
-		else if (name.equals("rset") && isTrueString(value)) values.remove("rclr");
+		else if (name.equals("rclr") && isTrueString(value)) removeProperty("rset"); 
+		else if (name.equals("rset") && isTrueString(value)) removeProperty("rclr");
 		// reconcile intrType
 		else if (name.equals("posedge") || name.equals("negedge") || name.equals("bothedge") || name.equals("level")) { 
 			if (isTrueString(value)) {
@@ -170,7 +283,7 @@ public class PropertyList {
 	 *  @param name2 - key of copy result
 	 */
 	public void copyProperty(String name1, String name2) {
-		PropertyValue prop = values.get(name1);
+		PropertyValue prop = getValue(name1);
 		if (prop == null) return;
 		setProperty(name2, prop.getValue(), prop.getDepth());
 	}
@@ -180,57 +293,66 @@ public class PropertyList {
 	 *  @param value - PropertyValue
 	 */
 	private void setProperty(String name, PropertyValue value) {
-		values.put(name, value);
+		checkWritable();
+		int id = DefinedProperties.getBuiltinPropertyId(name);
+		value.id = (short) id;
+		value.name = (id < 0)? name : DefinedProperties.getBuiltinPropertyName(id);  // share built-in name instances
+		// replace an existing value in place
+		int idx = indexOf(name);
+		if (idx >= 0) {
+			values[idx] = value;
+			return;
+		}
+		if (size == values.length) values = Arrays.copyOf(values, size + 4);
+		values[size++] = value;
+		// track the table size of an equivalent HashMap (initially 16, doubled when over 3/4 full)
+		if (tableBits == 0) tableBits = 4;
+		else if (size > (3 << (tableBits - 2))) tableBits++;
 	}
 	
 	/** remove a property  
 	 *  @param name of the property to be removed
 	 */
 	public void removeProperty(String name) {
-		values.remove(name);
-	}
-	
-	/** update parameters using values in supplied hashmap
-	 *  @param hashmap of properties to be set
-	 *  @param keepOldValues - true if values with keys already in hash will not be updated
-	 */
-	public void updateProperties(HashMap<String, PropertyValue> updates, boolean keepOldValues) {    
-		for (String key: updates.keySet()) {
-			PropertyValue prop = updates.get(key);
-			if (!(keepOldValues && hasProperty(key)))
-			   setProperty(key, prop.getValue(), prop.getDepth());   // update parameter  
-		}	
+		checkWritable();
+		int idx = indexOf(name);
+		if (idx < 0) return;
+		System.arraycopy(values, idx + 1, values, idx, size - idx - 1);
+		values[--size] = null;
 	}
 	
-	/** update parameters using values in supplied hashmap
-	 *  @param hashmap of properties to be set
-	 */
-	public void updateProperties(HashMap<String, PropertyValue> updates) {    
-		updateProperties(updates, false);
-	}
-	
-	/** update parameters using values in supplied ParameterList
+	/** update parameters using values in supplied ParameterList, in the order given by getPropertyValues
 	 *  @param list of properties to be set
 	 *  @param keepOldValues - true if values with keys already in hash will not be updated
 	 */
 	public void updateProperties(PropertyList updateList, boolean keepOldValues) {
-		if (updateList != null) updateProperties(updateList.getProperties(), keepOldValues);
+		if (updateList == null) return;
+		for (PropertyValue prop: updateList.getPropertyValues()) {
+			if (!(keepOldValues && hasProperty(prop.getName())))
+			   setProperty(prop.getName(), prop.getValue(), prop.getDepth());   // update parameter  
+		}	
 	}
 
 	/** update parameters using values in supplied ParameterList
 	 *  @param list of properties to be set
 	 */
 	public void updateProperties(PropertyList updateList) {
-		if (updateList != null) updateProperties(updateList.getProperties());
+		updateProperties(updateList, false);
 	}
 
 	public String toString() {
-		return values.toString();
+		StringBuilder str = new StringBuilder("{");
+		for (PropertyValue prop: getPropertyValues()) {
+			if (str.length() > 1) str.append(", ");
+			str.append(prop.getName()).append('=').append(prop);
+		}
+		return str.append('}').toString();
 	}
 
 	public boolean isEmpty() {
-		return values.isEmpty();
+		return size == 0;
 	}
+
 		
 	/** return a subset PropertyList given a set of names
 	 *  @param names of the property value to get
@@ -239,23 +361,53 @@ public class PropertyList {
 	public PropertyList getSubsetList(Set<String> names) {
 		PropertyList newList = new PropertyList();
 		for (String name: names) {
-			if (values.containsKey(name)) newList.setProperty(name, getProperty(name));
+			if (hasPropertyKey(name)) newList.setProperty(name, getProperty(name));
 		}
 		return newList;
 	}
 	
+	/** write values in assignment order by name, so a saved list does not depend on built-in property ids */
+	private void writeObject(ObjectOutputStream out) throws IOException {
+		out.defaultWriteObject();
+		out.writeByte(tableBits);
+		out.writeInt(size);
+		for (int idx=0; idx<size; idx++) out.writeObject(values[idx]);
+	}
+	
+	/** restore values, matching built-in values by id */
+	private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+		in.defaultReadObject();
+		byte savedTableBits = in.readByte();
+		values = NO_VALUES;
+		int count = in.readInt();
+		for (int idx=0; idx<count; idx++) {
+			PropertyValue prop = (PropertyValue) in.readObject();
+			setProperty(prop.getName(), prop);
+		}
+		tableBits = savedTableBits;
+	}
+	
 	// ----------------- inner classes --------------------
 	/**
 	 *  class for storage of property values
 	 */
-	public class PropertyValue {
+	public class PropertyValue implements Serializable {
+		private static final long serialVersionUID = 1L;
 		String value;
+		String name;  // name of this property in its list
+		transient short id = -1;  // DefinedProperties id of a built-in property name
+		private byte booleanValue = NON_BOOLEAN;  // pre-parsed boolean value
+		private transient volatile Object parsedValue;  // lazily parsed Integer (or NON_INTEGER), RegNumber or RefValue
 		
 		public PropertyValue() {
 		}
 		
 		public PropertyValue(String value) {
-			this.value = value;
+			setValue(value);
+		}
+		
+		public String getName() {
+			return name;
 		}
 		
 		public String getValue() {
@@ -264,6 +416,44 @@ public class PropertyList {
 		
 		public void setValue(String value) {
 			this.value = value;
+			// values longer than 5 chars cannot lower case to true or false
+			String lcValue = ((value == null) || (value.length() > 5))? null : value.toLowerCase();
+			booleanValue = "true".equals(lcValue)? TRUE_BOOLEAN : "false".equals(lcValue)? FALSE_BOOLEAN : NON_BOOLEAN;
+			parsedValue = null;
+		}
+		
+		/** return the integer value or null if not an integer */
+		public Integer getIntegerValue() {
+			Object parsed = parsedValue;
+			if ((parsed != NON_INTEGER) && !(parsed instanceof Integer)) {
+				try {
+					parsed = Integer.valueOf(value);
+				} catch (NumberFormatException e) {
+					parsed = NON_INTEGER;
+				}
+				parsedValue = parsed;
+			}
+			return (parsed == NON_INTEGER)? null : (Integer) parsed;
+		}
+		
+		/** return a copy of the RegNumber value (undefined if not a number) */
+		public RegNumber getRegNumberValue() {
+			Object parsed = parsedValue;
+			if (!(parsed instanceof RegNumber)) {
+				parsed = new RegNumber(value);
+				parsedValue = parsed;
+			}
+			return new RegNumber((RegNumber) parsed);
+		}
+		
+		/** return the value as a reference */
+		public RefValue getRefValue() {
+			Object parsed = parsedValue;
+			if (!(parsed instanceof RefValue)) {
+				parsed = new RefValue(value);
+				parsedValue = parsed;
+			}
+			return (RefValue) parsed;
 		}
 		
 		public int getDepth() {
@@ -303,10 +493,41 @@ public class PropertyList {
 		}
 	}
 	
+	/**
+	 *  reference property value split into instance path and deref
+	 */
+	public static class RefValue {
+		private final String instancePath;  // raw instance path of the reference
+		private final String deRef;  // deref or null if none
+		
+		private RefValue(String rawReference) {
+			Matcher m = refPattern.matcher(rawReference);
+			if (m.matches()) {
+				instancePath = m.group(1);
+				deRef = m.group(2);
+			}
+			else {
+				instancePath = rawReference;
+				deRef = null;
+			}
+		}
+		
+		/** return the raw instance path of the reference */
+		public String getInstancePath() {
+			return instancePath;
+		}
+		
+		/** return the deref of the reference or null if none */
+		public String getDeRef() {
+			return deRef;
+		}
+	}
+	
 	/**
 	 *  class for storage of dynamically assigned property values including depth param
 	 */
 	public class DynamicPropertyValue extends PropertyValue {
+		private static final long serialVersionUID = 1L;
 		int depth = 0;
 		
 		public DynamicPropertyValue(int depth) {
@@ -362,7 +583,10 @@ public class PropertyList {
 	public int hashCode() {
 		final int prime = 31;
 		int result = 1;
-		result = prime * result + ((values == null) ? 0 : values.hashCode());
+		// sum of name and value hashes, matching hash of a HashMap of values
+		int valuesHash = 0;
+		for (int idx=0; idx<size; idx++) valuesHash += values[idx].getName().hashCode() ^ values[idx].hashCode();
+		result = prime * result + valuesHash;
 		return result;
 	}
 
@@ -375,13 +599,13 @@ public class PropertyList {
 		if (getClass() != obj.getClass())
 			return false;
 		PropertyList other = (PropertyList) obj;
-		if (values == null) {
-			if (other.values != null)
-				return false;
-		} else if (!values.equals(other.values))
+		if (size != other.size)
 			return false;
+		for (int idx=0; idx<size; idx++) {
+			if (!values[idx].equals(other.getValue(values[idx].getName())))
+				return false;
+		}
 		return true;
 	}
 
 }
-
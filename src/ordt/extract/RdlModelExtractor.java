@@ -3,15 +3,18 @@
  */
 package ordt.extract;
 
-import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 import java.util.Stack;
+import java.util.regex.Pattern;
 
 import ordt.extract.model.ModAddressableInstance;
 import ordt.extract.model.ModComponent;
@@ -32,8 +35,11 @@ import ordt.parse.systemrdl.SystemRDLParser;
 import ordt.parse.systemrdl.SystemRDLParser.Component_inst_elemContext;
 
 import org.antlr.v4.runtime.ANTLRInputStream;
+import org.antlr.v4.runtime.CharStream;
 import org.antlr.v4.runtime.CommonTokenStream;
 import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.UnbufferedTokenStream;
 import org.antlr.v4.runtime.misc.NotNull;
 import org.antlr.v4.runtime.tree.ParseTree;
 import org.antlr.v4.runtime.tree.ParseTreeWalker;
@@ -54,6 +60,10 @@ public class RdlModelExtractor extends SystemRDLBaseListener implements RegModel
 	private PropertyList savedParms = new PropertyList();   // structure for saving parameters for assignment to comp/instances
 	
 	private static int anonCompId = 0;   // id for anonymous components
+	private static Set<Integer> streamingContainerRules = new HashSet<Integer>(Arrays.asList(SystemRDLParser.RULE_root, SystemRDLParser.RULE_component_def));  // rules walked incrementally in extractDuringParse
+	private static Set<Integer> streamingElementRules = new HashSet<Integer>(Arrays.asList(SystemRDLParser.RULE_component_def, SystemRDLParser.RULE_explicit_component_inst, 
+			SystemRDLParser.RULE_property_assign, SystemRDLParser.RULE_enum_def, SystemRDLParser.RULE_parameter_block, SystemRDLParser.RULE_property_definition));
+	private static Pattern userPropertyDefPattern = Pattern.compile("\\bproperty\\s+\\w+\\s*\\{");  // user property definition in rdl text
 	
 	private List<InstanceRef> rhsInstanceRef = new ArrayList<InstanceRef>();  // list of rhs refs in an assign for validity checking
 	
@@ -62,18 +72,76 @@ public class RdlModelExtractor extends SystemRDLBaseListener implements RegModel
 
 	private Stack<Integer> fieldOffsets = new Stack<Integer>(); // stack of offsets used to calculate fieldset widths
 
+	private ExtractStateChanges stateChanges = new ExtractStateChanges();  // parameter and defined property changes made by this extract
+
 	/** create data model from rdl file 
 	 * @param rdlFile to be parsed
 	 * @param moduleName to be used as default name for addrmap instances
 	 * */
 	public RdlModelExtractor (String rdlFile) {
+		this(rdlFile, parse(rdlFile));
+	}
+
+	/** extract model from a previously parsed rdl file */
+	public RdlModelExtractor (String rdlFile, ParsedInputFile parsedFile) {
         this.rdlInputFile = rdlFile;  // save rdl file
-       
-        try {
-        	InputStream is = System.in;
-        	if ( rdlFile!=null ) is = new FileInputStream(rdlInputFile);
+        if (parsedFile == null) return;  // parse failed
         
-        	ANTLRInputStream input = new ANTLRInputStream(is);
+    	ParseTreeWalker walker = new ParseTreeWalker(); // create standard
+    	walker.walk(this, parsedFile.getTree()); // initiate walk of tree with listener
+    	if (parsedFile.getSyntaxErrorCount() > 0) {
+    		MsgUtils.errorExit("RDL parser errors detected.");  
+    	}
+    	finishExtract();
+	}
+
+	/** extract model from an rdl file during parse so that a full parse tree is not held in memory.
+	 *  The file is first checked for syntax errors in a separate pass.  If errors are found, null
+	 *  is returned and the model should be extracted from a full parse so that errors are reported.
+	 * */
+	public static RdlModelExtractor extractDuringParse(String rdlFile) {
+		Set<String> userProperties = SystemRDLLexer.getUserProperties();  // lexer state prior to check
+		RdlModelExtractor extractor = null;
+		try {
+			SystemRDLParser parser = createStreamingParser(rdlFile);
+			boolean isValid = StreamingTreeWalker.check(parser, parser::root, rdlFile);
+			SystemRDLLexer.setUserProperties(userProperties);
+			if (!isValid) return null;
+			extractor = new RdlModelExtractor(rdlFile, (ParsedInputFile) null);
+			parser = createStreamingParser(rdlFile);
+			new StreamingTreeWalker(extractor, streamingContainerRules, streamingElementRules).parse(parser, parser::root, rdlFile);
+		} catch (FileNotFoundException e) {
+			MsgUtils.errorExit("rdl file not found. "  + e.getMessage());
+		} catch (IOException e) {
+			e.printStackTrace();
+			return null;
+		}
+		extractor.finishExtract();
+		return extractor;
+	}
+
+	/** create an rdl file parser using an unbuffered token stream */
+	private static SystemRDLParser createStreamingParser(String rdlFile) throws IOException {
+		SystemRDLLexer lexer = new SystemRDLLexer(MappedCharStream.open(rdlFile));
+		return new SystemRDLParser(new UnbufferedTokenStream<Token>(lexer));
+	}
+
+	/** complete extraction after the parse tree walk */
+	private void finishExtract() {
+    	// if components are specified for processing, find each and create an instance  
+    	if (ExtParameters.hasRdlProcessComponents()) processComponents();
+    	else if (root.getFirstChildInstance() == null)
+    		MsgUtils.errorExit("No rdl structures instanced or typedefs specified for processing.");
+
+    	//root.display(true);
+	}
+
+	/** parse an rdl file and return the resulting parse tree (null on read error).
+	 *  Parse does not modify the model, but user property definitions are recorded by the lexer so
+	 *  files that use properties defined in another file must be parsed after that file */
+	public static ParsedInputFile parse(String rdlFile) {
+        try {
+        	CharStream input = (rdlFile!=null)? MappedCharStream.open(rdlFile) : new ANTLRInputStream(System.in);
         	SystemRDLLexer lexer = new SystemRDLLexer(input);
 
         	// check input post lexer
@@ -91,26 +159,25 @@ public class RdlModelExtractor extends SystemRDLBaseListener implements RegModel
         	SystemRDLParser parser; // = new SystemRDLParser(null);
         	parser = new SystemRDLParser(tokens);
 
-        	ParseTree tree = parser.root(); //compilationUnit(); // parse
-        	//System.out.println(tree.toStringTree());
-        	ParseTreeWalker walker = new ParseTreeWalker(); // create standard
-        	walker.walk(this, tree); // initiate walk of tree with listener
-        	if (parser.getNumberOfSyntaxErrors() > 0) {
-        		MsgUtils.errorExit("RDL parser errors detected.");  
-        	}
-        	
-        	// if components are specified for processing, find each and create an instance  
-        	if (ExtParameters.hasRdlProcessComponents()) processComponents();
-        	else if (root.getFirstChildInstance() == null)
-        		MsgUtils.errorExit("No rdl structures instanced or typedefs specified for processing.");
-
-        	//root.display(true);
+        	return ParsedInputFile.parse(parser, parser::root, rdlFile);  // sll parse with ll fallback
 
         } catch (FileNotFoundException e) {
         	MsgUtils.errorExit("rdl file not found. "  + e.getMessage());
         } catch (IOException e) {
             e.printStackTrace();
-        }		
+        }
+        return null;
+	}
+
+	/** return true if the specified rdl file contains user property definitions (conservative text scan, so
+	 *  commented definitions will also match) */
+	public static boolean definesUserProperties(String rdlFile) {
+		try {
+			String text = new String(Files.readAllBytes(Paths.get(rdlFile)));
+			return userPropertyDefPattern.matcher(text).find();
+		} catch (IOException e) {
+			return true;  // assume dependency if file can't be scanned
+		}
 	}
 	
 
@@ -331,7 +398,7 @@ public class RdlModelExtractor extends SystemRDLBaseListener implements RegModel
 		// create a new instance
 		if (modComp != null) {
 			activeInstance = modComp.createNewInstance();  
-			activeInstance.updateProperties(savedParms.getProperties());   // add external, internal, alias_id settings from anon_comp_inst and expl_comp_inst
+			activeInstance.updateProperties(savedParms);   // add external, internal, alias_id settings from anon_comp_inst and expl_comp_inst
 			activeInstance.setInputLineNumber(ctx.getStart().getLine());
 			// extract parameters and update instance
 			activeInstance.setId(ctx.getChild(0).getText());  // set id to first child
@@ -729,7 +796,7 @@ public class RdlModelExtractor extends SystemRDLBaseListener implements RegModel
 		activeRules.remove(ctx.getRuleIndex());	
 		//System.out.println("RdlModelExtractor exitProperty_definition: name=" + usrPropertyName + ", type=" + usrPropertyType + ", default=" + usrPropertyDefault+ ", comps=" + usrPropertyComponents);
         // add the new property to defined list
-		DefinedProperties.addUserProperty(usrPropertyName, usrPropertyType, usrPropertyDefault, usrPropertyComponents);
+		stateChanges.addRdlUserProperty(usrPropertyName, usrPropertyType, usrPropertyDefault, usrPropertyComponents);
 	}
 
 	/**
@@ -803,29 +870,36 @@ public class RdlModelExtractor extends SystemRDLBaseListener implements RegModel
 	 * Assign global parameters
 	 */
 	@Override public void enterGlobal_parm_assign(@NotNull SystemRDLParser.Global_parm_assignContext ctx) {
-		ExtParameters.assignParameter(ctx.getChild(0).getText(), ctx.getChild(2).getText());
+		stateChanges.assignParameter(ctx.getChild(0).getText(), ctx.getChild(2).getText());
 	}
 	
 	/**
 	 * Assign rdl input parameters
 	 */
 	@Override public void enterRdl_in_parm_assign(@NotNull SystemRDLParser.Rdl_in_parm_assignContext ctx) { 
-		ExtParameters.assignParameter(ctx.getChild(0).getText(), ctx.getChild(2).getText());			
+		stateChanges.assignParameter(ctx.getChild(0).getText(), ctx.getChild(2).getText());			
 	}
 	
 	/**
 	 * Assign systemverilog output parameters
 	 */
 	@Override public void enterSystemverilog_out_parm_assign(@NotNull SystemRDLParser.Systemverilog_out_parm_assignContext ctx) {
-		ExtParameters.assignParameter(ctx.getChild(0).getText(), ctx.getChild(2).getText());		
+		stateChanges.assignParameter(ctx.getChild(0).getText(), ctx.getChild(2).getText());		
 	}
 	
 	/** 
 	 * Assign SystemVerilog wrapper module remap commands
 	 */
 	@Override public void enterSystemverilog_wrapper_remap_command(SystemRDLParser.Systemverilog_wrapper_remap_commandContext ctx) {
-		String cmdName = ctx.getChild(0).getText();
-		String signalPattern = ctx.getChild(1).getText();
+		stateChanges.addWrapperRemapCommand(ExtParameters.getChildTexts(ctx));
+	}
+	
+	/** 
+	 * Add a SystemVerilog wrapper module remap command given the text of each command token
+	 */
+	static void addWrapperRemapCommand(List<String> command) {
+		String cmdName = command.get(0);
+		String signalPattern = command.get(1);
 		WrapperRemapXform xf;
 		switch(cmdName) {
 		case ("set_passthru"): // 'set_passthru' STR
@@ -839,15 +913,15 @@ public class RdlModelExtractor extends SystemRDLBaseListener implements RegModel
 			//System.out.println("ExtParameters enterSystemverilog_wrapper_remap_command: adding pattern=" + signalPattern + ", " + xf.getType()); 
 			break;
 		case ("add_sync_stages"): // 'add_sync_stages' STR NUM ID? ID?
-			int delayStages = Integer.valueOf(ctx.getChild(2).getText());
-		    String clkName = (ctx.getChildCount()>3)? ctx.getChild(3).getText() : null;
-		    String moduleOverride = (ctx.getChildCount()>4)? ctx.getChild(4).getText() : null;
+			int delayStages = Integer.valueOf(command.get(2));
+		    String clkName = (command.size()>3)? command.get(3) : null;
+		    String moduleOverride = (command.size()>4)? command.get(4) : null;
 			xf = new WrapperRemapSyncStagesXform(delayStages, clkName, moduleOverride);  
 			ExtParameters.addWrapperXform(signalPattern, xf);
 			//System.out.println("ExtParameters enterSystemverilog_wrapper_remap_command: adding pattern=" + signalPattern + ", " + xf.getType());
 		    break;
 		default:
-			MsgUtils.errorExit("Unsupported RTL wrapper remap command (" + ctx.getText() + ") specified in parameters.");
+			MsgUtils.errorExit("Unsupported RTL wrapper remap command (" + String.join("", command) + ") specified in parameters.");
 			break;
 		}
 	}
@@ -856,48 +930,48 @@ public class RdlModelExtractor extends SystemRDLBaseListener implements RegModel
 	 * Assign rdl output parameters
 	 */
 	@Override public void enterRdl_out_parm_assign(@NotNull SystemRDLParser.Rdl_out_parm_assignContext ctx) { 
-		ExtParameters.assignParameter(ctx.getChild(0).getText(), ctx.getChild(2).getText());				
+		stateChanges.assignParameter(ctx.getChild(0).getText(), ctx.getChild(2).getText());				
 	}
 	
 	/**
 	 * Assign jspec output parameters
 	 */
 	@Override public void enterJspec_out_parm_assign(@NotNull SystemRDLParser.Jspec_out_parm_assignContext ctx) {
-		ExtParameters.assignParameter(ctx.getChild(0).getText(), ctx.getChild(2).getText());		
+		stateChanges.assignParameter(ctx.getChild(0).getText(), ctx.getChild(2).getText());		
 	}
 	
 	/**
 	 * Assign reglist output parameters
 	 */
 	@Override public void enterReglist_out_parm_assign(@NotNull SystemRDLParser.Reglist_out_parm_assignContext ctx) {
-		ExtParameters.assignParameter(ctx.getChild(0).getText(), ctx.getChild(2).getText());		
+		stateChanges.assignParameter(ctx.getChild(0).getText(), ctx.getChild(2).getText());		
 	}
 	
 	/**
 	 * Assign uvmregs output parameters
 	 */
 	@Override public void enterUvmregs_out_parm_assign(@NotNull SystemRDLParser.Uvmregs_out_parm_assignContext ctx) {
-		ExtParameters.assignParameter(ctx.getChild(0).getText(), ctx.getChild(2).getText());		
+		stateChanges.assignParameter(ctx.getChild(0).getText(), ctx.getChild(2).getText());		
 	}
 	
 	/**
 	 * Assign bench output parameters
 	 */
 	@Override public void enterBench_out_parm_assign(@NotNull SystemRDLParser.Bench_out_parm_assignContext ctx) {
-		ExtParameters.assignParameter(ctx.getChild(0).getText(), ctx.getChild(2).getText());		
+		stateChanges.assignParameter(ctx.getChild(0).getText(), ctx.getChild(2).getText());		
 	}
 	
 	/**
 	 * Assign xml output parameters
 	 */
 	@Override public void enterXml_out_parm_assign(SystemRDLParser.Xml_out_parm_assignContext ctx) {
-		ExtParameters.assignParameter(ctx.getChild(0).getText(), ctx.getChild(2).getText());		
+		stateChanges.assignParameter(ctx.getChild(0).getText(), ctx.getChild(2).getText());		
 	}
 	/**
 	 * Assign pydrvmod output parameters
 	 */
 	@Override public void enterPydrvmod_out_parm_assign(SystemRDLParser.Pydrvmod_out_parm_assignContext ctx) {
-		ExtParameters.assignParameter(ctx.getChild(0).getText(), ctx.getChild(2).getText());		
+		stateChanges.assignParameter(ctx.getChild(0).getText(), ctx.getChild(2).getText());		
 	}
 
 	/**
@@ -909,7 +983,7 @@ public class RdlModelExtractor extends SystemRDLBaseListener implements RegModel
 		     STR
 	 */
 	@Override public void enterAnnotation_command(@NotNull SystemRDLParser.Annotation_commandContext ctx) {
-		ExtParameters.processAnnotationCommand(ctx);
+		stateChanges.addAnnotationCommand(ExtParameters.getChildTexts(ctx));
 	}
 
     // ------------------------------ RegModelExtractor interface methods --------------------------------------
@@ -948,6 +1022,27 @@ public class RdlModelExtractor extends SystemRDLBaseListener implements RegModel
 		return true;
 	}
 
+	/** return parameter and defined property changes made by extract of this model */
+	public ExtractStateChanges getStateChanges() {
+		return stateChanges;
+	}
+
+	/** reset static extract state for a new run */
+	static void init() {
+		anonCompId = 0;
+		SystemRDLLexer.clearUserProperties();
+	}
+
+	/** get next anonymous component id */
+	static int getAnonCompId() {
+		return anonCompId;
+	}
+
+	/** set next anonymous component id (used when a model is loaded from cache) */
+	static void setAnonCompId(int anonCompId) {
+		RdlModelExtractor.anonCompId = anonCompId;
+	}
+
     // ------------------------------------------------------------------------------------------------
 	
 	/** inner class for carrying extracted rdl instance_ref info */
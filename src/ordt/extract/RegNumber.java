@@ -3,15 +3,17 @@
  */
 package ordt.extract;
 
+import java.io.Serializable;
 import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /** class representing a number for addressing/hw vectors */
-public class RegNumber implements Comparable<RegNumber> {
-	private BigInteger value;  // value stored
+public class RegNumber implements Comparable<RegNumber>, Serializable {
+	private static final long serialVersionUID = 1L;
+	private BigInteger value;  // value stored if it does not fit in a long
+	private long longValue;  // value stored if it fits in a long
+	private boolean isLong = false;  // value is held in longValue
 	public enum NumFormat {Verilog, NoLengthVerilog, Int, Address}  // the format used for display
 	private NumFormat numFormat;
 	public enum NumBase {Hex, Dec, Oct, Bin}    // the base used for display
@@ -36,69 +38,122 @@ public class RegNumber implements Comparable<RegNumber> {
      *      ;
      **/
 	public RegNumber (String numStr) {
-		if ((numStr == null) || (numStr.length()<1)) return;
-		// check for plain integers
-		Pattern p = Pattern.compile("^(\\d+)$");
-		Matcher m = p.matcher(numStr);
-		if (m.matches()) {
-		  this.value = new BigInteger(m.group(1));
-		  this.numFormat = NumFormat.Int;
-		  this.numBase = NumBase.Dec;
-		  this.vectorLen = null;
-		  return;
-		}
-		// check for hex number
-		p = Pattern.compile("^0x([\\d_[a-f][A-F]]+)$");
-		m = p.matcher(numStr);
-		if (m.matches()) {
-			String num = m.group(1).replace("_","");  // remove underscores
-			//if (!m.group(1).equals(num)) System.out.println("RegNumber constructor: removed '_', new=" + num);
-			//else System.out.println("RegNumber constructor: no '_', new=" + num);
-			this.value = new BigInteger(num, 16);
-			this.numFormat = NumFormat.Address;
-			this.numBase = NumBase.Hex;
-			this.vectorLen = null;
-		  return;
-		}
-		// check for bin number
-		p = Pattern.compile("^0b([_[0-1]]+)$");
-		m = p.matcher(numStr);
-		if (m.matches()) {
-			String num = m.group(1).replace("_","");  // remove underscores
-			this.value = new BigInteger(num, 2);
-			this.numFormat = NumFormat.Address;
-			this.numBase = NumBase.Hex;
-			this.vectorLen = null;
-		  return;
+		Literal literal = Literal.scan(numStr);
+		if (literal == null) return;
+		this.numFormat = literal.getNumFormat();
+		this.numBase = literal.getNumBase();
+		this.vectorLen = (literal.getVectorLenDigits() == null)? null : Integer.valueOf(literal.getVectorLenDigits());
+		setParsedValue(literal.getDigits(), literal.getRadix());
+	}
+	
+	/** numeric literal scanned in a single pass from a string of the form accepted by RegNumber(String) -
+	 *  a decimal integer, 0x hex or 0b binary address, or a verilog sized number */
+	public static class Literal {
+		private NumFormat numFormat;
+		private NumBase numBase;
+		private int radix;
+		private String digits;  // value digits with underscores removed
+		private String vectorLenDigits;  // decimal vector length digits of a verilog number
+		
+		private Literal(NumFormat numFormat, NumBase numBase, int radix, String digits, String vectorLenDigits) {
+			this.numFormat = numFormat;
+			this.numBase = numBase;
+			this.radix = radix;
+			this.digits = digits;
+			this.vectorLenDigits = vectorLenDigits;
 		}
-		// check for verilog number
-		p = Pattern.compile("^(\\d+)\\s*'\\s*([bdoh])\\s*([\\d_[a-f][A-F]]+)$");
-		m = p.matcher(numStr);
-		if (m.matches()) {
-			this.numFormat = NumFormat.Verilog;
-			this.vectorLen = Integer.valueOf(m.group(1));
-			String base = m.group(2);
-			String num = m.group(3).replace("_","");  // remove underscores
-			if ("h".equals(base)) {
-				this.numBase = NumBase.Hex;
-				this.value = new BigInteger(num, 16);
-			}
-			else if ("d".equals(base)) {
-				this.numBase = NumBase.Dec;
-				this.value = new BigInteger(num);
-			}
-			else if ("o".equals(base)) {
-				this.numBase = NumBase.Oct;
-				this.value = new BigInteger(num, 8);
+
+		/** scan a literal string, returning null if it is not a valid numeric literal */
+		public static Literal scan(String numStr) {
+			if ((numStr == null) || (numStr.length()<1)) return null;
+			int len = numStr.length();
+			int idx = 0;
+			while ((idx < len) && isDecDigit(numStr.charAt(idx))) idx++;
+			// check for plain integers
+			if (idx == len) return new Literal(NumFormat.Int, NumBase.Dec, 10, numStr, null);
+			if (idx == 0) return null;
+			// check for hex or bin number
+			if ((idx == 1) && (numStr.charAt(0) == '0') && ((numStr.charAt(1) == 'x') || (numStr.charAt(1) == 'b'))) {
+				int radix = (numStr.charAt(1) == 'x')? 16 : 2;
+				String digits = scanDigits(numStr, 2, radix);
+				return (digits == null)? null : new Literal(NumFormat.Address, NumBase.Hex, radix, digits, null);
 			}
-			else if ("b".equals(base)) {
-				this.numBase = NumBase.Bin;
-				this.value = new BigInteger(num, 2);
+			// check for verilog number
+			String vectorLenDigits = numStr.substring(0, idx);
+			idx = skipWhitespace(numStr, idx);
+			if ((idx == len) || (numStr.charAt(idx) != '\'')) return null;
+			idx = skipWhitespace(numStr, idx + 1);
+			if (idx == len) return null;
+			char base = numStr.charAt(idx);
+			NumBase numBase;
+			int radix;
+			if (base == 'h') { numBase = NumBase.Hex; radix = 16; }
+			else if (base == 'd') { numBase = NumBase.Dec; radix = 10; }
+			else if (base == 'o') { numBase = NumBase.Oct; radix = 8; }
+			else if (base == 'b') { numBase = NumBase.Bin; radix = 2; }
+			else return null;
+			String digits = scanDigits(numStr, skipWhitespace(numStr, idx + 1), 16);  // any base allows hex digit chars
+			return (digits == null)? null : new Literal(NumFormat.Verilog, numBase, radix, digits, vectorLenDigits);
+		}
+
+		/** return digits from start index to end of string with underscores removed, or null if none or a char is not a valid
+		 *  digit/underscore (only 0-1 for radix 2, else any hex digit) */
+		private static String scanDigits(String numStr, int start, int radix) {
+			int len = numStr.length();
+			if (start >= len) return null;
+			boolean hasUnderscore = false;
+			for (int idx=start; idx<len; idx++) {
+				char c = numStr.charAt(idx);
+				if (c == '_') hasUnderscore = true;
+				else if ((radix == 2)? ((c != '0') && (c != '1')) : !isHexDigit(c)) return null;
 			}
+			String digits = numStr.substring(start);
+			return hasUnderscore? digits.replace("_","") : digits;  // remove underscores
+		}
+
+		/** return index of first non-whitespace char at or after idx */
+		private static int skipWhitespace(String numStr, int idx) {
+			while ((idx < numStr.length()) && isWhitespace(numStr.charAt(idx))) idx++;
+			return idx;
+		}
+
+		private static boolean isDecDigit(char c) {
+			return (c >= '0') && (c <= '9');
+		}
+
+		private static boolean isHexDigit(char c) {
+			return isDecDigit(c) || ((c >= 'a') && (c <= 'f')) || ((c >= 'A') && (c <= 'F'));
+		}
+
+		/** return true for the chars matched by regex \s */
+		private static boolean isWhitespace(char c) {
+			return (c == ' ') || (c == '\t') || (c == '\n') || (c == '\u000B') || (c == '\f') || (c == '\r');
+		}
+
+		public NumFormat getNumFormat() {
+			return numFormat;
+		}
+
+		public NumBase getNumBase() {
+			return numBase;
+		}
+
+		/** return radix of the value digits */
+		public int getRadix() {
+			return radix;
+		}
+
+		/** return value digits with underscores removed */
+		public String getDigits() {
+			return digits;
+		}
+
+		/** return vector length digits of a verilog number or null */
+		public String getVectorLenDigits() {
+			return vectorLenDigits;
 		}
-		//else System.err.println("RegNumber: string matcher failed s=" + numStr + ", len=" + numStr.length());
 	}
-	
+
 	/** create a regnumber from an integer */
 	public RegNumber (int num) {
 		//this(String.valueOf(num));
@@ -108,7 +163,7 @@ public class RegNumber implements Comparable<RegNumber> {
 	/** create a regnumber from a long */
 	public RegNumber(long num) {
 		//this(String.valueOf(num));
-		this.value = BigInteger.valueOf(num);
+		setLongValue(num);
 		this.numFormat = NumFormat.Int;
 		this.numBase = NumBase.Dec;
 		this.vectorLen = null;
@@ -118,6 +173,8 @@ public class RegNumber implements Comparable<RegNumber> {
 	public RegNumber (RegNumber num) {
 		  if (num == null) return;
 		  this.value = num.value;
+		  this.longValue = num.longValue;
+		  this.isLong = num.isLong;
 		  this.numFormat = num.numFormat;
 		  this.numBase = num.numBase;
 		  this.vectorLen = num.vectorLen;
@@ -199,7 +256,10 @@ public class RegNumber implements Comparable<RegNumber> {
 		  
 		  // there should be only 1 expr elem remaining
 		  if (expr.size() == 1) {
-			  this.value = expr.get(0).getValue();
+			  RegNumber result = expr.get(0);
+			  this.value = result.value;
+			  this.longValue = result.longValue;
+			  this.isLong = result.isLong;
 			  this.numBase = NumBase.Hex;  // default to hex/address format
 			  this.numFormat = NumFormat.Address;
 		  }
@@ -209,7 +269,7 @@ public class RegNumber implements Comparable<RegNumber> {
 	 *  @return boolean
 	 */
 	public boolean isDefined() {
-		return (value != null);
+		return isLong || (value != null);
 	}
 	
 	/** return true if value and vectorLen are defined
@@ -223,14 +283,53 @@ public class RegNumber implements Comparable<RegNumber> {
 	 *  @return the value
 	 */
 	public BigInteger getValue() {
-		return value;
+		return isLong? BigInteger.valueOf(longValue) : value;
 	}
 
 	/** set value
 	 *  @param value the value to set
 	 */
 	public void setValue(BigInteger value) {
-		this.value = value;
+		if ((value != null) && (value.bitLength() < 64)) setLongValue(value.longValue());
+		else {
+			this.value = value;
+			this.isLong = false;
+		}
+	}
+
+	/** set value to that of another regnumber, keeping current format/base settings */
+	public void setValue(RegNumber num) {
+		this.value = num.value;
+		this.longValue = num.longValue;
+		this.isLong = num.isLong;
+	}
+
+	/** set a value that fits in a long */
+	private void setLongValue(long value) {
+		this.longValue = value;
+		this.value = null;
+		this.isLong = true;
+	}
+
+	/** set value from a string of digits in the specified radix, avoiding BigInteger if the value fits in a long */
+	private void setParsedValue(String num, int radix) {
+		if (num.length() <= maxLongDigits(radix)) setLongValue(Long.parseLong(num, radix));
+		else setValue(new BigInteger(num, radix));
+	}
+
+	/** return max number of digits in specified radix that always fit in a signed long */
+	private static int maxLongDigits(int radix) {
+		return (radix == 16)? 15 : (radix == 10)? 18 : (radix == 8)? 20 : 62;
+	}
+
+	/** return number of bits needed to represent a long value excluding sign, matching BigInteger.bitLength */
+	private static int bitLength(long val) {
+		return 64 - Long.numberOfLeadingZeros((val < 0)? ~val : val);
+	}
+
+	/** return string of value in specified radix */
+	private String valueString(int radix) {
+		return isLong? Long.toString(longValue, radix) : value.toString(radix);
 	}
 
 	/** get numFormat
@@ -286,19 +385,19 @@ public class RegNumber implements Comparable<RegNumber> {
 		if ((numFormat == NumFormat.Verilog) || (numFormat == NumFormat.NoLengthVerilog)) {
 			String vectorLenStr = (numFormat == NumFormat.NoLengthVerilog) ? "" : vectorLen.toString();
 			if (numBase == NumBase.Bin)
-			   return vectorLenStr + "\'b" + value.toString(2);   // binary
+			   return vectorLenStr + "\'b" + valueString(2);   // binary
 			if (numBase == NumBase.Oct)
-			   return vectorLenStr + "\'o" + value.toString(8);   // octal
+			   return vectorLenStr + "\'o" + valueString(8);   // octal
 			if (numBase == NumBase.Dec)
-			   return vectorLenStr + "\'d" + value.toString(10);   // decimal
-		   return vectorLenStr + "\'h" + value.toString(16);   // default to hex
+			   return vectorLenStr + "\'d" + valueString(10);   // decimal
+		   return vectorLenStr + "\'h" + valueString(16);   // default to hex
 		}
 		else if (numFormat == NumFormat.Address) { 
-			return "0x" + value.toString(16);   // hex address output format
+			return "0x" + valueString(16);   // hex address output format
 		}
 		else {
-			if (numBase == NumBase.Hex) return value.toString(16);
-			return value.toString();  // integer format
+			if (numBase == NumBase.Hex) return valueString(16);
+			return valueString(10);  // integer format
 		}
 	}
 
@@ -309,12 +408,25 @@ public class RegNumber implements Comparable<RegNumber> {
 	 * @return false if add failed */
 	public boolean add(RegNumber inc) {
 		if (inc == null) return false;
+		else if (inc.isLong) addLong(inc.longValue);
 		else setValue(getValue().add(inc.getValue()));
 		return true;
 	}
 
 	public void add(Integer inc) {
-		add(new RegNumber(inc));	
+		addLong(inc);
+	}
+
+	/** add a long to the value, promoting to BigInteger on overflow */
+	private void addLong(long inc) {
+		if (isLong) {
+			long sum = longValue + inc;
+			if (((longValue ^ sum) & (inc ^ sum)) >= 0) {  // no overflow
+				longValue = sum;
+				return;
+			}
+		}
+		setValue(getValue().add(BigInteger.valueOf(inc)));
 	}
 
 	/** subtract arg value from base value keeping current format/base settings 
@@ -322,12 +434,25 @@ public class RegNumber implements Comparable<RegNumber> {
 	 * @return false if add failed */
 	public boolean subtract(RegNumber dec) {
 		if (dec == null) return false;
+		else if (dec.isLong) subtractLong(dec.longValue);
 		else setValue(getValue().subtract(dec.getValue()));
 		return true;
 	}
 
 	public void subtract(Integer dec) {
-		subtract(new RegNumber(dec));			
+		subtractLong(dec);
+	}
+
+	/** subtract a long from the value, promoting to BigInteger on overflow */
+	private void subtractLong(long dec) {
+		if (isLong) {
+			long diff = longValue - dec;
+			if (((longValue ^ dec) & (longValue ^ diff)) >= 0) {  // no overflow
+				longValue = diff;
+				return;
+			}
+		}
+		setValue(getValue().subtract(BigInteger.valueOf(dec)));
 	}
 
 	/** raise base value to power of arg value keeping current format/base settings 
@@ -353,6 +478,7 @@ public class RegNumber implements Comparable<RegNumber> {
 	 * @return false if or failed */
 	private boolean or(RegNumber rhs) {
 		if (rhs == null) return false;
+		else if (isLong && rhs.isLong) longValue |= rhs.longValue;
 		else setValue(getValue().or(rhs.getValue()));
 		return true;
 	}
@@ -363,6 +489,7 @@ public class RegNumber implements Comparable<RegNumber> {
 	private boolean and(RegNumber rhs) {
 		//System.out.println("RegNumber and, lhs=" + this + ", rhs=" + rhs);
 		if (rhs == null) return false;
+		else if (isLong && rhs.isLong) longValue &= rhs.longValue;
 		else setValue(getValue().and(rhs.getValue()));
 		return true;
 	}
@@ -372,6 +499,7 @@ public class RegNumber implements Comparable<RegNumber> {
 	 * @return false if shift failed */
 	public boolean lshift(Integer rhs) {
 		if (rhs == null) return false;
+		else if (isLong && (rhs >= 0) && (rhs < 64) && (((longValue << rhs) >> rhs) == longValue)) longValue <<= rhs;  // no bits shifted out
 		else setValue(getValue().shiftLeft(rhs));
 		return true;		
 	}
@@ -381,6 +509,7 @@ public class RegNumber implements Comparable<RegNumber> {
 	 * @return false if shift failed */
 	public boolean rshift(Integer rhs) {
 		if (rhs == null) return false;
+		else if (isLong && (rhs >= 0)) longValue = longValue >> Math.min(rhs, 63);
 		else setValue(getValue().shiftRight(rhs));
 		return true;		
 	}
@@ -390,7 +519,7 @@ public class RegNumber implements Comparable<RegNumber> {
 	 * @return false if add failed */
 	public boolean multiply(Integer mult) {
 		if (mult == null) return false;
-		else setValue(getValue().multiply(BigInteger.valueOf(mult)));
+		else multiplyLong(mult);
 		return true;
 	}
 
@@ -399,7 +528,7 @@ public class RegNumber implements Comparable<RegNumber> {
 	 * @return false if add failed */
 	public boolean divide(Integer divisor) {
 		if (divisor == null) return false;
-		else setValue(getValue().divide(BigInteger.valueOf(divisor)));
+		else divideLong(divisor);
 		return true;
 	}
 	
@@ -408,15 +537,36 @@ public class RegNumber implements Comparable<RegNumber> {
 	 * @return false if add failed */
 	public boolean multiply(RegNumber mult) {
 		if ((mult == null) || !mult.isDefined()) return false;
+		else if (mult.isLong) multiplyLong(mult.longValue);
 		else setValue(getValue().multiply(mult.getValue()));
 		return true;
 	}
 
+	/** multiply the value by a long, promoting to BigInteger on overflow */
+	private void multiplyLong(long mult) {
+		if (isLong) {
+			long product = longValue * mult;
+			if ((((Math.abs(longValue) | Math.abs(mult)) >>> 31) == 0) ||  // both fit in 31b so no overflow
+				((mult != 0) && (product / mult == longValue) && !((longValue == Long.MIN_VALUE) && (mult == -1)))) {
+				longValue = product;
+				return;
+			}
+		}
+		setValue(getValue().multiply(BigInteger.valueOf(mult)));
+	}
+
+	/** divide the value by a long */
+	private void divideLong(long divisor) {
+		if (isLong && (divisor != 0) && !((longValue == Long.MIN_VALUE) && (divisor == -1))) longValue = longValue / divisor;
+		else setValue(getValue().divide(BigInteger.valueOf(divisor)));
+	}
+
 	/** divide by regnumber arg value keeping current format/base settings 
 	 *  NOTE: this method modifies the calling RegNumber 
 	 * @return false if add failed */
 	public boolean divide(RegNumber divisor) {
 		if ((divisor == null) || !divisor.isDefined()) return false;
+		else if (divisor.isLong) divideLong(divisor.longValue);
 		else setValue(getValue().divide(divisor.getValue()));
 		return true;
 	}
@@ -426,11 +576,10 @@ public class RegNumber implements Comparable<RegNumber> {
 	/** set value of this regnum to next highest power of 2 
 	 *  NOTE: this method modifies the calling RegNumber */
 	public void setNextHighestPowerOf2() {
-		BigInteger newValue = BigInteger.valueOf((long) 0);
 		int idx = this.getMinusOneHighestBit() + 1;
 		if (idx<1) return;
-		newValue = newValue.setBit(idx);
-		this.value = newValue;
+		if (idx < 63) setLongValue(1L << idx);
+		else setValue(BigInteger.ZERO.setBit(idx));
 	}
 	
 	/** return a regnumber w/ value of next highest power of 2 of this regnumber */
@@ -446,15 +595,16 @@ public class RegNumber implements Comparable<RegNumber> {
 	public boolean isModulus(RegNumber modValue) {
 		if (modValue == null) return false;
 		// calculate the remainder, if 0 we're done
+		if (isLong && modValue.isLong && (modValue.longValue > 0)) return Math.floorMod(longValue, modValue.longValue) == 0;
 		BigInteger rem = getValue().mod(modValue.getValue()); 
-		return (rem.compareTo(new BigInteger("0")) == 0); 
+		return (rem.signum() == 0); 
 	}
 	
 	/** return true is RegNumber mod modValue == 0 
 	 * @param modValue Integer
 	 * @return true if this regnumber mod modValue == 0 */
 	public boolean isModulus(Integer modValue) {
-		return isModulus(new RegNumber(String.valueOf(modValue))); 
+		return isModulus(new RegNumber(modValue)); 
 	}
 	
 	/** modify value to round up to next integer value with mod == 0 
@@ -462,8 +612,15 @@ public class RegNumber implements Comparable<RegNumber> {
 	public void roundUpToModulus(RegNumber modValue) {
 		if (modValue == null) return;
 		// calculate the remainder, if 0 we're done
+		if (isLong && modValue.isLong && (modValue.longValue > 0)) {
+			long rem = Math.floorMod(longValue, modValue.longValue);
+			if (rem == 0) return;
+			subtractLong(rem);
+			addLong(modValue.longValue);
+			return;
+		}
 		BigInteger rem = getValue().mod(modValue.getValue()); 
-		if (rem.compareTo(new BigInteger("0")) == 0) return; 
+		if (rem.signum() == 0) return; 
 		// otherwise need to remove remainder and bump up by mod value
 		//System.out.println("value=" + this + ", modValue=" + modValue + ", rem=" + rem);
 		setValue(getValue().subtract(rem));
@@ -487,6 +644,7 @@ public class RegNumber implements Comparable<RegNumber> {
 	/** RegNumber comparisons based on value */
     @Override
 	public int compareTo(RegNumber arg0) {
+		if (isLong && arg0.isLong) return Long.compare(longValue, arg0.longValue);
 		return this.getValue().compareTo(arg0.getValue());
 	}
 
@@ -507,12 +665,14 @@ public class RegNumber implements Comparable<RegNumber> {
 	
 	/** return index of highest set bit in binary representation of value */  
     public int getHighestBit () {   
+		if (isLong) return bitLength(longValue) - 1;
 		return this.getValue().bitLength() - 1;
 	}
     
 	/** return index of highest set bit in binary representation of value minus 1 */   
     public int getMinusOneHighestBit () {   
-    	BigInteger valMinus1 = this.getValue().subtract(new BigInteger("1"));
+    	if (isLong && (longValue != Long.MIN_VALUE)) return bitLength(longValue - 1) - 1;
+    	BigInteger valMinus1 = this.getValue().subtract(BigInteger.ONE);
 		return valMinus1.bitLength() - 1;
 	}
 
@@ -565,12 +725,14 @@ public class RegNumber implements Comparable<RegNumber> {
 	
     /** return true if value of this RegNumber is non-zero */
 	public boolean isNonZero() {
+		if (isLong) return (Long.bitCount((longValue < 0)? ~longValue : longValue) > 0);  // matches BigInteger.bitCount
 		return (getValue().bitCount() > 0);
 	}
 
 	/** return integer rep of this regnumber or null if unable to successfully convert */
 	public Integer toInteger() {
 		// try integer conversion
+		if (isLong) return ((longValue >= Integer.MIN_VALUE) && (longValue <= Integer.MAX_VALUE))? Integer.valueOf((int) longValue) : null;
 		Integer retVal = null;
 		try {
 			if (isDefined()) retVal = Integer.valueOf(toFormat(NumBase.Dec, NumFormat.Int));
@@ -583,6 +745,7 @@ public class RegNumber implements Comparable<RegNumber> {
 	/** return long rep of this regnumber or null if unable to successfully convert */
 	public long toLong() {
 		// try integer conversion
+		if (isLong) return longValue;
 		Long retVal = null;
 		try {
 			if (isDefined()) retVal = Long.valueOf(toFormat(NumBase.Dec, NumFormat.Int));
@@ -599,7 +762,7 @@ public class RegNumber implements Comparable<RegNumber> {
 		int result = 1;
 		result = prime * result + ((numBase == null) ? 0 : numBase.hashCode());
 		result = prime * result + ((numFormat == null) ? 0 : numFormat.hashCode());
-		result = prime * result + ((value == null) ? 0 : value.hashCode());
+		result = prime * result + (isDefined() ? getValue().hashCode() : 0);
 		result = prime * result + ((vectorLen == null) ? 0 : vectorLen.hashCode());
 		return result;
 	}
@@ -617,6 +780,8 @@ public class RegNumber implements Comparable<RegNumber> {
 			return false;
 		if (numFormat != other.numFormat)
 			return false;
+		if ((isLong != other.isLong) || (longValue != other.longValue))  // values are held as long whenever they fit
+			return false;
 		if (value == null) {
 			if (other.value != null)
 				return false;
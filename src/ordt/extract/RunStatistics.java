@@ -0,0 +1,243 @@
+/*
+ * Copyright (c) 2016 Juniper Networks, Inc. All rights reserved.
+ */
+package ordt.extract;
+
+import java.io.BufferedWriter;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+import ordt.output.OutputBuilder;
+import ordt.output.common.MsgUtils;
+
+/** wall time, cpu time and allocation statistics of each phase of an ordt run.
+ *  Cpu time and allocation are measured for the thread running a phase, so phases running in
+ *  parallel worker threads are reported separately.  If enabled, each completed phase is also
+ *  committed as a jfr event (if jfr is available in the jvm) and a json summary of all phases is
+ *  written at the end of the run. */
+public class RunStatistics {
+	private static boolean enabled = false;
+	private static String statsFileName = null;   // json output file
+	private static List<Phase> phases = new ArrayList<Phase>();   // phases in start order
+	private static ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+
+	/** reset statistics for a new run */
+	public static void init() {
+		enabled = false;
+		statsFileName = null;
+		synchronized (phases) { phases.clear(); }
+	}
+
+	/** enable collection of statistics, with a json summary written to the specified file */
+	public static void enable(String fileName) {
+		enabled = true;
+		statsFileName = fileName;
+		if (threadBean.isThreadCpuTimeSupported() && !threadBean.isThreadCpuTimeEnabled()) threadBean.setThreadCpuTimeEnabled(true);
+	}
+
+	/** return true if statistics are being collected */
+	public static boolean isEnabled() {
+		return enabled;
+	}
+
+	/** start a phase of this run
+	 * @param name - name of the phase
+	 * @param target - input file or output type processed by the phase
+	 * @return the started phase or null if statistics are not enabled
+	 */
+	public static Phase startPhase(String name, Object target) {
+		if (!enabled) return null;
+		Phase phase = new Phase(name, String.valueOf(target));
+		synchronized (phases) { phases.add(phase); }
+		return phase;
+	}
+
+	/** end a phase started by startPhase (no action if phase is null) */
+	public static void endPhase(Phase phase) {
+		if (phase != null) phase.end();
+	}
+
+	/** end a builder phase and save the visit counts of the builder (no action if phase is null) */
+	public static void endPhase(Phase phase, OutputBuilder builder) {
+		if (phase == null) return;
+		if (builder != null) phase.visitCounts = builder.getVisitCounts();
+		phase.end();
+	}
+
+	/** write the json summary of this run if enabled */
+	public static void writeSummary() {
+		if (!enabled || (statsFileName == null)) return;
+		List<Phase> phaseList;
+		synchronized (phases) { phaseList = new ArrayList<Phase>(phases); }
+		try {
+			BufferedWriter bw = new BufferedWriter(new FileWriter(statsFileName));
+			bw.write("{\n");
+			bw.write("  \"version\": " + jsonString(Ordt.getVersion()) + ",\n");
+			bw.write("  \"phases\": [");
+			for (int idx=0; idx<phaseList.size(); idx++) {
+				bw.write((idx == 0)? "\n" : ",\n");
+				bw.write("    " + phaseList.get(idx).toJson());
+			}
+			bw.write("\n  ]\n");
+			bw.write("}\n");
+			bw.close();
+		} catch (IOException e) {
+			MsgUtils.warnMessage("Unable to write statistics file " + statsFileName + ": " + e.getMessage());
+		}
+	}
+
+	/** return a quoted json string */
+	private static String jsonString(String str) {
+		StringBuilder sb = new StringBuilder("\"");
+		for (char c: str.toCharArray()) {
+			if ((c == '"') || (c == '\\')) sb.append('\\').append(c);
+			else if (c < 0x20) sb.append(String.format("\\u%04x", (int) c));
+			else sb.append(c);
+		}
+		return sb.append('"').toString();
+	}
+
+	/** return cpu time of the current thread in ns (-1 if not supported) */
+	private static long getThreadCpuTime() {
+		return threadBean.isCurrentThreadCpuTimeSupported()? threadBean.getCurrentThreadCpuTime() : -1;
+	}
+
+	/** return bytes allocated by the current thread (-1 if not supported) */
+	private static long getThreadAllocatedBytes() {
+		if (threadBean instanceof com.sun.management.ThreadMXBean) {
+			com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean) threadBean;
+			if (bean.isThreadAllocatedMemorySupported() && bean.isThreadAllocatedMemoryEnabled())
+				return bean.getThreadAllocatedBytes(Thread.currentThread().getId());
+		}
+		return -1;
+	}
+
+	/** statistics of a single phase */
+	public static class Phase {
+		private String name;
+		private String target;
+		private String thread;
+		private long startTime;
+		private long startCpuTime;
+		private long startAllocatedBytes;
+		private long wallTime = -1;
+		private long cpuTime = -1;
+		private long allocatedBytes = -1;
+		private int[] visitCounts;   // builder register, field, regset and replication visits
+		private Object event;   // jfr event of this phase (null if jfr is not available)
+
+		private Phase(String name, String target) {
+			this.name = name;
+			this.target = target;
+			this.thread = Thread.currentThread().getName();
+			this.event = PhaseEvents.begin();
+			this.startAllocatedBytes = getThreadAllocatedBytes();
+			this.startCpuTime = getThreadCpuTime();
+			this.startTime = System.nanoTime();
+		}
+
+		private void end() {
+			wallTime = System.nanoTime() - startTime;
+			long endCpuTime = getThreadCpuTime();
+			if ((startCpuTime >= 0) && (endCpuTime >= 0)) cpuTime = endCpuTime - startCpuTime;
+			long endAllocatedBytes = getThreadAllocatedBytes();
+			if ((startAllocatedBytes >= 0) && (endAllocatedBytes >= 0)) allocatedBytes = endAllocatedBytes - startAllocatedBytes;
+			if (visitCounts != null)
+				PhaseEvents.end(event, name, target, cpuTime, allocatedBytes, visitCounts[0], visitCounts[1], visitCounts[2], visitCounts[3]);
+			else PhaseEvents.end(event, name, target, cpuTime, allocatedBytes, 0, 0, 0, 0);
+		}
+
+		/** return json representation of this phase */
+		private String toJson() {
+			StringBuilder sb = new StringBuilder();
+			sb.append("{\"phase\": ").append(jsonString(name));
+			sb.append(", \"target\": ").append(jsonString(target));
+			sb.append(", \"thread\": ").append(jsonString(thread));
+			sb.append(", \"wall_ns\": ").append(wallTime);
+			sb.append(", \"cpu_ns\": ").append(cpuTime);
+			sb.append(", \"allocated_bytes\": ").append(allocatedBytes);
+			if (visitCounts != null) {
+				sb.append(", \"registers\": ").append(visitCounts[0]);
+				sb.append(", \"fields\": ").append(visitCounts[1]);
+				sb.append(", \"regsets\": ").append(visitCounts[2]);
+				sb.append(", \"replications\": ").append(visitCounts[3]);
+			}
+			return sb.append("}").toString();
+		}
+	}
+
+	/** jfr events recorded for each completed phase. The jfr api is accessed reflectively using an
+	 *  EventFactory, so ordt builds and runs on jvms without jdk.jfr (events are then not recorded) */
+	private static class PhaseEvents {
+		private static final String[] fieldNames = {"phase", "target", "cpuTime", "allocatedBytes", "registers", "fields", "regSets", "replications"};
+		private static final String[] fieldLabels = {"Phase", "Target", "Cpu Time (ns)", "Allocated Bytes", 
+				"Registers Visited", "Fields Visited", "Register Sets Visited", "Replications Visited"};
+		private static final Class<?>[] fieldTypes = {String.class, String.class, long.class, long.class, int.class, int.class, int.class, int.class};
+		private static Object factory;   // jdk.jfr.EventFactory of phase events (null if jfr is not available)
+		private static Method newEvent, begin, end, shouldCommit, set, commit;
+
+		static {
+			try {
+				Class<?> annotationElementClass = Class.forName("jdk.jfr.AnnotationElement");
+				Class<?> valueDescriptorClass = Class.forName("jdk.jfr.ValueDescriptor");
+				Class<?> eventFactoryClass = Class.forName("jdk.jfr.EventFactory");
+				Class<?> eventClass = Class.forName("jdk.jfr.Event");
+				Constructor<?> newAnnotation = annotationElementClass.getConstructor(Class.class, Object.class);
+				Constructor<?> newValueDescriptor = valueDescriptorClass.getConstructor(Class.class, String.class, List.class);
+				List<Object> eventAnnotations = new ArrayList<Object>();
+				eventAnnotations.add(newAnnotation.newInstance(Class.forName("jdk.jfr.Name"), "ordt.Phase"));
+				eventAnnotations.add(newAnnotation.newInstance(Class.forName("jdk.jfr.Label"), "Ordt Phase"));
+				eventAnnotations.add(newAnnotation.newInstance(Class.forName("jdk.jfr.Category"), new String[] {"Ordt"}));
+				List<Object> fields = new ArrayList<Object>();
+				for (int idx=0; idx<fieldNames.length; idx++) {
+					List<Object> fieldAnnotations = new ArrayList<Object>();
+					fieldAnnotations.add(newAnnotation.newInstance(Class.forName("jdk.jfr.Label"), fieldLabels[idx]));
+					fields.add(newValueDescriptor.newInstance(fieldTypes[idx], fieldNames[idx], fieldAnnotations));
+				}
+				Object newFactory = eventFactoryClass.getMethod("create", List.class, List.class).invoke(null, eventAnnotations, fields);
+				newEvent = eventFactoryClass.getMethod("newEvent");
+				begin = eventClass.getMethod("begin");
+				end = eventClass.getMethod("end");
+				shouldCommit = eventClass.getMethod("shouldCommit");
+				set = eventClass.getMethod("set", int.class, Object.class);
+				commit = eventClass.getMethod("commit");
+				factory = newFactory;
+			} catch (Exception e) {
+				factory = null;  // jfr not available
+			} catch (LinkageError e) {
+				factory = null;
+			}
+		}
+
+		/** create and begin a phase event (returns null if jfr is not available) */
+		private static Object begin() {
+			if (factory == null) return null;
+			try {
+				Object event = newEvent.invoke(factory);
+				begin.invoke(event);
+				return event;
+			} catch (Exception e) {
+				return null;
+			}
+		}
+
+		/** end a phase event and commit it if enabled in the active recording */
+		private static void end(Object event, Object... values) {
+			if (event == null) return;
+			try {
+				end.invoke(event);
+				if (!(Boolean) shouldCommit.invoke(event)) return;
+				for (int idx=0; idx<values.length; idx++) set.invoke(event, idx, values[idx]);
+				commit.invoke(event);
+			} catch (Exception e) {
+				// event is dropped
+			}
+		}
+	}
+}
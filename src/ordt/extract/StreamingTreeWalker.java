@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2016 Juniper Networks, Inc. All rights reserved.
+ */
+package ordt.extract;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.antlr.v4.runtime.BailErrorStrategy;
+import org.antlr.v4.runtime.BaseErrorListener;
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.Parser;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.RecognitionException;
+import org.antlr.v4.runtime.Recognizer;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
+import org.antlr.v4.runtime.tree.ErrorNode;
+import org.antlr.v4.runtime.tree.ParseTreeListener;
+import org.antlr.v4.runtime.tree.ParseTreeWalker;
+import org.antlr.v4.runtime.tree.RuleNode;
+import org.antlr.v4.runtime.tree.TerminalNode;
+
+import ordt.output.common.MsgUtils;
+import ordt.parameters.ExtParameters;
+
+/** parse listener that walks a parse tree with an extract listener while the tree is being built.
+ *  Each completed element rule in a container rule is walked and then pruned from the tree, so the tree holds only
+ *  the elements being parsed rather than the whole input.  Listener callbacks are made in the same order as a
+ *  ParseTreeWalker walk of the full tree.  Container rules are entered when their first element completes, so their
+ *  enter callbacks may only use children preceding their elements and exit callbacks may not use element children. */
+public class StreamingTreeWalker implements ParseTreeListener {
+	private ParseTreeListener listener;  // extract listener
+	private Set<Integer> containerRules;  // rules whose elements are walked as completed
+	private Set<Integer> elementRules;  // rules walked as completed if in a container
+	private Map<ParserRuleContext, Integer> walkedChildren = new IdentityHashMap<ParserRuleContext, Integer>();  // entered contexts and count of their walked children
+	private Walker walker = new Walker();
+
+	/** create a streaming walker
+	 * @param listener - listener receiving walk callbacks
+	 * @param containerRules - indices of rules whose element children can be walked when completed
+	 * @param elementRules - indices of rules that are walked and pruned when completed in a container
+	 */
+	public StreamingTreeWalker(ParseTreeListener listener, Set<Integer> containerRules, Set<Integer> elementRules) {
+		this.listener = listener;
+		this.containerRules = containerRules;
+		this.elementRules = elementRules;
+	}
+
+	/** check an input for syntax errors without building a parse tree.  The check uses sll prediction if use_sll_parse
+	 *  is set and stops at the first lexer or parser error without messages.
+	 * @param parser - parser of the input
+	 * @param startRule - start rule of parser
+	 * @param inputFile - name of the input file (used for statistics)
+	 * @return true if the input was parsed without error
+	 */
+	public static boolean check(Parser parser, ParsedInputFile.StartRule startRule, String inputFile) {
+		final boolean[] lexerError = {false};
+		Lexer lexer = (Lexer) parser.getInputStream().getTokenSource();
+		lexer.removeErrorListeners();
+		lexer.addErrorListener(new BaseErrorListener() {
+			@Override
+			public void syntaxError(Recognizer<?, ?> recognizer, Object offendingSymbol, int line, int charPositionInLine, String msg, RecognitionException e) {
+				lexerError[0] = true;
+			}
+		});
+		setBailMode(parser);
+		parser.setBuildParseTree(false);
+		RunStatistics.Phase phase = RunStatistics.startPhase("parse_check", inputFile);
+		try {
+			startRule.parse();
+		} catch (ParseCancellationException e) {
+			return false;
+		} finally {
+			RunStatistics.endPhase(phase);
+		}
+		return !lexerError[0];
+	}
+
+	/** parse an input that has passed check, walking the tree with this walker's listener */
+	public void parse(Parser parser, ParsedInputFile.StartRule startRule, String inputFile) {
+		setBailMode(parser);
+		parser.addParseListener(this);
+		try {
+			startRule.parse();
+		} catch (ParseCancellationException e) {
+			MsgUtils.errorExit("Streaming parse of " + inputFile + " failed after syntax check.");
+		}
+	}
+
+	/** set parser to bail on the first syntax error without messages */
+	private static void setBailMode(Parser parser) {
+		parser.getInterpreter().setPredictionMode(ExtParameters.useSllParse()? PredictionMode.SLL : PredictionMode.LL);
+		parser.removeErrorListeners();
+		parser.setErrorHandler(new BailErrorStrategy());
+	}
+
+	// ------------------- ParseTreeListener methods
+
+	@Override
+	public void visitTerminal(TerminalNode node) {
+	}
+
+	@Override
+	public void visitErrorNode(ErrorNode node) {
+	}
+
+	@Override
+	public void enterEveryRule(ParserRuleContext ctx) {
+	}
+
+	/** walk a completed element or root context */
+	@Override
+	public void exitEveryRule(ParserRuleContext ctx) {
+		ParserRuleContext parent = ctx.getParent();
+		if (parent == null) {
+			finish(ctx);  // walk remainder of the root
+		}
+		else if (elementRules.contains(ctx.getRuleIndex()) && isContainerPath(parent)) {
+			enter(parent);
+			walkChildren(parent, parent.getChildCount() - 1);  // walk children preceding this element
+			finish(ctx);
+			parent.children.remove(parent.getChildCount() - 1);  // prune the walked element
+			walkedChildren.put(parent, parent.getChildCount());
+		}
+	}
+
+	/** return true if ctx and all its ancestors are containers */
+	private boolean isContainerPath(ParserRuleContext ctx) {
+		for (ParserRuleContext anc = ctx; anc != null; anc = anc.getParent())
+			if (!containerRules.contains(anc.getRuleIndex())) return false;
+		return true;
+	}
+
+	/** enter ctx if not already entered, after entering its ancestors and walking its preceding siblings */
+	private void enter(ParserRuleContext ctx) {
+		if (walkedChildren.containsKey(ctx)) return;
+		ParserRuleContext parent = ctx.getParent();
+		if (parent != null) {
+			enter(parent);
+			walkChildren(parent, parent.getChildCount() - 1);  // ctx is the last child of parent
+		}
+		walker.enterRule(listener, ctx);
+		walkedChildren.put(ctx, 0);
+	}
+
+	/** walk children of an entered ctx up to the specified child index */
+	private void walkChildren(ParserRuleContext ctx, int endIdx) {
+		int idx = walkedChildren.get(ctx);
+		for (; idx<endIdx; idx++) walker.walk(listener, ctx.getChild(idx));
+		walkedChildren.put(ctx, idx);
+	}
+
+	/** complete the walk of ctx */
+	private void finish(ParserRuleContext ctx) {
+		if (!walkedChildren.containsKey(ctx)) {
+			walker.walk(listener, ctx);
+			return;
+		}
+		walkChildren(ctx, ctx.getChildCount());
+		walker.exitRule(listener, ctx);
+		walkedChildren.remove(ctx);
+	}
+
+	/** tree walker allowing separate rule enter and exit */
+	private static class Walker extends ParseTreeWalker {
+		@Override
+		protected void enterRule(ParseTreeListener listener, RuleNode r) {
+			super.enterRule(listener, r);
+		}
+
+		@Override
+		protected void exitRule(ParseTreeListener listener, RuleNode r) {
+			super.exitRule(listener, r);
+		}
+	}
+}
@@ -0,0 +1,275 @@
+/*
+ * Copyright (c) 2016 Juniper Networks, Inc. All rights reserved.
+ */
+package ordt.extract;
+
+import java.io.BufferedWriter;
+import java.io.FileWriter;
+import java.io.IOException;
+
+/** generates synthetic rdl or jspec inputs of parameterized size and structure for stress tests and benchmarks.
+ *  Each address map contains a tree of regfiles of the specified depth and each regfile contains the specified
+ *  number of registers.  External, alias and interrupt elements are spread evenly using the specified percentages. */
+public class SyntheticInputGenerator {
+	private int addrMaps = 1;   // number of address maps instanced in the top address map
+	private int regFileDepth = 2;   // nesting depth of regfiles in each address map
+	private int regFilesPerLevel = 2;   // number of child regfiles at each level of nesting
+	private int regsPerRegFile = 8;   // number of registers in each regfile
+	private int fieldsPerReg = 4;   // number of fields in each register
+	private int regFileReps = 1;   // replication count of each regfile instance
+	private int regReps = 1;   // replication count of each register instance
+	private int externalPercent = 0;   // percent of top level regfiles in each address map that are external
+	private int aliasPercent = 0;   // percent of registers having an alias (rdl only)
+	private int intrPercent = 0;   // percent of registers containing interrupt fields
+	private int userProperties = 0;   // number of user-defined properties assigned in each register
+
+	private BufferedWriter bw;
+	private boolean jspec;
+	private int regFileCount = 0;   // counts used to select external, alias and interrupt elements
+	private int regCount = 0;
+	private int generatedRegs = 0;   // number of register instances generated, including replications
+
+	public static void main(String[] args) {
+		SyntheticInputGenerator gen = new SyntheticInputGenerator();
+		if (args.length < 1) showUsage();
+		int argIdx = 0;
+		while (argIdx < args.length - 1) {
+			String arg = args[argIdx++];
+			if (argIdx >= args.length - 1) showUsage();  // all options have a value
+			int value = 0;
+			try {
+				value = Integer.parseInt(args[argIdx++]);
+			} catch (NumberFormatException e) {
+				showUsage();
+			}
+			if (value < 0) showUsage();
+			if (arg.equals("-addrmaps")) gen.setAddrMaps(value);
+			else if (arg.equals("-depth")) gen.setRegFileDepth(value);
+			else if (arg.equals("-regfiles")) gen.setRegFilesPerLevel(value);
+			else if (arg.equals("-regs")) gen.setRegsPerRegFile(value);
+			else if (arg.equals("-fields")) gen.setFieldsPerReg(value);
+			else if (arg.equals("-regfilereps")) gen.setRegFileReps(value);
+			else if (arg.equals("-regreps")) gen.setRegReps(value);
+			else if (arg.equals("-external")) gen.setExternalPercent(value);
+			else if (arg.equals("-alias")) gen.setAliasPercent(value);
+			else if (arg.equals("-intr")) gen.setIntrPercent(value);
+			else if (arg.equals("-userprops")) gen.setUserProperties(value);
+			else showUsage();
+		}
+		String outName = args[args.length - 1];
+		try {
+			int regs = gen.generate(outName);
+			System.out.println("SyntheticInputGenerator: wrote " + outName + " containing " + regs + " registers");
+		} catch (IOException e) {
+			System.err.println("*** ERROR ***: Unable to write " + outName + ": " + e.getMessage());
+			System.exit(8);
+		}
+	}
+
+	private static void showUsage() {
+		System.out.println("SyntheticInputGenerator usage: SyntheticInputGenerator [options] <output_rdl_or_jspec_file>");
+		System.out.println("Options (output is jspec if file name ends with 'js', else rdl):");
+		System.out.println("   -addrmaps <n>     number of address maps in the top address map (default 1)");
+		System.out.println("   -depth <n>        regfile nesting depth in each address map (default 2)");
+		System.out.println("   -regfiles <n>     child regfiles at each nesting level (default 2)");
+		System.out.println("   -regs <n>         registers in each regfile (default 8)");
+		System.out.println("   -fields <n>       fields in each register, 1 to 32 (default 4)");
+		System.out.println("   -regfilereps <n>  replication count of each regfile (default 1)");
+		System.out.println("   -regreps <n>      replication count of each register (default 1)");
+		System.out.println("   -external <pct>   percent of top level regfiles that are external (default 0)");
+		System.out.println("   -alias <pct>      percent of registers having an alias, rdl only (default 0)");
+		System.out.println("   -intr <pct>       percent of registers containing interrupt fields (default 0)");
+		System.out.println("   -userprops <n>    number of user-defined properties assigned in each register (default 0)");
+		System.exit(0);
+	}
+
+	/** write a synthetic input file
+	 * @param outName - output file name, jspec output is generated if name ends with 'js' else rdl
+	 * @return number of register instances generated, including replications
+	 */
+	public int generate(String outName) throws IOException {
+		jspec = outName.endsWith("js");
+		regFileCount = 0;
+		regCount = 0;
+		generatedRegs = 0;
+		bw = new BufferedWriter(new FileWriter(outName));
+		try {
+			writeLine(0, "// synthetic " + (jspec? "jspec" : "rdl") + " input: addrmaps=" + addrMaps + ", depth=" + regFileDepth + ", regfiles=" + regFilesPerLevel +
+					", regs=" + regsPerRegFile + ", fields=" + fieldsPerReg + ", regfilereps=" + regFileReps + ", regreps=" + regReps +
+					", external=" + externalPercent + ", alias=" + aliasPercent + ", intr=" + intrPercent + ", userprops=" + userProperties);
+			if (jspec) writeJspec();
+			else writeRdl();
+		} finally {
+			bw.close();
+		}
+		return generatedRegs;
+	}
+
+	// ------------------------ rdl output ---------------------------
+
+	private void writeRdl() throws IOException {
+		for (int idx=0; idx<userProperties; idx++)
+			writeLine(0, "property p_user" + idx + " { type = number; component = reg; default = 0; };");
+		for (int map=0; map<addrMaps; map++) {
+			writeLine(0, "");
+			writeLine(0, "addrmap map" + map + "_t {");
+			for (int rf=0; rf<regFilesPerLevel; rf++) {
+				boolean external = isSelected(regFileCount++, externalPercent);
+				writeRdlRegFile(1, 1, "rf" + rf, external, 1);
+			}
+			writeLine(0, "};");
+		}
+		writeLine(0, "");
+		writeLine(0, "addrmap {");
+		for (int map=0; map<addrMaps; map++) writeLine(1, "map" + map + "_t map" + map + ";");
+		writeLine(0, "} top;");
+	}
+
+	/** write an anonymous regfile definition and instance */
+	private void writeRdlRegFile(int indent, int level, String name, boolean external, int parentReps) throws IOException {
+		int reps = parentReps * regFileReps;
+		writeLine(indent, "regfile {");
+		for (int reg=0; reg<regsPerRegFile; reg++) {
+			boolean intr = isSelected(regCount, intrPercent);
+			boolean alias = isSelected(regCount++, aliasPercent) && !external && (regReps == 1);  // aliases of external or replicated regs are not generated
+			String regName = "r" + reg;
+			writeLine(indent + 1, "reg " + regName + "_t {");
+			for (int idx=0; idx<userProperties; idx++) writeLine(indent + 2, "p_user" + idx + " = " + (reg + idx) + ";");
+			int fieldWidth = getFieldWidth();
+			for (int field=0; field<getFieldCount(); field++) {
+				String fieldProps = intr? "sw=r; hw=na; intr; woclr;" : (field % 2 == 0)? "sw=rw; hw=r;" : "sw=r; hw=w;";
+				writeLine(indent + 2, "field { " + fieldProps + " } f" + field + "[" + fieldWidth + "] = 0;");
+			}
+			writeLine(indent + 1, "};");
+			writeLine(indent + 1, regName + "_t " + regName + getRdlRepString(regReps) + ";");
+			generatedRegs += reps * regReps;
+			if (alias) {
+				writeLine(indent + 1, "alias " + regName + " " + regName + "_t " + regName + "_alias;");
+				generatedRegs += reps;
+			}
+		}
+		if (level < regFileDepth) {
+			for (int rf=0; rf<regFilesPerLevel; rf++) writeRdlRegFile(indent + 1, level + 1, name + "_" + rf, false, reps);
+		}
+		writeLine(indent, "} " + (external? "external " : "") + name + getRdlRepString(regFileReps) + ";");
+	}
+
+	private String getRdlRepString(int reps) {
+		return (reps > 1)? "[" + reps + "]" : "";
+	}
+
+	// ------------------------ jspec output ---------------------------
+
+	private void writeJspec() throws IOException {
+		for (int idx=0; idx<userProperties; idx++) writeLine(0, "typedef param user" + idx + " = integer;");
+		writeLine(0, "");
+		writeLine(0, "register_set top \"synthetic top\" {");
+		for (int map=0; map<addrMaps; map++) {
+			writeLine(1, "register_set map" + map + " \"synthetic map " + map + "\" {");
+			for (int rf=0; rf<regFilesPerLevel; rf++) {
+				boolean external = isSelected(regFileCount++, externalPercent);
+				writeJspecRegFile(2, 1, "rf" + rf, external, 1);
+			}
+			writeLine(1, "};");
+		}
+		writeLine(0, "};");
+	}
+
+	/** write a jspec register set.  External register sets are marked as root, so are external decode by default */
+	private void writeJspecRegFile(int indent, int level, String name, boolean external, int parentReps) throws IOException {
+		int reps = parentReps * regFileReps;
+		writeLine(indent, "register_set " + name + " \"" + name + " register_set\" {");
+		if (external) writeLine(indent + 1, "root = true;");
+		if (regFileReps > 1) writeLine(indent + 1, "repeat = " + regFileReps + ";");
+		for (int reg=0; reg<regsPerRegFile; reg++) {
+			boolean intr = isSelected(regCount++, intrPercent);
+			String regName = "r" + reg;
+			writeLine(indent + 1, "register " + regName + " \"" + regName + " register\" {");
+			if (regReps > 1) writeLine(indent + 2, "repeat = " + regReps + ";");
+			if (intr) writeLine(indent + 2, "category = { INTERRUPT };");
+			for (int idx=0; idx<userProperties; idx++) writeLine(indent + 2, "user" + idx + " = " + (reg + idx) + ";");
+			int fieldWidth = getFieldWidth();
+			int unused = 32 - fieldWidth * getFieldCount();
+			if (unused > 0) writeLine(indent + 2, "nop[" + unused + "];");
+			for (int field=getFieldCount()-1; field>=0; field--) {
+				String access = intr? "WRITE_ONE_TO_CLEAR" : (field % 2 == 0)? "READ_WRITE" : "READ_ONLY";
+				writeLine(indent + 2, "integer f" + field + "[" + fieldWidth + "] \"f" + field + " field\" param { access_mode = " + access + "; reset = 0x0; };");
+			}
+			writeLine(indent + 1, "};");
+			generatedRegs += reps * regReps;
+		}
+		if (level < regFileDepth) {
+			for (int rf=0; rf<regFilesPerLevel; rf++) writeJspecRegFile(indent + 1, level + 1, name + "_" + rf, false, reps);
+		}
+		writeLine(indent, "};");
+	}
+
+	// ------------------------ common methods ---------------------------
+
+	/** return true if element idx is selected when selecting the specified percent of elements evenly */
+	private static boolean isSelected(int idx, int percent) {
+		return ((idx + 1) * percent / 100) > (idx * percent / 100);
+	}
+
+	/** return number of fields in each 32b register */
+	private int getFieldCount() {
+		return Math.max(1, Math.min(32, fieldsPerReg));
+	}
+
+	/** return width of each field */
+	private int getFieldWidth() {
+		return 32 / getFieldCount();
+	}
+
+	private void writeLine(int indent, String line) throws IOException {
+		for (int idx=0; idx<indent; idx++) bw.write("  ");
+		bw.write(line);
+		bw.newLine();
+	}
+
+	// ------------------------ parameter setters ---------------------------
+
+	public void setAddrMaps(int addrMaps) {
+		this.addrMaps = addrMaps;
+	}
+
+	public void setRegFileDepth(int regFileDepth) {
+		this.regFileDepth = regFileDepth;
+	}
+
+	public void setRegFilesPerLevel(int regFilesPerLevel) {
+		this.regFilesPerLevel = regFilesPerLevel;
+	}
+
+	public void setRegsPerRegFile(int regsPerRegFile) {
+		this.regsPerRegFile = regsPerRegFile;
+	}
+
+	public void setFieldsPerReg(int fieldsPerReg) {
+		this.fieldsPerReg = fieldsPerReg;
+	}
+
+	public void setRegFileReps(int regFileReps) {
+		this.regFileReps = Math.max(1, regFileReps);
+	}
+
+	public void setRegReps(int regReps) {
+		this.regReps = Math.max(1, regReps);
+	}
+
+	public void setExternalPercent(int externalPercent) {
+		this.externalPercent = Math.min(100, externalPercent);
+	}
+
+	public void setAliasPercent(int aliasPercent) {
+		this.aliasPercent = Math.min(100, aliasPercent);
+	}
+
+	public void setIntrPercent(int intrPercent) {
+		this.intrPercent = Math.min(100, intrPercent);
+	}
+
+	public void setUserProperties(int userProperties) {
+		this.userProperties = userProperties;
+	}
+}
@@ -7,6 +7,7 @@ import ordt.extract.RegNumber;
 
 /** class of addressable model component instance (addrmap, regset, reg) */
 public class ModAddressableInstance extends ModInstance {
+	private static final long serialVersionUID = 1L;
 	// address elements
     private RegNumber address;
     private RegNumber addressIncrement;
@@ -50,6 +51,7 @@ public class ModAddressableInstance extends ModInstance {
 	 *  @param  the address to set
 	 */
 	public void setAddress(RegNumber address) {
+		clearStructuralHash();
 		this.address = address;
 	}
 
@@ -68,6 +70,7 @@ public class ModAddressableInstance extends ModInstance {
 	 *  @param addressIncrement the addressIncrement to set
 	 */
 	public void setAddressIncrement(RegNumber addressIncrement) {
+		clearStructuralHash();
 		this.addressIncrement = addressIncrement;
 	}
 
@@ -86,6 +89,7 @@ public class ModAddressableInstance extends ModInstance {
 	 *  @param addressModulus the addressModulus to set
 	 */
 	public void setAddressModulus(RegNumber addressModulus) {
+		clearStructuralHash();
 		this.addressModulus = addressModulus;
 	}
 
@@ -104,6 +108,7 @@ public class ModAddressableInstance extends ModInstance {
 	 *  @param addressShift the addressShift to set
 	 */
 	public void setAddressShift(RegNumber addressShift) {
+		clearStructuralHash();
 		this.addressShift = addressShift;
 	}
 
@@ -3,14 +3,15 @@
  */
 package ordt.extract.model;
 
-import java.util.HashMap;
+import java.io.Serializable;
+import java.util.List;
 
 import ordt.extract.PropertyList;
-import ordt.extract.PropertyList.PropertyValue;
 import ordt.output.common.MsgUtils;
 
 /** model base class (ModComponent and ModInstance are child types) */
-public abstract class ModBaseComponent {
+public abstract class ModBaseComponent implements Serializable {
+	private static final long serialVersionUID = 1L;
 
 	protected String id = "";   // id (type) of component
 	protected ModComponent parent;   // parent component of this entity
@@ -18,6 +19,7 @@ public abstract class ModBaseComponent {
 	
 	protected PropertyList properties;   // properties defined for this component    
 	protected PropertyList defaultProperties;   // default properties defined in this component
+	protected transient Integer structuralHash;   // hash cached when model is frozen
 
 	protected ModBaseComponent() {
 		id = "";
@@ -47,7 +49,8 @@ public abstract class ModBaseComponent {
 	 *  @param id the id to set
 	 */
 	public void setId(String id) {
-		if (id != null) id = id.replace("\\", "");  // remove escapes
+		clearStructuralHash();
+		if (id != null) id = id.replace("\\", "").intern();  // remove escapes and share ids used by many instances/paths
 		this.id = id;
 	}
 
@@ -132,18 +135,18 @@ public abstract class ModBaseComponent {
 		return defaultProperties.getIntegerProperty(name);
 	}
 
-	/** get properties
+	/** get properties (read only if this element is frozen)
 	 *  @return the properties
 	 */
-	public HashMap<String, PropertyValue> getProperties() {
-		return properties.getProperties();
+	public PropertyList getProperties() {
+		return properties;
 	}
 	
-	/** get defaultProperties
+	/** get defaultProperties (read only if this element is frozen)
 	 *  @return the defaultProperties
 	 */
-	public HashMap<String, PropertyValue> getDefaultProperties() {
-		return defaultProperties.getProperties();
+	public PropertyList getDefaultProperties() {
+		return defaultProperties;
 	}
 	
 	/** set a property  
@@ -152,6 +155,7 @@ public abstract class ModBaseComponent {
 	 *  @param depth - ancestor depth of assignment lhs (eg xxx.yyy -> depth=2) 
 	 */
 	public void setProperty(String name, String value, int depth) {   
+		clearStructuralHash();
 		if (isValidProperty(name)) {
 			if (isImplicitDefaultProperty(name)) {
 				this.defaultProperties.setProperty(name, value, depth);
@@ -171,6 +175,7 @@ public abstract class ModBaseComponent {
 	 *  @param value of the property
 	 */
 	public void setDefaultProperty(String name, String value) {
+		clearStructuralHash();
 		defaultProperties.setProperty(name, value);
 	}
 	
@@ -188,6 +193,7 @@ public abstract class ModBaseComponent {
 	 *  @param name of the property to be removed
 	 */
 	public void removeProperty(String name) {
+		clearStructuralHash();
 		properties.removeProperty(name);
 	}
 	
@@ -195,13 +201,15 @@ public abstract class ModBaseComponent {
 	 *  @param name of the property to be removed
 	 */
 	public void removeDefaultProperty(String name) {
+		clearStructuralHash();
 		defaultProperties.removeProperty(name);
 	}
 	
-	/** update default properties using values in supplied hashmap
-	 *  @param hashmap of properties to be set
+	/** update default properties using values in supplied list
+	 *  @param list of properties to be set
 	 */
-	public void updateDefaultProperties(HashMap<String, PropertyValue> updates) {
+	public void updateDefaultProperties(PropertyList updates) {
+		clearStructuralHash();
 		defaultProperties.updateProperties(updates);
 	}	
 
@@ -226,6 +234,39 @@ public abstract class ModBaseComponent {
 		this.parent = parent;
 	}
 
+	/** return the hash of this component, using the hash cached when the model was frozen if available */
+	public int getStructuralHash() {
+		return (structuralHash != null)? structuralHash : hashCode();
+	}
+
+	/** cache the hash of this element and make its property lists read only until it is modified */
+	protected void freezeHash() {
+		structuralHash = hashCode();
+		properties.setReadOnly(true);
+		defaultProperties.setReadOnly(true);
+	}
+
+	/** clear the cached hash of this element and of all elements whose hash depends on it. Called by
+	 *  mutators so a model modified after freezeHashes never uses stale hashes */
+	protected void clearStructuralHash() {
+		if (structuralHash == null) return;  // ancestors of an unfrozen element are unfrozen
+		structuralHash = null;
+		properties.setReadOnly(false);
+		defaultProperties.setReadOnly(false);
+		clearDependentHashes();
+	}
+
+	/** clear cached hashes of elements whose hash includes this element - overridden by child types */
+	protected void clearDependentHashes() {
+	}
+
+	/** return a list hash matching List.hashCode, using cached element hashes of a frozen model */
+	protected static int getStructuralHash(List<? extends ModBaseComponent> list) {
+		int result = 1;
+		for (ModBaseComponent elem: list) result = 31 * result + ((elem == null) ? 0 : elem.getStructuralHash());
+		return result;
+	}
+
 	@Override
 	// NOTE: currently used for uvm class reuse - id is omitted
 	public int hashCode() {
@@ -247,6 +288,8 @@ public abstract class ModBaseComponent {
 		if (getClass() != obj.getClass())
 			return false;
 		ModBaseComponent other = (ModBaseComponent) obj;
+		if ((structuralHash != null) && (other.structuralHash != null) && !structuralHash.equals(other.structuralHash))
+			return false;  // frozen components with differing hashes
 		if (defaultProperties == null) {
 			if (other.defaultProperties != null)
 				return false;
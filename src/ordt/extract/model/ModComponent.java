@@ -3,17 +3,20 @@
  */
 package ordt.extract.model;
 
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
-import ordt.annotate.AnnotateCommand;
+import ordt.annotate.AnnotatePathTrie;
 import ordt.output.common.MsgUtils;
 import ordt.extract.Ordt;
 import ordt.extract.PropertyList;
@@ -23,6 +26,7 @@ import ordt.output.OutputBuilder;
 
 /** extracted model component type that can contain children */
 public abstract class ModComponent extends ModBaseComponent {
+	private static final long serialVersionUID = 1L;
 
 	protected List<ModComponent> childComponents;   // sub-component definitions contained in this component
 	private List<ModInstance> childInstances;   // instances contained in this component
@@ -30,9 +34,18 @@ public abstract class ModComponent extends ModBaseComponent {
 	protected List<ModEnum> enums;   // enums contained in this component
 	protected CompParameterLists postPropertyAssignLists;  // list of post property assignments for descendent instances  
 	protected boolean isRoot = false;   // root component
+	private transient Object structuralClass;   // shared by structurally equal components when model is frozen
 	public enum CompType { DEFAULT, ADDRMAP, REG, REGSET, FIELD, FIELDSET, SIGNAL }  // subset of comp types used for annotation check and addrmap indication
 	protected CompType compType = CompType.DEFAULT;
 	
+	// id indexes of child lists, holding the first child with each id (built on first lookup)
+	private transient HashMap<String, ModComponent> childComponentIndex;
+	private transient HashMap<String, ModInstance> childInstanceIndex;
+	private transient HashMap<String, ModEnum> enumIndex;
+	
+	private static Pattern repSuffixPattern = Pattern.compile("_\\d+$");  // replication suffix in an instance path element
+	private static Pattern repElementPattern = Pattern.compile("^(.+?)(?:_\\d+|\\[\\d+\\])$");  // id and rep suffix or index of an instance path element
+	
 	protected ModComponent() {
 		childComponents = new ArrayList<ModComponent>();
 		childInstances = new ArrayList<ModInstance>();
@@ -84,27 +97,20 @@ public abstract class ModComponent extends ModBaseComponent {
 		else return null;
 	}
 
-	/** process an annotation command */
-	public void processAnnotation(AnnotateCommand cmd, int pathLevel) {
-		// process cmd using specified recursion type
-		if (cmd.pathUsesComponents()) processComponentAnnotation(cmd, pathLevel);
-		else processInstanceAnnotation(cmd, pathLevel);
+	/** find components matching compiled annotation command paths, starting at this component */
+	public void findComponentAnnotationMatches(AnnotatePathTrie annotations, AnnotatePathTrie.MatchState state) {
+		// save this component if a name/target match
+		AnnotatePathTrie.MatchState childState = annotations.matchComponent(this, state);
+		// recursively process component children
+		if (childState != null) {
+			for (ModComponent comp: childComponents) comp.findComponentAnnotationMatches(annotations, childState);			
+		}
 	}
 
-	/** process an annotation command on specified model instances */
-	public void processInstanceAnnotation(AnnotateCommand cmd, int pathLevel) {
+	/** find instances matching compiled annotation command paths, starting at child instances of this component */
+	public void findInstanceAnnotationMatches(AnnotatePathTrie annotations, AnnotatePathTrie.MatchState state) {
 		// process all child instances - path checks are done in instance
-		for (ModInstance inst: getChildInstances()) inst.processInstanceAnnotation(cmd, pathLevel);
-	}
-
-	/** process an annotation command on specified model components  */
-	private void processComponentAnnotation(AnnotateCommand cmd, int pathLevel) {
-		// process this component if its a name/target match
-		boolean isDone = cmd.processComponent(this, pathLevel);
-		// recursively process component children
-		if (!isDone) {
-			for (ModComponent comp: childComponents) comp.processComponentAnnotation(cmd, pathLevel + 1);			
-		}
+		for (ModInstance inst: getChildInstances()) inst.findInstanceAnnotationMatches(annotations, state);
 	}
 
 	/** write info to stdout */
@@ -155,11 +161,13 @@ public abstract class ModComponent extends ModBaseComponent {
 
 	/** set isRoot - set true by ModRootComponent child class */
 	protected void setRoot(boolean isRoot) {
+		clearStructuralHash();
 		this.isRoot = isRoot;
 	}
 
 	/** set type of this component - used for annotate searches and indication of addrmap/regset */
 	public void setCompType(CompType compType) {
+		clearStructuralHash();
 		this.compType = compType;
 	}
 
@@ -211,6 +219,15 @@ public abstract class ModComponent extends ModBaseComponent {
 	public void setAlignedSize(int defaultRegWidth) {
 	}
 
+	/** default computeAlignedSize - overridden in ModRegSet, ModRegister, compute the size of this component assuming child component sizes are computed */
+	protected void computeAlignedSize(int defaultRegWidth) {
+	}
+
+	/** return the default reg width used to size the component of an addressable child instance - overridden in ModRegSet */
+	protected int getChildDefaultRegWidth(ModAddressableInstance childInst, int defaultRegWidth) {
+		return defaultRegWidth;
+	}
+
 	/** return integer containing size in bits of max register in this component - overridden in ModRegSet, ModRegister*/
 	public Integer getMaxRegWidth() {
 		return null;
@@ -222,6 +239,7 @@ public abstract class ModComponent extends ModBaseComponent {
 	
 	/** sort children by address */
 	protected void sortChildrenByAddress() { 
+		clearStructuralHash();
 		/*if (this.getId().equals("ppe_regs")) {
 		System.out.println("ModComponent sortChildrenByAddress: id=" + this.getId()); 
 		for(ModInstance inst: childInstances) {
@@ -248,6 +266,7 @@ public abstract class ModComponent extends ModBaseComponent {
                 return 0;
             }
         }); 
+		childInstanceIndex = null;  // first instance of an id may have changed
 		/*if (this.getId().equals("ppe_regs")) {
 		for(ModInstance inst: childInstances) {
 			RegNumber addr = null;
@@ -287,6 +306,7 @@ public abstract class ModComponent extends ModBaseComponent {
 	public void addChildComponent(ModComponent regComp) {
 		if (findLocalCompDef(regComp.getId()) != null) MsgUtils.errorMessage("Duplicate component (" + regComp.getId() + ") declared in component " + getId());
 		childComponents.add(regComp);		
+		if (childComponentIndex != null) childComponentIndex.putIfAbsent(regComp.getId(), regComp);
 	}
 	
 	/** get instancesOf
@@ -307,16 +327,27 @@ public abstract class ModComponent extends ModBaseComponent {
 	 *  @param component instance to add as child
 	 */
 	public void addCompInstance(ModInstance regInst) {
+		clearStructuralHash();
 		if (findLocalInstance(regInst.getId()) != null) MsgUtils.errorMessage("Duplicate instance (" + regInst.getId() + ") declared in component " + getId());
 		getChildInstances().add(regInst);		
+		if (childInstanceIndex != null) childInstanceIndex.putIfAbsent(regInst.getId(), regInst);
+	}
+
+	/** remove child instances starting at the specified list index */
+	protected void removeChildInstances(int fromIdx) {
+		clearStructuralHash();
+		getChildInstances().subList(fromIdx, getChildInstances().size()).clear();
+		childInstanceIndex = null;
 	}
 
 	/** add a child enum
 	 *  @param regenum to add as child
 	 */
 	public void addCompEnum(ModEnum regEnum) {
+		clearStructuralHash();
 		if (findLocalEnum(regEnum.getId()) != null) MsgUtils.errorMessage("Duplicate enum (" + regEnum.getId() + ") declared in component " + getId());
 		enums.add(regEnum);		
+		if (enumIndex != null) enumIndex.putIfAbsent(regEnum.getId(), regEnum);
 	}
 	
 	/** get list of child enums for this comp
@@ -328,8 +359,10 @@ public abstract class ModComponent extends ModBaseComponent {
 	/** set list of child enums for this comp
 	 */
 	public void setCompEnumList(List<ModEnum> enums) {
+		clearStructuralHash();
 		//System.out.println("ModComponent setCompEnumList: id=" + this.getId() + ", n=" + enums.size());
 		this.enums = enums;		
+		enumIndex = null;
 	}
 
 	/** recursively search for a component of specified name
@@ -352,12 +385,13 @@ public abstract class ModComponent extends ModBaseComponent {
 	 */
 	public ModComponent findLocalCompDef(String id) {
 		//System.out.println("*** looking for comp" + id + " in " + this.getId());
-		// loop through child components
-		for (ModComponent regComp : childComponents) {
-			//System.out.println("  * looking for " + id + ", found " + regComp.getId());
-			if ((regComp != null) && (regComp.getId().equals(id))) return regComp;
+		if (childComponentIndex == null) {
+			childComponentIndex = new HashMap<String, ModComponent>();
+			for (ModComponent regComp : childComponents) {
+				if (regComp != null) childComponentIndex.putIfAbsent(regComp.getId(), regComp);
+			}
 		}
-		return null;
+		return childComponentIndex.get(id);
 	}
 
 	/** search for an instance in the child inst list
@@ -367,22 +401,51 @@ public abstract class ModComponent extends ModBaseComponent {
 		//System.out.println("ModComponent findLocalInstance: *** looking for inst " + id + " in " + this.getId());
 		String idRoot = id;
 		Integer idx = null; // by default, no index
-		// extract array info
-		Pattern pat = Pattern.compile("^(\\S+)\\s*\\[(\\d+)\\]$");
-		Matcher m = pat.matcher(id);
-		if (m.matches()) {
-			idRoot = m.group(1);  // extract id root
-			idx = Integer.valueOf(m.group(2));  // extract index
+		// extract array info from an id of form root[idx]
+		int lsqIdx = getIndexStart(id);
+		if (lsqIdx > 0) {
+			int rootEnd = lsqIdx;
+			while (isWhitespace(id.charAt(rootEnd - 1))) rootEnd--;
+			idRoot = id.substring(0, rootEnd);  // extract id root
+			idx = Integer.valueOf(id.substring(lsqIdx + 1, id.length() - 1));  // extract index
 			//System.out.println("ModComponent findLocalInstance:     found array reference root=" + idRoot + ", idx=" + idx);
 		}
-		// loop through child instances looking for an id match
-		for (ModInstance regInst : getChildInstances()) {
-			//System.out.println("  * looking for " + id + ", found " + regComp.getId());
-			if ((regInst != null) && (regInst.getId().equals(idRoot))) {  // instance with matching id found
-				return ((idx != null) && (idx >= regInst.getRepCount()))? null : regInst;  // check for an invalid index
+		if (childInstanceIndex == null) {
+			childInstanceIndex = new HashMap<String, ModInstance>();
+			for (ModInstance regInst : getChildInstances()) {
+				if (regInst != null) childInstanceIndex.putIfAbsent(regInst.getId(), regInst);
 			}
 		}
-		return null;
+		ModInstance regInst = childInstanceIndex.get(idRoot);
+		if (regInst == null) return null;
+		return ((idx != null) && (idx >= regInst.getRepCount()))? null : regInst;  // check for an invalid index
+	}
+
+	/** return the position of the left bracket if id has form root[idx] where root has no whitespace and 
+	 *  may be followed by whitespace, else return -1 */
+	private static int getIndexStart(String id) {
+		int len = id.length();
+		if ((len < 4) || (id.charAt(len - 1) != ']')) return -1;
+		int lsqIdx = id.lastIndexOf('[');
+		if (lsqIdx < 1 || (lsqIdx > len - 3)) return -1;
+		for (int pos=lsqIdx + 1; pos<len - 1; pos++)
+			if ((id.charAt(pos) < '0') || (id.charAt(pos) > '9')) return -1;
+		int rootEnd = lsqIdx;
+		while ((rootEnd > 0) && isWhitespace(id.charAt(rootEnd - 1))) rootEnd--;
+		return isNonWhitespace(id, rootEnd)? lsqIdx : -1;
+	}
+
+	/** return true if the first len chars of str are non-empty and contain no whitespace (regex \\S+) */
+	private static boolean isNonWhitespace(String str, int len) {
+		if (len < 1) return false;
+		for (int pos=0; pos<len; pos++)
+			if (isWhitespace(str.charAt(pos))) return false;
+		return true;
+	}
+
+	/** return true if c is a whitespace char (regex \\s) */
+	private static boolean isWhitespace(char c) {
+		return (c == ' ') || (c == '\t') || (c == '\n') || (c == 0x0B) || (c == '\f') || (c == '\r');
 	}
 
 	/** search for an instance in local scope having specified path. note: method is destructive to input list. 
@@ -445,12 +508,13 @@ public abstract class ModComponent extends ModBaseComponent {
 	 */
 	private ModEnum findLocalEnum(String id) {     
 		//System.out.println("*** looking for enum" + id + " in " + this.getId());
-		// loop through child enums
-		for (ModEnum regEnum : enums) {
-			//System.out.println("  * looking for " + id + ", found " + regEnum.getId());
-			if ((regEnum != null) && (regEnum.getId().equals(id))) return regEnum;
+		if (enumIndex == null) {
+			enumIndex = new HashMap<String, ModEnum>();
+			for (ModEnum regEnum : enums) {
+				if (regEnum != null) enumIndex.putIfAbsent(regEnum.getId(), regEnum);
+			}
 		}
-		return null;
+		return enumIndex.get(id);
 	}
 	
 	/** return all ancestor components in specified instance path
@@ -484,8 +548,9 @@ public abstract class ModComponent extends ModBaseComponent {
 		// depending on builder, name may have a replication suffix that needs to be removed
 		if (regInst == null) {
 			String newBaseInstName = "";
-			if (baseInstName.matches("\\S+_\\d+$")) {
-				newBaseInstName = baseInstName.replaceFirst("_\\d+$", "");
+			Matcher m = repSuffixPattern.matcher(baseInstName);
+			if (m.find() && isNonWhitespace(baseInstName, m.start())) {
+				newBaseInstName = baseInstName.substring(0, m.start());
 				regInst = findLocalInstance(newBaseInstName);
 			}
 		}
@@ -538,14 +603,21 @@ public abstract class ModComponent extends ModBaseComponent {
 		// now get the propertyList
 		return postPropertyAssignLists.getParmList(path);
 	}
+
+	/** return true if an instance path of a post property assign in this component has an element that is a rep of the specified id */
+	public boolean hasRepPostPropertyAssign(String noRepId) {
+		return postPropertyAssignLists.hasRepPathElement(noRepId);
+	}
 	
 	// ------------------------------------ inner classes ----------------------------------------
 
 	/**
 	 *  parameter assign lists for all instances of a component
 	 */
-	public class CompParameterLists {
+	public class CompParameterLists implements Serializable {
+		private static final long serialVersionUID = 1L;
 		private HashMap<String, PropertyList> parmLists = new HashMap<String, PropertyList>();  // saved parm lists
+		private transient volatile Set<String> repPathIds;  // ids of rep suffixed or indexed elements in parm list paths (built on first use)
 		
 		/** return parmList for the specified instance path
 		 *  @param instance name of the parameter list to get
@@ -554,6 +626,22 @@ public abstract class ModComponent extends ModBaseComponent {
 		public PropertyList getParmList(String inst) {
 			return parmLists.get(inst);
 		}
+
+		/** return true if an instance path key has an element that is a rep suffixed or indexed form of the specified id */
+		public boolean hasRepPathElement(String noRepId) {
+			Set<String> ids = repPathIds;
+			if (ids == null) {
+				ids = new HashSet<String>();
+				for (String inst: parmLists.keySet()) {
+					for (String elem: inst.split("\\.")) {
+						Matcher m = repElementPattern.matcher(elem);
+						if (m.matches()) ids.add(m.group(1));
+					}
+				}
+				repPathIds = ids;
+			}
+			return ids.contains(noRepId);
+		}
 		
 		public void display() {
 			System.out.println("    post assigned properties:");
@@ -568,6 +656,7 @@ public abstract class ModComponent extends ModBaseComponent {
 		 */
 		public void addParmList(String inst, PropertyList pList) {
 			parmLists.put(inst, pList);
+			repPathIds = null;
 		}
 
 		@Override
@@ -613,6 +702,7 @@ public abstract class ModComponent extends ModBaseComponent {
 	 *  @return true is parm assignment was added sucessfully
 	 */
 	public boolean addParameter(String inst, String parm, String value) {
+		clearStructuralHash();
 		// find instance key or add if needed
 		if (inst == null) return false;
 		PropertyList pList = postPropertyAssignLists.getParmList(inst);
@@ -640,6 +730,42 @@ public abstract class ModComponent extends ModBaseComponent {
 		return newInst;
 	}
 
+	/** freeze the model below this component by caching hashes of it and its descendants, computed bottom-up.
+	 *  Structurally equal components are also grouped, so compares of frozen children are by identity.
+	 *  Cached hashes are cleared if the model is later modified */
+	public void freezeHashes() {
+		freezeHashes(Collections.newSetFromMap(new IdentityHashMap<ModComponent, Boolean>()), new HashMap<ModComponent, Object>());
+	}
+
+	/** clear hashes of instances of this component */
+	@Override
+	protected void clearDependentHashes() {
+		structuralClass = null;
+		for (ModInstance inst: instancesOf) inst.clearStructuralHash();
+	}
+
+	/** cache hashes of this component and its descendants if not yet visited */
+	private void freezeHashes(Set<ModComponent> visited, HashMap<ModComponent, Object> structuralClasses) {
+		if (!visited.add(this)) return;
+		structuralHash = null;
+		structuralClass = null;
+		for (ModInstance regInst : getChildInstances()) {
+			if (regInst == null) continue;
+			regInst.structuralHash = null;
+			if (regInst.getRegComp() != null) regInst.getRegComp().freezeHashes(visited, structuralClasses);
+			regInst.freezeHash();
+		}
+		for (ModComponent regEnum: enums) regEnum.freezeHashes(visited, structuralClasses);
+		freezeHash();
+		// share the class of an equal component frozen earlier (children are already classed, so compare by identity)
+		Object equalClass = structuralClasses.get(this);
+		if (equalClass == null) {
+			equalClass = new Object();
+			structuralClasses.put(this, equalClass);
+		}
+		structuralClass = equalClass;
+	}
+
 	/** create instance suffix to indicate repeated regs */
 	protected static String getRepSuffix(int rep, int repCount) {
 		if (repCount>1) return "_" + rep;
@@ -676,9 +802,9 @@ public abstract class ModComponent extends ModBaseComponent {
 		final int prime = 31;
 		int result = super.hashCode();
 		//result = prime * result + ((childComponents == null) ? 0 : childComponents.hashCode());
-		result = prime * result + ((getChildInstances() == null) ? 0 : getChildInstances().hashCode());
+		result = prime * result + ((getChildInstances() == null) ? 0 : getStructuralHash(getChildInstances()));
 		result = prime * result + ((compType == null) ? 0 : compType.hashCode());
-		result = prime * result + ((enums == null) ? 0 : enums.hashCode());
+		result = prime * result + ((enums == null) ? 0 : getStructuralHash(enums));
 		result = prime * result + (isRoot ? 1231 : 1237);
 		result = prime * result + ((postPropertyAssignLists == null) ? 0 : postPropertyAssignLists.hashCode());
 		return result;
@@ -694,6 +820,8 @@ public abstract class ModComponent extends ModBaseComponent {
 		if (getClass() != obj.getClass())
 			return false;
 		ModComponent other = (ModComponent) obj;
+		if ((structuralClass != null) && (structuralClass == other.structuralClass))
+			return true;  // frozen components found equal by freezeHashes
 		//if (childComponents == null) {
 		//	if (other.childComponents != null)
 		//		return false;
@@ -14,6 +14,7 @@ import ordt.output.common.MsgUtils;
  *
  */
 public class ModEnum extends ModComponent {
+	private static final long serialVersionUID = 1L;
 	private List<ModEnumElement> enumElements = new ArrayList<ModEnumElement>();;   // enum elements contained in this enum
 	private Integer width;  // width of this enum encoding
 	
@@ -46,6 +47,7 @@ public class ModEnum extends ModComponent {
 	 *  @param regenumelement to add as child
 	 */
 	public void addEnumElement(ModEnumElement regEnumElem) {
+		clearStructuralHash();
 		// check width
 		if ((regEnumElem != null) && (regEnumElem.getValue() != null)) {
 			Integer elemWidth = regEnumElem.getValue().getVectorLen();
@@ -87,6 +89,12 @@ public class ModEnum extends ModComponent {
 		return width;
 	}
 
+	/** clear hash of the component containing this enum */
+	@Override
+	protected void clearDependentHashes() {
+		super.clearDependentHashes();
+		if (parent != null) parent.clearStructuralHash();
+	}
 
 	@Override
 	public int hashCode() {
@@ -3,11 +3,14 @@
  */
 package ordt.extract.model;
 
+import java.io.Serializable;
+
 import ordt.output.common.MsgUtils;
 import ordt.extract.RegNumber;
 
 /** class containing info for an enum value within a RegENum */
-public class ModEnumElement {
+public class ModEnumElement implements Serializable {
+	private static final long serialVersionUID = 1L;
 	String id;    // id of this enumElement
 	RegNumber value = null;    // value of this enumElement
 	String name;     
@@ -9,6 +9,7 @@ import ordt.output.OutputBuilder;
 
 /** register field class extracted from definition lang */
 public class ModField extends ModComponent {
+	private static final long serialVersionUID = 1L;
 	
 	public ModField() {
 		super();
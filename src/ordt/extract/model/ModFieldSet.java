@@ -13,6 +13,7 @@ import ordt.output.OutputBuilder;
 
 
 public class ModFieldSet extends ModComponent {
+	private static final long serialVersionUID = 1L;
 	boolean union = false;
 	
 	public ModFieldSet() {
@@ -61,7 +62,7 @@ public class ModFieldSet extends ModComponent {
 	/** remove all except first child instance and return size of first instance */  // TODO - js specific move into extractor
 	public Integer cleanupUnion() {
 		if (getChildInstances().size() > 1) {
-			for (int idx=getChildInstances().size()-1; idx>0; idx--) getChildInstances().remove(idx);
+			removeChildInstances(1);
 			ModComponent child = getChildInstances().get(0).getRegComp();
 			if (child.isField()) return child.getIntegerProperty("fieldwidth");
 			if (child.isFieldSet()) return child.getIntegerProperty("fieldstructwidth");
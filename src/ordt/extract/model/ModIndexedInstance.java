@@ -8,6 +8,7 @@ import ordt.parameters.Utils;
 
 /** class of indexed model component instances (fieldset, field, signal) */
 public class ModIndexedInstance extends ModInstance {
+	private static final long serialVersionUID = 1L;
 	// store indeces by width and offset (from high or low boolean set in model extractor)
 	protected Integer width = 1;   // bit width of this instance 
 	protected Integer offset;   // offset of this instance relative to parent
@@ -49,6 +50,7 @@ public class ModIndexedInstance extends ModInstance {
 	 *  @param width the width to set
 	 */
 	public void setWidth(Integer width) {
+		clearStructuralHash();
 		if (width<=0) MsgUtils.errorExit("Invalid width/bit range specified in instance " + getId());
 		this.width = width;
 	}
@@ -64,6 +66,7 @@ public class ModIndexedInstance extends ModInstance {
 	 *  @param offset the offset to set
 	 */
 	public void setOffset(Integer offset) {
+		clearStructuralHash();
 		this.offset = offset;
 	}
 	
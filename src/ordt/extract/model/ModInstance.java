@@ -3,22 +3,24 @@
  */
 package ordt.extract.model;
 
-import java.util.HashMap;
 import java.util.HashSet;
 
-import ordt.annotate.AnnotateCommand;
+import ordt.annotate.AnnotatePathTrie;
 import ordt.extract.Ordt;
 import ordt.extract.Ordt.InputType;
+import ordt.extract.PropertyList;
 import ordt.extract.PropertyList.PropertyValue;
 import ordt.output.OutputBuilder;
 
 /** class of model component instance */
 public class ModInstance extends ModBaseComponent {
+	private static final long serialVersionUID = 1L;
 	
 	protected ModComponent regComp;  // reg component to be instanced (vs parent, which a component that contains this inst)
 	protected boolean isAddressable = false;
 	protected boolean isIndexed = false;
 	protected Integer repCount = 1;   // replication count of this instance
+	private transient volatile PropertyList inheritedDefaultProperties;  // parent and component default properties, merged on first output use
     
 	public ModInstance() {
 	}
@@ -37,12 +39,12 @@ public class ModInstance extends ModBaseComponent {
 		return isIndexed;
 	}
 
-	/** process an annotation command on specified model instances  */
-	public void processInstanceAnnotation(AnnotateCommand cmd, int pathLevel) {
-		// process this component if its a name/target match
-		boolean isDone = cmd.processInstance(this, pathLevel);
+	/** find instances matching compiled annotation command paths, starting at this instance */
+	public void findInstanceAnnotationMatches(AnnotatePathTrie annotations, AnnotatePathTrie.MatchState state) {
+		// save this instance if a name/target match
+		AnnotatePathTrie.MatchState childState = annotations.matchInstance(this, state);
 		// recursively process component children
-		if (!isDone) this.getRegComp().processInstanceAnnotation(cmd, pathLevel + 1);
+		if (childState != null) this.getRegComp().findInstanceAnnotationMatches(annotations, childState);
 	}
 
 	/** write info to stdout */
@@ -99,6 +101,7 @@ public class ModInstance extends ModBaseComponent {
 	 *  @param regComp - the ModComponent to set for this instance
 	 */
 	public void setRegComp(ModComponent regComp) {
+		clearStructuralHash();
 		this.regComp = regComp;
 	}
 
@@ -106,6 +109,7 @@ public class ModInstance extends ModBaseComponent {
 	 *  @param repCount the repCount to set
 	 */
 	public void setRepCount(Integer repCount) {
+		clearStructuralHash();
 		this.repCount = repCount;
 	}
 
@@ -116,6 +120,25 @@ public class ModInstance extends ModBaseComponent {
 		return repCount;
 	}
 
+	/** return default properties of the parent component updated by those of the instanced component.
+	 *  the merged list is computed once after the model is complete and shared, so must not be modified */
+	public PropertyList getInheritedDefaultProperties() {
+		PropertyList pList = inheritedDefaultProperties;
+		if (pList == null) {
+			pList = new PropertyList();
+			if (parent != null) pList.updateProperties(parent.getDefaultProperties());  
+			if (regComp != null) pList.updateProperties(regComp.getDefaultProperties());  
+			inheritedDefaultProperties = pList;
+		}
+		return pList;
+	}
+
+	/** clear hash of the parent component containing this instance */
+	@Override
+	protected void clearDependentHashes() {
+		if (parent != null) parent.clearStructuralHash();
+	}
+
 	/** set parent component 
 	 *  @param parent - parent ModComponent where this instance is made
 	 */
@@ -136,15 +159,15 @@ public class ModInstance extends ModBaseComponent {
 	 *  @param parms the parms to set
 	 *
 	@Override */
-	public void updateProperties(HashMap<String, PropertyValue> updates) {
+	public void updateProperties(PropertyList updates) {
 		//if (getId().equals("str")) System.out.println("ModInstance updateProperties: " + this.getFullId() + ", updates=" + updates);
-		for (String key: updates.keySet()) {
-			PropertyValue prop = updates.get(key);
+		for (PropertyValue prop: updates.getPropertyValues()) {
+			String key = prop.getName();
 			String val = prop.getValue();
 			int depth = prop.getDepth();
 			//if (getId().equals("spin") && "category".equals(key)) System.out.println("ModInstance updateProperties: " + this.getFullId() + ", cat update=" + val);
 			// only update if instance doesnt already have the property
-			if (!properties.getProperties().containsKey(key)) {     // TODO - simplify this?
+			if (!properties.hasPropertyKey(key)) {
 				// update numeric instance var values (info passed from components)
 				if ("repcount".equals(key)) setRepCount(Integer.valueOf(val));
 				// set other numerics (overriden by child classes)
@@ -207,7 +230,7 @@ public class ModInstance extends ModBaseComponent {
 		result = prime * result + ((id == null) ? 0 : id.hashCode());
 		result = prime * result + (isAddressable ? 1231 : 1237);
 		result = prime * result + (isIndexed ? 1231 : 1237);
-		result = prime * result + ((regComp == null) ? 0 : regComp.hashCode());
+		result = prime * result + ((regComp == null) ? 0 : regComp.getStructuralHash());
 		result = prime * result + ((repCount == null) ? 0 : repCount.hashCode());
 		return result;
 	}
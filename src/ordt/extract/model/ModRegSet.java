@@ -16,6 +16,7 @@ import ordt.output.RegSetProperties;
 import ordt.parameters.ExtParameters;
 
 public class ModRegSet extends ModComponent {
+	private static final long serialVersionUID = 1L;
 	protected RegNumber alignedSize;   // size of this component in bytes assuming js alignment rules (used for addr alignment)
 	private int maxRegWidth = ModRegister.defaultWidth;
 
@@ -96,15 +97,32 @@ public class ModRegSet extends ModComponent {
 	public void setAlignedSize(int defaultRegWidth) {
 		// if already computed then exit
 		if (alignedSize != null) return;
+		// recursively set size of individual child components
+		for (ModInstance regInst : getChildInstances()) {
+			if (regInst.isAddressable()) {
+				ModAddressableInstance childInst= (ModAddressableInstance) regInst;
+				childInst.regComp.setAlignedSize(getChildDefaultRegWidth(childInst, defaultRegWidth));
+			}
+		}
+		computeAlignedSize(defaultRegWidth);
+	}
+
+	/** return the default reg width used to size the component of an addressable child instance */
+	@Override
+	protected int getChildDefaultRegWidth(ModAddressableInstance childInst, int defaultRegWidth) {
+		return childInst.hasDefaultProperty("regwidth") ? childInst.getDefaultIntegerProperty("regwidth") :   // use instance default if defined
+			   this.hasDefaultProperty("regwidth") ? this.getDefaultIntegerProperty("regwidth") : defaultRegWidth;  // else use current regset default if defined
+	}
+
+	/** compute size of this component from sizes of its child components, which must already be computed */
+	@Override
+	protected void computeAlignedSize(int defaultRegWidth) {
 		// add all child sizes
 		RegNumber newAlignedSize = new RegNumber(0);
-		for (ModInstance regInst : getChildInstances()) {  
+		for (ModInstance regInst : getChildInstances()) {
 			// only consider addressable instances
 			if (regInst.isAddressable()) {
 				ModAddressableInstance childInst= (ModAddressableInstance) regInst;
-				int newDefaultRegWidth = childInst.hasDefaultProperty("regwidth") ? childInst.getDefaultIntegerProperty("regwidth") :   // use instance default if defined
-				   this.hasDefaultProperty("regwidth") ? this.getDefaultIntegerProperty("regwidth") : defaultRegWidth;  // else use current regset default if defined
-				childInst.regComp.setAlignedSize(newDefaultRegWidth);  // recursively set size of individual child component
 				if (childInst.getAddress() != null) newAlignedSize = new RegNumber(childInst.getAddress());     // if child has a defined address, bump the running size
 				if (childInst.getAddressShift() != null) newAlignedSize.add(childInst.getAddressShift());     // if child has a defined address shift, bump the running size
 				if (childInst.getAddressModulus() != null) newAlignedSize.roundUpToModulus(childInst.getAddressModulus()); // if child has a defined modulus then bump size
@@ -162,11 +180,12 @@ public class ModRegSet extends ModComponent {
 		// otherwise, treat as a typical reg set
 		else {
 	    
-			// call once per replicated register set
+			// call once per replicated register set.  reps are copied from the first rep if its info is rep-invariant
+			RegSetProperties repTemplate = null;  // extracted properties of the first rep
 			for (int rep=0; rep<repCount; rep++) {
 				//System.out.println("--- ModRegSet.generateOutput: non-root address map or regfile, null instance=" + callingInst.getId() + ", rep=" + rep);
 
-				regSetProperties = new RegSetProperties(callingInst);  // extract basic properties
+				regSetProperties = (repTemplate != null)? new RegSetProperties(repTemplate) : new RegSetProperties(callingInst);  // extract basic properties
 				outputBuilder.setExternalInstanceProperties(regSetProperties, isAddressMap());  // set external inst properties
 				// set addr map
 				if (isAddressMap()) {
@@ -175,9 +194,15 @@ public class ModRegSet extends ModComponent {
 				}
 				// else use rep number in regset name if output is visiting each
 				else if (outputBuilder.visitEachRegSet() && (outputBuilder.visitExternalRegisters() || !regSetProperties.isExternal())) 
-					regSetProperties.setId(regSetProperties.getId() + getRepSuffix(rep, repCount)); // update name based on rep #  
+					regSetProperties.setId(callingInst.getId() + getRepSuffix(rep, repCount)); // update name based on rep #  
 				
 				outputBuilder.pushInstance(regSetProperties);  // root external is set here
+				
+				// extract first rep of a replicated regset early so it can be copied by later reps
+				if ((rep == 0) && (repCount > 1)) {
+					regSetProperties.updateInstanceInfo(outputBuilder.getInstancePath());
+					if (regSetProperties.isRepInvariant()) repTemplate = new RegSetProperties(regSetProperties);  // copy before builder updates
+				}
 				outputBuilder.addRegSet(regSetProperties, rep);  // FIXME - previous regSetProperties stuff could be pushed into addRegSet and return regSetProperties
 
 				// generate each direct instance in this component
@@ -227,7 +252,7 @@ public class ModRegSet extends ModComponent {
 			return false;
 		if (getClass() != obj.getClass())
 			return false;
-		ModRegister other = (ModRegister) obj;
+		ModRegSet other = (ModRegSet) obj;
 		if (alignedSize == null) {
 			if (other.alignedSize != null)
 				return false;
@@ -4,18 +4,21 @@
 package ordt.extract.model;
 
 import java.util.HashSet;
+import java.util.List;
 
 import ordt.extract.DefinedProperties;
 import ordt.extract.Ordt;
 import ordt.output.common.MsgUtils;
 import ordt.extract.RegNumber;
 import ordt.extract.Ordt.InputType;
+import ordt.output.FieldProperties;
 import ordt.output.OutputBuilder;
 import ordt.output.RegProperties;
 import ordt.parameters.ExtParameters;
 
 /** register class extracted from definition lang */
 public class ModRegister extends ModComponent  {
+	private static final long serialVersionUID = 1L;
 
 	private int padBits = 0;  // number of unused bits in this reg / used to compute field offsets for inputs that allow pad (jspec) 
 	public static int defaultWidth = 32;
@@ -103,6 +106,12 @@ public class ModRegister extends ModComponent  {
 	public void setAlignedSize(int defaultRegWidth) {
 		// if already computed then exit
 		if (alignedSize != null) return;
+		computeAlignedSize(defaultRegWidth);
+	}
+
+	/** compute aligned size and pad bits of this reg using the specified default width */
+	@Override
+	protected void computeAlignedSize(int defaultRegWidth) {
 		// set reg width if it's not explicitly defined
 		int regWidth = hasProperty("regwidth")? getIntegerProperty("regwidth") : defaultRegWidth;  
 		setWidth(regWidth);  // save regWidth
@@ -185,19 +194,40 @@ public class ModRegister extends ModComponent  {
 			if ((repCount > ExtParameters.sysVerMaxInternalRegReps()) && !regProperties.isExternal()) MsgUtils.warnMessage("Register replication exceeded max for internal register, instance=" + callingInst.getId() + ", reps=" + repCount);
 			//else MsgUtils.infoMessage("generateVerilog: register replication for internal register, instance=" + callingInst.getId() + ", reps=" + repCount);
 				
-			// call once per replicated register
+			// call once per replicated register.  reps are copied from the first rep if its info is rep-invariant
+			RegProperties repTemplate = null;  // extracted properties of the first rep
+			List<FieldProperties> repFields = null;  // fields of the first rep
 		    for (int rep=0; rep<repCount; rep++) {
 				
-				regProperties = new RegProperties(callingInst, outputBuilder.fieldOffsetsFromZero());  // extract basic properties
-				if (outputBuilder.visitEachReg()) regProperties.setId(regProperties.getId() + getRepSuffix(rep, repCount)); // update name based on rep #
+				regProperties = (repTemplate != null)? new RegProperties(repTemplate) : new RegProperties(callingInst, outputBuilder.fieldOffsetsFromZero());  // extract basic properties
+				if (outputBuilder.visitEachReg()) regProperties.setId(callingInst.getId() + getRepSuffix(rep, repCount)); // update name based on rep #
 				outputBuilder.setExternalInstanceProperties(regProperties, false);  // set external inst properties 
 				outputBuilder.pushInstance(regProperties);
 				
+				// extract first rep of a replicated register early so it can be saved for later reps
+				RegProperties firstRep = null;
+				if ((rep == 0) && (repCount > 1) && hasOnlyFieldChildren()) {
+					regProperties.updateInstanceInfo(outputBuilder.getInstancePath());
+					if (regProperties.isRepInvariant()) {
+						firstRep = new RegProperties(regProperties);  // copy before builder updates
+						regProperties.saveAddedFields();
+					}
+				}
+				
 				outputBuilder.addRegister(regProperties, rep);   // add register to verilog output structures  <----- note that all inst properties are extracted here 
 		     			     	
-				// generate each direct instance in this component
-				for (ModInstance regInst : getChildInstances()) {
-					regInst.generateOutput(outputBuilder);
+				// add fields from the first rep if saved, else generate each direct instance in this component
+				if (repFields != null) outputBuilder.addRegisterTemplateFields(repFields);
+				else {
+					for (ModInstance regInst : getChildInstances()) {
+						regInst.generateOutput(outputBuilder);
+					}
+				}
+				
+				// save first rep for use by later reps if all fields are also rep-invariant
+				if ((firstRep != null) && areRepInvariantFields(regProperties.getAddedFields())) {
+					repTemplate = firstRep;
+					repFields = regProperties.getAddedFields();
 				}
 				
 				outputBuilder.finishRegister(regProperties);  // wrap up register add after all sub-fields added
@@ -207,6 +237,23 @@ public class ModRegister extends ModComponent  {
 		}
 	}
 
+	/** return true if all children of this register are fields */
+	private boolean hasOnlyFieldChildren() {
+		for (ModInstance regInst : getChildInstances()) {
+			if (!regInst.getRegComp().isField()) return false;
+		}
+		return true;
+	}
+
+	/** return true if a list has a field for each child of this register and all were extracted with rep-invariant info */
+	private boolean areRepInvariantFields(List<FieldProperties> fields) {
+		if (fields.size() != getChildInstances().size()) return false;
+		for (FieldProperties field : fields) {
+			if (!field.isRepInvariant()) return false;
+		}
+		return true;
+	}
+
 	@Override
 	// NOTE: currently used for uvm class reuse
 	public int hashCode() {
@@ -3,10 +3,18 @@
  */
 package ordt.extract.model;
 
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
 import ordt.output.common.MsgUtils;
+import ordt.parameters.ExtParameters;
 import ordt.output.OutputBuilder;
 
 public class ModRootComponent extends ModComponent {
+	private static final long serialVersionUID = 1L;
 
 	public ModRootComponent () {
 		setId("root");  // set root name
@@ -15,7 +23,7 @@ public class ModRootComponent extends ModComponent {
 
 	/** remove all root instance children */
 	public void removeChildInstances() {
-		getChildInstances().clear();
+		removeChildInstances(0);
 	}
 
 	/** compute min size of all instanced registers and regsets */
@@ -25,8 +33,86 @@ public class ModRootComponent extends ModComponent {
 		ModInstance inst = this.getFirstChildInstance();
 		if (inst != null) {
 			int newDefaultRegWidth = inst.hasDefaultProperty("regwidth") ? inst.getDefaultIntegerProperty("regwidth") : defaultRegWidth;  // use instance default if defined
-			inst.regComp.setAlignedSize(newDefaultRegWidth);  //recursively set sizes
+			int threads = Math.min(ExtParameters.getOutputGenerationThreads(), Runtime.getRuntime().availableProcessors());
+			if (threads > 1) setAlignedSizeInParallel(inst.regComp, newDefaultRegWidth, threads);
+			else inst.regComp.setAlignedSize(newDefaultRegWidth);  //recursively set sizes
+		}
+	}
+
+	/** component definition to be sized using a specific default reg width */
+	private static class SizingStep {
+		private ModComponent comp;
+		private int defaultRegWidth;
+		
+		private SizingStep(ModComponent comp, int defaultRegWidth) {
+			this.comp = comp;
+			this.defaultRegWidth = defaultRegWidth;
+		}
+	}
+
+	/** fork/join task computing sizes of a range of sizing steps in a level */
+	private static class SizingTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+		private static final int grainSize = 64;  // max steps sized by a task without forking
+		private List<SizingStep> steps;
+		private int lo, hi;
+		
+		private SizingTask(List<SizingStep> steps, int lo, int hi) {
+			this.steps = steps;
+			this.lo = lo;
+			this.hi = hi;
+		}
+
+		@Override
+		protected void compute() {
+			if (hi - lo <= grainSize) {
+				for (int idx=lo; idx<hi; idx++) steps.get(idx).comp.computeAlignedSize(steps.get(idx).defaultRegWidth);
+				return;
+			}
+			int mid = (lo + hi) >>> 1;
+			invokeAll(new SizingTask(steps, lo, mid), new SizingTask(steps, mid, hi));
+		}
+	}
+
+	/** size a component and its descendants, computing sizes of distinct component definitions concurrently.
+	 *  The default reg width of each component is found by a serial walk in the same order as setAlignedSize, so
+	 *  the first visit of a shared component determines its size exactly as in the serial path.  Components are then
+	 *  grouped in levels by height above the leaf registers and each level is sized in parallel once all lower levels
+	 *  are complete.  Pool invocation orders the memoized size writes of each level before reads in the next. */
+	private static void setAlignedSizeInParallel(ModComponent comp, int defaultRegWidth, int threads) {
+		List<List<SizingStep>> levels = new ArrayList<List<SizingStep>>();
+		addSizingSteps(comp, defaultRegWidth, new IdentityHashMap<ModComponent, Integer>(), levels);
+		ForkJoinPool pool = null;  // created once a level is large enough to split
+		try {
+			for (List<SizingStep> level: levels) {
+				if (level.size() > SizingTask.grainSize) {
+					if (pool == null) pool = new ForkJoinPool(threads);
+					pool.invoke(new SizingTask(level, 0, level.size()));
+				}
+				else for (SizingStep step: level) step.comp.computeAlignedSize(step.defaultRegWidth);
+			}
+		} finally {
+			if (pool != null) pool.shutdown();
+		}
+	}
+
+	/** add a sizing step for a component and its unsized descendants to the level list, returning the component height */
+	private static int addSizingSteps(ModComponent comp, int defaultRegWidth, IdentityHashMap<ModComponent, Integer> heights, List<List<SizingStep>> levels) {
+		Integer height = heights.get(comp);
+		if (height != null) return height;  // already visited, so size was set by first visit
+		if (comp.getAlignedSize() != null) return -1;  // already computed
+		height = 0;
+		for (ModInstance regInst : comp.getChildInstances()) {
+			if (regInst.isAddressable()) {
+				ModAddressableInstance childInst= (ModAddressableInstance) regInst;
+				int childHeight = addSizingSteps(childInst.regComp, comp.getChildDefaultRegWidth(childInst, defaultRegWidth), heights, levels);
+				height = Math.max(height, childHeight + 1);
+			}
 		}
+		heights.put(comp, height);
+		while (levels.size() <= height) levels.add(new ArrayList<SizingStep>());
+		levels.get(height).add(new SizingStep(comp, defaultRegWidth));
+		return height;
 	}
 
 	/** sortRegisters - fix simple out of order address order issues */
@@ -9,6 +9,7 @@ import ordt.output.OutputBuilder;
 import ordt.output.SignalProperties;
 
 public class ModSignal extends ModComponent {
+	private static final long serialVersionUID = 1L;
 	
 	public ModSignal() {
 		super();
@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2016 Juniper Networks, Inc. All rights reserved.
+ */
+package ordt.output;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/** immutable index of the address ranges of elaborated registers and register sets.
+ *  Ranges are held in primitive arrays sorted by start address, with each range linked to the innermost range
+ *  enclosing it, so address and overlap queries take O(log n) plus the nesting depth of the result.
+ *  Queries assume properly nested ranges - ranges partially overlapping a prior range are listed by getOverlaps().
+ *  The index is currently built only by AddressLookupBuilder for the address lookup output. Address checks
+ *  made while addresses are being assigned (address sort, svlog decode gaps, regset alignment) do not use it. */
+public class AddressIntervalIndex {
+	private final long[] starts;   // range start addresses, ascending (ties ordered by descending end)
+	private final long[] ends;   // inclusive range end addresses
+	private final int[] parents;   // index of the innermost range enclosing each range, or -1
+	private final String[] paths;   // instance path of each range
+	private final boolean[] isReg;   // true if range is a register, else a register set
+	private final List<int[]> overlaps = new ArrayList<int[]>();   // index pairs of ranges that overlap without nesting
+
+	/** list of ranges, in any order, from which an index is created */
+	public static class RangeList {
+		private long[] starts = new long[64];
+		private long[] ends = new long[64];
+		private String[] paths = new String[64];
+		private boolean[] isReg = new boolean[64];
+		private int size = 0;
+
+		/** add a range
+		 * @param start - start address of the range
+		 * @param end - inclusive end address of the range
+		 * @param path - instance path of the register or register set
+		 * @param isReg - true if range is a register
+		 */
+		public void add(long start, long end, String path, boolean isReg) {
+			if (size == starts.length) {
+				int newLen = 2 * size;
+				starts = Arrays.copyOf(starts, newLen);
+				ends = Arrays.copyOf(ends, newLen);
+				paths = Arrays.copyOf(paths, newLen);
+				this.isReg = Arrays.copyOf(this.isReg, newLen);
+			}
+			starts[size] = start;
+			ends[size] = end;
+			paths[size] = path;
+			this.isReg[size] = isReg;
+			size++;
+		}
+
+		/** return the number of ranges added */
+		public int size() {
+			return size;
+		}
+	}
+
+	/** create an index of the ranges in a list */
+	public AddressIntervalIndex(final RangeList ranges) {
+		int size = ranges.size;
+		Integer[] order = new Integer[size];
+		for (int idx=0; idx<size; idx++) order[idx] = idx;
+		Arrays.sort(order, new Comparator<Integer>() {  // equal ranges are ordered with register sets and shorter (ancestor) paths first
+			@Override
+			public int compare(Integer a, Integer b) {
+				int cmp = Long.compareUnsigned(ranges.starts[a], ranges.starts[b]);
+				if (cmp == 0) cmp = Long.compareUnsigned(ranges.ends[b], ranges.ends[a]);
+				if (cmp == 0) cmp = Boolean.compare(ranges.isReg[a], ranges.isReg[b]);
+				if (cmp == 0) cmp = Integer.compare(ranges.paths[a].length(), ranges.paths[b].length());
+				return cmp;
+			}
+		});
+		starts = new long[size];
+		ends = new long[size];
+		parents = new int[size];
+		paths = new String[size];
+		isReg = new boolean[size];
+		for (int idx=0; idx<size; idx++) {
+			starts[idx] = ranges.starts[order[idx]];
+			ends[idx] = ranges.ends[order[idx]];
+			paths[idx] = ranges.paths[order[idx]];
+			isReg[idx] = ranges.isReg[order[idx]];
+		}
+		// link each range to its innermost enclosing range using a stack of open ranges
+		int[] open = new int[size];
+		int openCount = 0;
+		for (int idx=0; idx<size; idx++) {
+			while ((openCount > 0) && (Long.compareUnsigned(ends[open[openCount - 1]], starts[idx]) < 0)) openCount--;
+			if (openCount > 0) {
+				int parent = open[openCount - 1];
+				if (isReg[parent] || (Long.compareUnsigned(ends[idx], ends[parent]) > 0)) overlaps.add(new int[] {parent, idx});
+				parents[idx] = parent;
+			}
+			else parents[idx] = -1;
+			open[openCount++] = idx;
+		}
+	}
+
+	/** return the number of ranges in this index */
+	public int size() {
+		return starts.length;
+	}
+
+	/** return the start address of the range at specified index */
+	public long getStart(int idx) {
+		return starts[idx];
+	}
+
+	/** return the inclusive end address of the range at specified index */
+	public long getEnd(int idx) {
+		return ends[idx];
+	}
+
+	/** return the instance path of the range at specified index */
+	public String getInstancePath(int idx) {
+		return paths[idx];
+	}
+
+	/** return true if the range at specified index is a register */
+	public boolean isRegister(int idx) {
+		return isReg[idx];
+	}
+
+	/** return the index of the innermost range enclosing the range at specified index, or -1 if none */
+	public int getParent(int idx) {
+		return parents[idx];
+	}
+
+	/** return index pairs of ranges found to overlap without nesting, including ranges starting within a register */
+	public List<int[]> getOverlaps() {
+		return Collections.unmodifiableList(overlaps);
+	}
+
+	/** return the index of the innermost range containing an address, or -1 if no range contains it.
+	 *  Enclosing ranges of the result are found using getParent. */
+	public int find(long address) {
+		return findContaining(lastStartAtOrBefore(address), address);
+	}
+
+	/** return indices of all ranges overlapping the range from start to end (inclusive), in start address order */
+	public List<Integer> findOverlapping(long start, long end) {
+		List<Integer> matches = new ArrayList<Integer>();
+		if (Long.compareUnsigned(start, end) > 0) return matches;
+		// ranges starting before start overlap only if they contain start, so are the innermost such range and its ancestors
+		int lastBefore = firstStartAtOrAfter(start) - 1;
+		for (int idx = findContaining(lastBefore, start); idx >= 0; idx = parents[idx]) matches.add(idx);
+		Collections.reverse(matches);
+		// add ranges starting in the range
+		for (int idx = lastBefore + 1; (idx < starts.length) && (Long.compareUnsigned(starts[idx], end) <= 0); idx++) matches.add(idx);
+		return matches;
+	}
+
+	/** return the index of the innermost range containing an address, searching from the specified range and its ancestors */
+	private int findContaining(int idx, long address) {
+		while ((idx >= 0) && (Long.compareUnsigned(ends[idx], address) < 0)) idx = parents[idx];
+		return idx;
+	}
+
+	/** return the index of the last range starting at or before an address, or -1 if none */
+	private int lastStartAtOrBefore(long address) {
+		if (address == -1L) return starts.length - 1;  // max unsigned address
+		return firstStartAtOrAfter(address + 1) - 1;
+	}
+
+	/** return the index of the first range starting at or after an address */
+	private int firstStartAtOrAfter(long address) {
+		int lo = 0, hi = starts.length;
+		while (lo < hi) {
+			int mid = (lo + hi) >>> 1;
+			if (Long.compareUnsigned(starts[mid], address) < 0) lo = mid + 1;
+			else hi = mid;
+		}
+		return lo;
+	}
+}
@@ -47,16 +47,19 @@ public abstract class AddressableInstanceProperties extends InstanceProperties {
 		if (extractInstance.hasProperty("external"))  setExternalTypeFromString(extractInstance.getProperty("external"));
 	}
 
+	/** copy an instance.  external state is set from the extract instance as in a new instance, since builders
+	 *  can modify the external type of each rep */
 	public AddressableInstanceProperties(AddressableInstanceProperties oldInstance) {
 		super(oldInstance);
 		// set AddressableInstanceProperty info
-		setExternalType(oldInstance.getExternalType());  
-		setRootExternal(oldInstance.isRootExternal());  
+		if (extractInstance.hasProperty("external"))  setExternalTypeFromString(extractInstance.getProperty("external"));
 		setAddressMap(oldInstance.isAddressMap());  
-		setRelativeBaseAddress(oldInstance.getRelativeBaseAddress());  
-		setBaseAddress(oldInstance.getBaseAddress());  
-		setExtInstAddressWidth(oldInstance.getExtAddressWidth());  
+		if (oldInstance.getRelativeBaseAddress() != null) setRelativeBaseAddress(oldInstance.getRelativeBaseAddress());  
+		if (oldInstance.getBaseAddress() != null) setBaseAddress(oldInstance.getBaseAddress());  
+		setExtInstAddressWidth(oldInstance.getExtInstAddressWidth());  
 		setExtLowBit(oldInstance.getExtLowBit());  
+		setSwReadable(oldInstance.isSwReadable());  
+		setSwWriteable(oldInstance.isSwWriteable());  
 	}
 	
 	/** display info AddressableInstanceProperties info */
@@ -9,6 +9,7 @@ import ordt.output.common.MsgUtils;
 import ordt.extract.DefinedProperties;
 import ordt.extract.Ordt;
 import ordt.extract.PropertyList;
+import ordt.extract.PropertyList.RefValue;
 import ordt.extract.RegNumber;
 import ordt.extract.model.ModComponent;
 import ordt.extract.model.ModEnum;
@@ -131,7 +132,64 @@ public class FieldProperties extends InstanceProperties {
 	/** init properties using defaults -> component -> instance values */
 	public FieldProperties(ModInstance regInst) {
 		super(regInst);  // init instance, id and copy base properties in
-	}	
+	}
+
+	/** create a copy of a field for use in another rep of its register.
+	 *  values, references and maps are shared since they are not modified after extraction */
+	public FieldProperties(FieldProperties oldInstance) {
+		super(oldInstance);
+		this.fieldArrayString = oldInstance.fieldArrayString;
+		this.fieldSetPrefixString = oldInstance.fieldSetPrefixString;
+		this.fieldWidth = oldInstance.fieldWidth;
+		this.lowIndex = oldInstance.lowIndex;
+		this.subcategory = oldInstance.subcategory;
+		this.reset = oldInstance.reset;
+		this.hwPrecedence = oldInstance.hwPrecedence;
+		this.isSwReadable = oldInstance.isSwReadable;
+		this.isSwWriteable = oldInstance.isSwWriteable;
+		this.isHwReadable = oldInstance.isHwReadable;
+		this.isHwWriteable = oldInstance.isHwWriteable;
+		this.hasSwWriteEnableH = oldInstance.hasSwWriteEnableH;
+		this.hasSwWriteEnableL = oldInstance.hasSwWriteEnableL;
+		this.hasHwSet = oldInstance.hasHwSet;
+		this.hasHwClr = oldInstance.hasHwClr;
+		this.hwLoadValues = oldInstance.hwLoadValues;
+		this.hasWriteEnableH = oldInstance.hasWriteEnableH;
+		this.hasWriteEnableL = oldInstance.hasWriteEnableL;
+		this.isRclr = oldInstance.isRclr;
+		this.isRset = oldInstance.isRset;
+		this.isWoset = oldInstance.isWoset;
+		this.isWoclr = oldInstance.isWoclr;
+		this.hasSwAcc = oldInstance.hasSwAcc;
+		this.hasSwMod = oldInstance.hasSwMod;
+		this.isAnded = oldInstance.isAnded;
+		this.isOred = oldInstance.isOred;
+		this.isXored = oldInstance.isXored;
+		this.isSinglePulse = oldInstance.isSinglePulse;
+		this.hasOverflow = oldInstance.hasOverflow;
+		this.hasUnderflow = oldInstance.hasUnderflow;
+		this.hasSaturateOutputs = oldInstance.hasSaturateOutputs;
+		this.dontTestMask = oldInstance.dontTestMask;
+		this.dontCompareMask = oldInstance.dontCompareMask;
+		this.rtlCoverage = oldInstance.rtlCoverage;
+		this.encoding = oldInstance.encoding;
+		this.isCounter = oldInstance.isCounter;
+		this.incrValue = oldInstance.incrValue;
+		this.decrValue = oldInstance.decrValue;
+		this.incrWidth = oldInstance.incrWidth;
+		this.decrWidth = oldInstance.decrWidth;
+		this.incrSatValue = oldInstance.incrSatValue;
+		this.decrSatValue = oldInstance.decrSatValue;
+		this.incrTholdValue = oldInstance.incrTholdValue;
+		this.decrTholdValue = oldInstance.decrTholdValue;
+		this.isInterrupt = oldInstance.isInterrupt;
+		this.isRtlOnlyInterrupt = oldInstance.isRtlOnlyInterrupt;
+		this.intrType = oldInstance.intrType;
+		this.intrStickyType = oldInstance.intrStickyType;
+		this.maskIntrBits = oldInstance.maskIntrBits;
+		this.isHalt = oldInstance.isHalt;
+		this.rhsReferences = oldInstance.rhsReferences;
+	}
 	
 	/** extract properties from the calling instance */
     @Override
@@ -158,7 +216,7 @@ public class FieldProperties extends InstanceProperties {
 		
 		// now use pList to extract info
 		if (pList.hasProperty("reset")) {
-			RegNumber regNum = new RegNumber(pList.getProperty("reset"));
+			RegNumber regNum = pList.getRegNumberProperty("reset");
 			if (regNum.isDefined()) {
 				if (!regNum.isDefinedVector()) {
 					//System.out.println("fieldProperties: reset has no vector length, r=" + pList.getProperty("reset"));
@@ -168,12 +226,12 @@ public class FieldProperties extends InstanceProperties {
 				setReset(regNum);   // assignment of value
 			}
 			else if ("na".equals(pList.getProperty("reset")) || "unknown".equals(pList.getProperty("reset"))) setReset(null); // na indicates no reset
-			else setRef(RhsRefType.RESET_VALUE, pList.getProperty("reset"), pList.getDepth("reset"));  // assignment by reference
+			else setRef(RhsRefType.RESET_VALUE, pList, "reset");  // assignment by reference
 		}
 		
 		// set resetsignal to default if not specified
 		if (pList.hasProperty("resetsignal")) 
-			setRef(RhsRefType.RESET_SIGNAL, pList.getProperty("resetsignal"), pList.getDepth("resetsignal")); 
+			setRef(RhsRefType.RESET_SIGNAL, pList, "resetsignal"); 
 
 		// set enum encode 
 		if (pList.hasProperty("encode")) {
@@ -208,13 +266,13 @@ public class FieldProperties extends InstanceProperties {
 			setHasSwWriteEnableH(true);
 			// if a reference signal than set
 			if (!pList.hasBooleanProperty("swwe"))
-				setRef(RhsRefType.SW_WE, pList.getProperty("swwe"), pList.getDepth("swwe"));
+				setRef(RhsRefType.SW_WE, pList, "swwe");
 		}
 		else if (pList.hasTrueOrRefProperty("swwel")) {
 			setHasSwWriteEnableL(true);
 			// if a reference signal than set
 			if (!pList.hasBooleanProperty("swwel"))
-				setRef(RhsRefType.SW_WE, pList.getProperty("swwel"), pList.getDepth("swwel"));
+				setRef(RhsRefType.SW_WE, pList, "swwel");
 		}	
 		
 		// set hw write enable properties 
@@ -223,7 +281,7 @@ public class FieldProperties extends InstanceProperties {
 			setHasWriteEnableH(true);
 			// if a reference signal than set
 			if (!pList.hasBooleanProperty("we"))
-				setRef(RhsRefType.WE, pList.getProperty("we"), pList.getDepth("we"));
+				setRef(RhsRefType.WE, pList, "we");
 		}
 		else if (pList.hasTrueOrRefProperty("wel")) {
 			//System.out.println("fieldProperties extractProperties: wel found, inst=" + this.getInstancePath() + ", wel=" + pList.getProperty("wel"));
@@ -231,7 +289,7 @@ public class FieldProperties extends InstanceProperties {
 			setHasWriteEnableL(true);
 			// if a reference signal than set
 			if (!pList.hasBooleanProperty("wel"))
-				setRef(RhsRefType.WE, pList.getProperty("wel"), pList.getDepth("wel"));
+				setRef(RhsRefType.WE, pList, "wel");
 		}	
 		
 		// set hw set property 
@@ -239,7 +297,7 @@ public class FieldProperties extends InstanceProperties {
 			setHasHwSet(true);
 			// if a reference signal than set
 			if (!pList.hasBooleanProperty("hwset"))
-				setRef(RhsRefType.HW_SET, pList.getProperty("hwset"), pList.getDepth("hwset"));
+				setRef(RhsRefType.HW_SET, pList, "hwset");
 		}
 		
 		// set hw clr property 
@@ -247,7 +305,7 @@ public class FieldProperties extends InstanceProperties {
 			setHasHwClr(true);
 			// if a reference signal than set
 			if (!pList.hasBooleanProperty("hwclr"))
-				setRef(RhsRefType.HW_CLR, pList.getProperty("hwclr"), pList.getDepth("hwclr"));
+				setRef(RhsRefType.HW_CLR, pList, "hwclr");
 		}
 		
 		// hwload property(s)
@@ -255,7 +313,7 @@ public class FieldProperties extends InstanceProperties {
 			String hwloadStr = (loadidx<0)? "hwload" : "hwload(" + loadidx + ")";
 		    if (pList.hasProperty(hwloadStr)) {
 				//System.out.println("fieldProperties extractProperties: found " + hwloadStr + " in inst=" + this.getInstancePath() + ", val=" + pList.getProperty(hwloadStr));
-				RegNumber regNum = new RegNumber(pList.getProperty(hwloadStr));
+				RegNumber regNum = pList.getRegNumberProperty(hwloadStr);
 				if (regNum.isDefined()) {
 					if (!regNum.isDefinedVector()) regNum.setVectorLen(getFieldWidth());
 					int idx = (loadidx<0)? 0 : loadidx;
@@ -270,7 +328,7 @@ public class FieldProperties extends InstanceProperties {
 			if (pList.hasTrueProperty("donttest"))  // entire field is donttest
 			   mask = new RegNumber(getFieldWidth() + "'b" + MsgUtils.repeat('1', getFieldWidth()));
 			else
-			   mask = new RegNumber(pList.getProperty("donttest"));
+			   mask = pList.getRegNumberProperty("donttest");
 			if (mask.isDefined()) {
 				setDontTest(true);
 				setDontTestMask(mask);
@@ -281,7 +339,7 @@ public class FieldProperties extends InstanceProperties {
 			if (pList.hasTrueProperty("dontcompare"))  // entire field is dontcompare
 			   mask = new RegNumber(getFieldWidth() + "'b" + MsgUtils.repeat('1', getFieldWidth()));
 			else
-			   mask = new RegNumber(pList.getProperty("dontcompare"));
+			   mask = pList.getRegNumberProperty("dontcompare");
 			if (mask.isDefined()) {
 				setDontCompare(true);
 				setDontCompareMask(mask);
@@ -309,7 +367,7 @@ public class FieldProperties extends InstanceProperties {
 			//System.out.println("FieldProperties extractProperties: inst=" + getInstancePath() + ",intr=" + pList.getProperty("intr") );
 			// if a reference signal than set
 			if (!pList.hasTrueProperty("intr"))
-				setRef(RhsRefType.INTR, pList.getProperty("intr"), pList.getDepth("intr"));
+				setRef(RhsRefType.INTR, pList, "intr");
 			
 			// set the interrupt type
 			if (pList.hasProperty("intrType")) {
@@ -329,10 +387,10 @@ public class FieldProperties extends InstanceProperties {
 
 			// set interrupt enable/mask reference 
 			if (pList.hasProperty("enable")) {
-				setRef(RhsRefType.INTR_ENABLE, pList.getProperty("enable"), pList.getDepth("enable")); 
+				setRef(RhsRefType.INTR_ENABLE, pList, "enable"); 
 			}
 			else if (pList.hasProperty("mask")) {
-				setRef(RhsRefType.INTR_MASK, pList.getProperty("mask"), pList.getDepth("mask"));  
+				setRef(RhsRefType.INTR_MASK, pList, "mask");  
 			}
 			
 			// set bits in addition to output intr using enable/mask
@@ -344,10 +402,10 @@ public class FieldProperties extends InstanceProperties {
 				//System.out.println("FieldProperties extractProperties: inst=" + getInstancePath() + ",halt=" + pList.getProperty("halt") );
 				// set halt enable/mask reference 
 				if (pList.hasProperty("haltenable")) {
-					setRef(RhsRefType.HALT_ENABLE, pList.getProperty("haltenable"), pList.getDepth("haltenable"));  
+					setRef(RhsRefType.HALT_ENABLE, pList, "haltenable");  
 				}
 				else if (pList.hasProperty("haltmask")) {
-					setRef(RhsRefType.HALT_MASK, pList.getProperty("haltmask"), pList.getDepth("haltmask"));  
+					setRef(RhsRefType.HALT_MASK, pList, "haltmask");  
 				}
 			}
 		}
@@ -382,12 +440,12 @@ public class FieldProperties extends InstanceProperties {
 			
 			// extract incr reference if supplied
 			if (pList.hasProperty("incr") && !pList.hasBooleanProperty("incr")) {  
-				setRef(RhsRefType.INCR, pList.getProperty("incr"), pList.getDepth("incr")); 
+				setRef(RhsRefType.INCR, pList, "incr"); 
 			}
 			
 			// extract decr reference if supplied
 			if (pList.hasProperty("decr") && !pList.hasBooleanProperty("decr")) {  
-				setRef(RhsRefType.DECR, pList.getProperty("decr"), pList.getDepth("decr")); 
+				setRef(RhsRefType.DECR, pList, "decr"); 
 			}
 			
 			// extract incr value settings
@@ -396,9 +454,9 @@ public class FieldProperties extends InstanceProperties {
 				incrSizeDefined=true;
 			}
 			else if (pList.hasProperty("incrvalue")) {
-			   RegNumber regNum = new RegNumber(pList.getProperty("incrvalue"));
+			   RegNumber regNum = pList.getRegNumberProperty("incrvalue");
 			   if (regNum.isDefined()) setIncrValue(regNum);   // assignment of value
-			   else setRef(RhsRefType.INCR_VALUE, pList.getProperty("incrvalue"), pList.getDepth("incrvalue"));  // assignment by reference
+			   else setRef(RhsRefType.INCR_VALUE, pList, "incrvalue");  // assignment by reference
 			   incrSizeDefined=true;
 			}
 			
@@ -408,9 +466,9 @@ public class FieldProperties extends InstanceProperties {
 				decrSizeDefined=true;
 			}
 			else if (pList.hasProperty("decrvalue")) {
-			   RegNumber regNum = new RegNumber(pList.getProperty("decrvalue"));
+			   RegNumber regNum = pList.getRegNumberProperty("decrvalue");
 			   if (regNum.isDefined()) setDecrValue(regNum);   // assignment of value
-			   else setRef(RhsRefType.DECR_VALUE, pList.getProperty("decrvalue"), pList.getDepth("decrvalue"));  // assignment by reference
+			   else setRef(RhsRefType.DECR_VALUE, pList, "decrvalue");  // assignment by reference
 			   decrSizeDefined=true;
 			}
 
@@ -424,19 +482,18 @@ public class FieldProperties extends InstanceProperties {
 				setDecrValue(new RegNumber("1'b1"));   // use 1 as default value
 			
 			// extract incr saturate settings
-			if (pList.hasProperty("saturate")) pList.copyProperty("saturate", "incrsaturate");  // handle saturate alias
-			
-			if (pList.hasProperty("incrsaturate")) {
-				if (pList.hasTrueProperty("incrsaturate")) {
+			String incrSatName = pList.hasProperty("saturate")? "saturate" : "incrsaturate";  // handle saturate alias
+			if (pList.hasProperty(incrSatName)) {
+				if (pList.hasTrueProperty(incrSatName)) {
 					setIncrSatValue(new RegNumber(fieldWidth + "'b" + MsgUtils.repeat('1', fieldWidth))); // default to max count
 				}
 				else {
-					RegNumber regNum = new RegNumber(pList.getProperty("incrsaturate"));
+					RegNumber regNum = pList.getRegNumberProperty(incrSatName);
 					if (regNum.isDefined()) {
 						regNum.setVectorLen(fieldWidth);
 						setIncrSatValue(regNum);   // assignment of value
 					}
-					else setRef(RhsRefType.INCR_SAT_VALUE, pList.getProperty("incrsaturate"), pList.getDepth("incrsaturate"));  // assignment by reference
+					else setRef(RhsRefType.INCR_SAT_VALUE, pList, incrSatName);  // assignment by reference
 				}
 			}
 			
@@ -444,26 +501,26 @@ public class FieldProperties extends InstanceProperties {
 			if (pList.hasProperty("decrsaturate")) {
 				if (pList.hasTrueProperty("decrsaturate")) setDecrSatValue(new RegNumber(fieldWidth + "'b1")); // default to 1
 				else {
-					RegNumber regNum = new RegNumber(pList.getProperty("decrsaturate"));
+					RegNumber regNum = pList.getRegNumberProperty("decrsaturate");
 					if (regNum.isDefined()) {
 						regNum.setVectorLen(fieldWidth);
 						setDecrSatValue(regNum);   // assignment of value
 					}
-					else setRef(RhsRefType.DECR_SAT_VALUE, pList.getProperty("decrsaturate"), pList.getDepth("decrsaturate"));  // assignment by reference
+					else setRef(RhsRefType.DECR_SAT_VALUE, pList, "decrsaturate");  // assignment by reference
 				}
 			}
 			
 			// extract incr threshold settings
-			if (pList.hasProperty("threshold")) pList.copyProperty("threshold", "incrthreshold");  // handle threshold alias
-			if (pList.hasProperty("incrthreshold")) {
-				if (pList.hasTrueProperty("incrthreshold")) setIncrTholdValue(new RegNumber(fieldWidth + "'b" + MsgUtils.repeat('1', fieldWidth))); // default to max count
+			String incrTholdName = pList.hasProperty("threshold")? "threshold" : "incrthreshold";  // handle threshold alias
+			if (pList.hasProperty(incrTholdName)) {
+				if (pList.hasTrueProperty(incrTholdName)) setIncrTholdValue(new RegNumber(fieldWidth + "'b" + MsgUtils.repeat('1', fieldWidth))); // default to max count
 				else {
-					RegNumber regNum = new RegNumber(pList.getProperty("incrthreshold"));
+					RegNumber regNum = pList.getRegNumberProperty(incrTholdName);
 					if (regNum.isDefined()) {
 						regNum.setVectorLen(fieldWidth);
 						setIncrTholdValue(regNum);   // assignment of value
 					}
-					else setRef(RhsRefType.INCR_THOLD_VALUE, pList.getProperty("incrthreshold"), pList.getDepth("incrthreshold"));  // assignment by reference
+					else setRef(RhsRefType.INCR_THOLD_VALUE, pList, incrTholdName);  // assignment by reference
 				}
 			}
 			
@@ -471,12 +528,12 @@ public class FieldProperties extends InstanceProperties {
 			if (pList.hasProperty("decrthreshold")) {
 				if (pList.hasTrueProperty("decrthreshold")) setDecrTholdValue(new RegNumber(fieldWidth + "'b1")); // default to 1
 				else {
-					RegNumber regNum = new RegNumber(pList.getProperty("decrthreshold"));
+					RegNumber regNum = pList.getRegNumberProperty("decrthreshold");
 					if (regNum.isDefined()) {
 						regNum.setVectorLen(fieldWidth);
 						setDecrTholdValue(regNum);   // assignment of value
 					}
-					else setRef(RhsRefType.DECR_THOLD_VALUE, pList.getProperty("decrthreshold"), pList.getDepth("decrthreshold"));  // assignment by reference
+					else setRef(RhsRefType.DECR_THOLD_VALUE, pList, "decrthreshold");  // assignment by reference
 				}
 			}
 			
@@ -497,7 +554,7 @@ public class FieldProperties extends InstanceProperties {
 		
 		// set next value specified
 		if (pList.hasProperty("next")) {
-			setRef(RhsRefType.NEXT, pList.getProperty("next"), pList.getDepth("next"));   // save raw signal name, convert in output gen
+			setRef(RhsRefType.NEXT, pList, "next");   // save raw signal name, convert in output gen
 			//System.out.println("FieldProperties extractProperties: inst=" + getInstancePath() + ", next=" + pList.getProperty("next") + ", depth=" + pList.getDepth("next"));
 			//System.err.println("** FieldProperties: next=" + pList.getProperty("next"));
 			//System.err.println("   FieldProperties: intr=" + pList.getProperty("intr"));
@@ -837,15 +894,18 @@ public class FieldProperties extends InstanceProperties {
 		return rhsReferences.get(rType).getReferenceName(this, relativePath);
 	}
 
-	/** save the specified rhs reference */
-	private void setRef(RhsRefType rType, String rawReference, int depth) {
+	/** save the specified rhs reference using a reference property value */
+	private void setRef(RhsRefType rType, PropertyList pList, String name) {
+		RefValue ref = pList.getRefProperty(name);
+		String rawInstancePath = ref.getInstancePath();
+		int depth = pList.getDepth(name);
 		// if this reference is defined at root, push into base component so names are generated correctly
 		String rootInst = Ordt.getModel().getRootInstance().getId() + ".";
-		if (rawReference.startsWith(rootInst)) {
-			rawReference = rawReference.replaceFirst(rootInst, "");
+		if (pList.getProperty(name).startsWith(rootInst)) {
+			rawInstancePath = rawInstancePath.substring(rootInst.length());
 			depth = depth - 1;
 		}
-		RhsReference newRef = new RhsReference(rawReference, depth);
+		RhsReference newRef = new RhsReference(rawInstancePath, ref.getDeRef(), depth);
 		rhsReferences.put(rType, newRef);
 	}
 
@@ -4,15 +4,15 @@
 package ordt.output;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
 
 import ordt.extract.Ordt;
 import ordt.extract.PropertyList;
-import ordt.extract.PropertyList.PropertyValue;
 import ordt.extract.model.ModComponent;
 import ordt.extract.model.ModInstance;
+import ordt.output.common.MsgUtils;
 import ordt.output.systemverilog.SystemVerilogDefinedOrdtSignals;
 import ordt.output.systemverilog.SystemVerilogDefinedOrdtSignals.DefSignalType;
 
@@ -38,6 +38,12 @@ public class InstanceProperties {
 	protected PropertyList jsPassthruProperties;   // jspec passthru properties for this instance
 
 	private int repNum = 0;  // rep number of this instProperty if part of a replicated set
+	
+	private boolean infoExtracted = false;  // true once instance info is extracted (or copied from an extracted instance)
+	private boolean repInvariant = false;  // true if extracted instance info is the same for all reps of this instance
+	private boolean hasIdTextMacro = false;  // true if name or description text includes the instance id
+
+	private StackPath stackPath, indexedStackPath, stackPrefix;  // cached builder stack paths ending at this instance
 		
 	/** create an instance and set basic info: id, extractInstance, external */
 	public InstanceProperties(ModInstance extractInstance) {
@@ -53,21 +59,17 @@ public class InstanceProperties {
 	 */
 	private PropertyList loadInstDefaultProperties() {
 		//if (getId().equals("tx")) System.out.println("InstanceProperties loadInstDefaultProperties: " + getId() + "\n" + extractInstance.getProperties());
-		// get parent and component of this instance
-		ModComponent parent = extractInstance.getParent();
-		ModComponent comp = extractInstance.getRegComp();
-		PropertyList pList = new PropertyList();
-		if (parent != null) pList.updateProperties(parent.getDefaultProperties());  
-		if (comp != null) pList.updateProperties(comp.getDefaultProperties());  
-		return pList;		
+		// copy the merged parent and component defaults shared by all reps of this instance
+		return new PropertyList(extractInstance.getInheritedDefaultProperties());		
 	}
 
 	public InstanceProperties(InstanceProperties oldInstance) {
 		this.extractInstance = oldInstance.getExtractInstance();
 		setId(oldInstance.getId());  
 		setInstancePath(oldInstance.getInstancePath());  
-		setTextName(oldInstance.getTextName());  
-		setTextDescription(oldInstance.getTextDescription());  
+		this.textName = oldInstance.getTextName();  // text macros are already resolved
+		this.textDescription = oldInstance.getTextDescription();  
+		this.hasIdTextMacro = oldInstance.hasIdTextMacro;  
 		setDontTest(oldInstance.isDontTest());  
 		setDontCompare(oldInstance.isDontCompare());  
 		setRepNum(oldInstance.getRepNum());  
@@ -77,6 +79,8 @@ public class InstanceProperties {
 		setInstDefaultProperties(oldInstance.getInstDefaultProperties());  
 		setUserDefinedProperties(oldInstance.getUserDefinedProperties());  
 		setJsPassthruProperties(oldInstance.getJsPassthruProperties());  
+		this.infoExtracted = oldInstance.infoExtracted;  
+		this.repInvariant = oldInstance.repInvariant;  
 	}
 	
 	/** display info InstanceProperties info */
@@ -161,6 +165,50 @@ public class InstanceProperties {
 		return getNoRepId() + "[" + getRepNum() + "]";
 	}
 
+	/** get builder instance stack path ending at this instance, given the path of its parent on the stack (null if none).
+	 *  The path is saved and rebuilt only if the parent path object or id change. */
+	public String getStackPath(String parentPath) {
+		if ((stackPath == null) || !stackPath.isValid(parentPath, id, 0)) 
+			stackPath = new StackPath(parentPath, id, 0, (parentPath == null)? String.valueOf(id) : parentPath + "." + id);
+		return stackPath.path;
+	}
+
+	/** get builder instance stack path with indexed rep suffixes ending at this instance, given the indexed path of its parent on the stack (null if none) */
+	public String getIndexedStackPath(String parentPath) {
+		if ((indexedStackPath == null) || !indexedStackPath.isValid(parentPath, id, repNum)) {
+			String indexedId = getIndexedId();
+			indexedStackPath = new StackPath(parentPath, id, repNum, (parentPath == null)? String.valueOf(indexedId) : parentPath + "." + indexedId);
+		}
+		return indexedStackPath.path;
+	}
+
+	/** get builder stack prefix ending at this instance with "_" separators, given the prefix of its parent on the stack ("" if none) */
+	public String getStackPrefix(String parentPrefix) {
+		if ((stackPrefix == null) || !stackPrefix.isValid(parentPrefix, id, 0)) 
+			stackPrefix = new StackPath(parentPrefix, id, 0, parentPrefix + id + "_");
+		return stackPrefix.path;
+	}
+
+	/** path string along with the parent path, id and rep used to build it */
+	private static class StackPath {
+		private String parentPath;
+		private String id;
+		private int repNum;
+		private String path;
+
+		private StackPath(String parentPath, String id, int repNum, String path) {
+			this.parentPath = parentPath;
+			this.id = id;
+			this.repNum = repNum;
+			this.path = path;
+		}
+		
+		/** return true if path was built from the same parent path object, id and rep */
+		private boolean isValid(String parentPath, String id, int repNum) {
+			return (this.parentPath == parentPath) && (this.id == id) && (this.repNum == repNum);
+		}
+	}
+
 	/** get total replication count
 	 */
 	public int getRepCount() {
@@ -234,8 +282,11 @@ public class InstanceProperties {
 	 */
 	public void updateInstanceInfo(String instancePath) {
 		setInstancePath(instancePath);
+		// info copied from an extracted rep only needs the new path
+		if (infoExtracted) return;
+		int messageCount = MsgUtils.getMessageCount();
 		// before creating instance list update default instance properties 
-		updateDefaultProperties(extractInstance.getDefaultProperties());
+		overrideDefaultProperties(extractInstance.getDefaultProperties());
 		// create a property list for holding combined info for this instance
 		PropertyList mergedList = new PropertyList();
 		// now add defined default instance properties
@@ -265,6 +316,27 @@ public class InstanceProperties {
 			System.out.println("  final=" + mergedList);
 			//System.out.println("  desc=" + getTextDescription());		
 		}*/
+		infoExtracted = true;
+		// info can be copied to other reps if no messages were issued and neither text nor post assigns depend on the rep
+		repInvariant = (MsgUtils.getMessageCount() == messageCount) && !hasIdTextMacro && !(isReplicated() && hasRepPostPropertyAssigns());
+	}
+
+	/** return true if extracted instance info is the same for all reps of this instance, so can be copied to other reps */
+	public boolean isRepInvariant() {
+		return repInvariant;
+	}
+
+	/** return true if post property assigns in components of the instance path might differ between reps of this instance,
+	 *  ie if any assign path has an element that is a rep suffixed id of this instance */
+	public boolean hasRepPostPropertyAssigns() {
+		String fullInstancePath = Ordt.getModel().getRootInstance().getId() + "." + getInstancePath();  // include root instance in path
+		List<String> instPath = new ArrayList<String>(Arrays.asList(fullInstancePath.split("\\.")));
+		List<ModComponent> pathComps = Ordt.getModel().getRoot().getPathComponents(instPath);
+		String noRepId = getNoRepId();
+		for (ModComponent comp: pathComps) {
+			if (comp.hasRepPostPropertyAssign(noRepId)) return true;
+		}
+		return false;
 	}
 
 	/** extract post property assignments in all components in instance path */
@@ -325,6 +397,7 @@ public class InstanceProperties {
 	private String resolveTextMacros(String text) {
 		if ((text == null) || !text.contains("%")) return text;
 		String newText = text;
+		if (newText.contains("%instance")) hasIdTextMacro = true;
 		newText = newText.replace("%instance", this.getId());
 		return newText;
 	}
@@ -420,10 +493,10 @@ public class InstanceProperties {
 		this.instDefaultProperties.updateProperties(instDefaultProperties, true);		
 	}
 	
-	/** update default properties using values in supplied hashmap (override existing props)
-	 *  @param hashmap of properties to be set
+	/** update default properties using values in supplied list (override existing props)
+	 *  @param list of properties to be set
 	 */
-	public void updateDefaultProperties(HashMap<String, PropertyValue> updates) {
+	public void overrideDefaultProperties(PropertyList updates) {
 		instDefaultProperties.updateProperties(updates);
 	}	
 
@@ -32,6 +32,11 @@ public class JspecSubCategory {
 		}
 	}
 	
+	/** reset the set of known sub_category values, removing any added values */
+	public static void init() {
+		map = initMap();
+	}
+	
 	/** initialize set of known category values */
 	private static HashMap<String, Integer> initMap() {
 		HashMap<String, Integer> map = new HashMap<String, Integer>();
@@ -4,9 +4,6 @@
 package ordt.output;
 
 import java.io.BufferedWriter;
-import java.io.File;
-import java.io.FileWriter;
-import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
@@ -26,6 +23,7 @@ import ordt.extract.RegNumber.NumFormat;
 import ordt.extract.model.ModInstance;
 import ordt.output.common.OutputLine;
 import ordt.output.common.OutputWriterIntf;
+import ordt.output.common.SimpleOutputWriter;
 import ordt.parameters.ExtParameters;
 import ordt.parameters.Utils;
 
@@ -41,9 +39,16 @@ public abstract class OutputBuilder implements OutputWriterIntf{
 	protected BufferedWriter bufferedWriter;
 	
 	// unique instance ID
-	private static int nextBuilderID = 0;
+	private OutputBuilder baseBuilder = this;  // base builder of this builder's hierarchy (assigns unique IDs)
+	private int nextBuilderID = 0;  // next available ID (only used in base builder)
 	private int builderID = 0;
 	
+	// model traversal visit counts (only maintained in base builder)
+	private int registerVisits = 0;
+	private int fieldVisits = 0;
+	private int regSetVisits = 0;
+	private int replicationVisits = 0;
+	
 	private RegNumber nextAddress = new RegNumber("0x0");   // initialize to address 0
 	private RegNumber baseAddress = new RegNumber("0x0");   // initialize to address 0
 	
@@ -60,6 +65,7 @@ public abstract class OutputBuilder implements OutputWriterIntf{
 	private boolean visitExternalRegisters = false;  // should any register group/regset in an external group be visited
 	private boolean visitEachExternalRegister = false;  // should each register in an external group be visited (treated as internal)
 	private boolean supportsOverlays = false;  // if true, builder supports processing of overlay models
+	private boolean useRegRepTemplates = false;  // if true, field outputs are the same for all reps of a register so template fields are added directly
 
 	private RegNumber externalBaseAddress;  // starting address of current external reg group
 		
@@ -100,17 +106,24 @@ public abstract class OutputBuilder implements OutputWriterIntf{
 		return builderID; 
 	}
 
-	/** set a new builderid */
-	protected void setNewBuilderID() {
-		this.builderID = nextBuilderID++;   // set unique ID of this instance
+	/** set a new builderid, unique within the hierarchy of the specified parent builder */
+	protected void setNewBuilderID(OutputBuilder parentBuilder) {
+		this.baseBuilder = parentBuilder.baseBuilder;
+		this.builderID = baseBuilder.nextBuilderID++;   // set unique ID of this instance
 	}
 
 	/** set a new builderid of 0 for this instance */
 	protected void setBaseBuilderID() {
+		this.baseBuilder = this;
 		nextBuilderID = 0;
 		this.builderID = nextBuilderID++;   // set unique ID of this instance
 	}
 
+	/** return model traversal visit counts of this builder's hierarchy (registers or external register groups, fields, regsets, replications) */
+	public int[] getVisitCounts() {
+		return new int[] { baseBuilder.registerVisits, baseBuilder.fieldVisits, baseBuilder.regSetVisits, baseBuilder.replicationVisits };
+	}
+
 	/** return true if this is the root VerilogBuilder
 	 */
 	public boolean isBaseBuilder() {
@@ -144,6 +157,7 @@ public abstract class OutputBuilder implements OutputWriterIntf{
 	/** add a field to this output */
 	public  void addField(FieldProperties fProperties) {
 		if (fProperties != null) {
+		   baseBuilder.fieldVisits++;
 		   
 		   fieldProperties = fProperties;
 			
@@ -194,6 +208,35 @@ public abstract class OutputBuilder implements OutputWriterIntf{
 	
 	/** add a field for a particular output */
 	abstract public  void addField();
+
+	/** add fields of a register rep from the template fields saved from its first rep (see ModRegister).  Builders whose
+	 *  field outputs are the same for all reps (see setUseRegRepTemplates) add the template fields directly, other builders
+	 *  add copies at the instance path of this rep.  Reps are emitted sequentially since each updates ordered builder state.
+	 */
+	public void addRegisterTemplateFields(List<FieldProperties> templateFields) {
+		for (FieldProperties field: templateFields) {
+			// add template field as in addField
+			if (useRegRepTemplates() && visitEachReg() && !field.isInvalid()) {
+				baseBuilder.fieldVisits++;
+				fieldProperties = field;
+				regProperties.addField(fieldProperties);  // update reg field info
+				fieldList.add(fieldProperties);  // add field to list for current register
+				if (!regProperties.isExternal() || visitExternalRegisters()) {
+					if (regProperties.isAlias()) 
+						addAliasField();
+					else
+						addField();
+				}
+			}
+			// otherwise add a copy of the template field at the path of this rep
+			else {
+				FieldProperties fProperties = new FieldProperties(field);  // path is updated in addField
+				pushInstance(fProperties);
+				addField(fProperties);
+				popInstance();
+			}
+		}
+	}
 		
 	/** add an alias register field for a particular output */
 	abstract public  void addAliasField();
@@ -261,6 +304,8 @@ public abstract class OutputBuilder implements OutputWriterIntf{
 	public  void addRegister(RegProperties rProperties, int rep) {  
 		if (rProperties != null) {
 			regIsActive = true;
+			baseBuilder.registerVisits++;
+			if (rep > 0) baseBuilder.replicationVisits++;
 		   //System.out.println("OutputBuilder " + getBuilderID() + " addRegister, path=" + getInstancePath() + ", id=" + rProperties.getId() + ", addr=" + rProperties.getExtractInstance().getAddress());
 
 		   // extract properties from instance/component
@@ -329,6 +374,7 @@ public abstract class OutputBuilder implements OutputWriterIntf{
 	public  void addExternalRegisters(RegProperties rProperties) {  
 		if (rProperties != null) {
 		   regIsActive = true;  // regProperties is valid
+		   baseBuilder.registerVisits++;  // replicated external registers are visited once as a group
 		   
 		   //if (rProperties.isRootExternal() != rProperties.isLocalRootExternal())
 		   //   System.out.println("OutputBuilder addExternalRegisters: root mismath for inst=" + getInstancePath() + ", rootExt=" + rProperties.isRootExternal() + ", localRootExt=" + rProperties.isLocalRootExternal());
@@ -524,6 +570,8 @@ public abstract class OutputBuilder implements OutputWriterIntf{
 	public  void addRegSet(RegSetProperties rsProperties, int rep) {  
 		
 		if (rsProperties != null) {
+			baseBuilder.regSetVisits++;
+			if (rep > 0) baseBuilder.replicationVisits++;
 			//System.out.println("OutputBuilder addRegSet: path=" + getInstancePath() + ", builder=" + builderID); // + ", id=" + regSetInst.getId());
 
 		   regSetProperties = rsProperties; 
@@ -929,36 +977,31 @@ public abstract class OutputBuilder implements OutputWriterIntf{
 	/** generate current instance path string
 	 */
 	public  String getInstancePath() {
-		String retStr = "";
-		for (InstanceProperties inst: instancePropertyStack) {
-			if (inst != null) retStr += "." + inst.getId(); 
-		}
-		if (retStr.length()<2) return "";
-		else return retStr.substring(1);
+		return getInstancePath(instancePropertyStack.size(), false);
 	}
 		
 	/** generate current instance path string with indexed rep suffixes
 	 */
 	protected String getIndexedInstancePath() {
-		String retStr = "";
-		for (InstanceProperties inst: instancePropertyStack) {
-			if (inst != null) retStr += "." + inst.getIndexedId(); 
-		}
-		if (retStr.length()<2) return "";
-		else return retStr.substring(1);
+		return getInstancePath(instancePropertyStack.size(), true);
 	}
 	
 	/** generate instance path string for parent of stack top
 	 */
 	protected String getParentInstancePath() {
-		String retStr = "";
-		Iterator<InstanceProperties> iter = instancePropertyStack.iterator();
-		while (iter.hasNext()) {
-			InstanceProperties inst = iter.next();
-			if ((inst !=null) && (iter.hasNext())) retStr += "." + inst.getId();  // skip top elem
+		return getInstancePath(instancePropertyStack.size() - 1, false);  // skip top elem
+	}
+
+	/** generate path string of the first stackSize instances in instanceStack using paths cached in each instance,
+	 *  so only instances that are new or changed since the last call add a string
+	 */
+	private String getInstancePath(int stackSize, boolean indexed) {
+		String path = null;
+		for (int idx=0; idx<stackSize; idx++) {
+			InstanceProperties inst = instancePropertyStack.get(idx);
+			if (inst != null) path = indexed? inst.getIndexedStackPath(path) : inst.getStackPath(path);
 		}
-		if (retStr.length()<2) return "";
-		else return retStr.substring(1);
+		return (path == null)? "" : path;
 	}
 
 	/** get baseName with indexed reps */
@@ -1101,11 +1144,7 @@ public abstract class OutputBuilder implements OutputWriterIntf{
 	/** get the fieldset prefix to be appended to field names in some outputs (rdl eg) */
 	private String getFieldSetPrefix() {
 		String prefix = "";
-		Iterator<FieldSetProperties> iter = fieldSetPropertyStack.iterator();
-		while (iter.hasNext()) {
-			InstanceProperties inst = iter.next();
-			prefix += inst.getId() + "_";
-		}
+		for (FieldSetProperties inst: fieldSetPropertyStack) prefix = inst.getStackPrefix(prefix);
 		return prefix;
 	}
 	
@@ -1201,6 +1240,21 @@ public abstract class OutputBuilder implements OutputWriterIntf{
 		return supportsOverlays;
 	}
 
+	/** get useRegRepTemplates
+	 *  @return the useRegRepTemplates
+	 */
+	public boolean useRegRepTemplates() {
+		return useRegRepTemplates;
+	}
+
+	/** set useRegRepTemplates.  Builders visiting each reg should set if their field outputs are the same for all
+	 *  reps of a register (ie only use field properties and not the field instance path, and issue no messages)
+	 *  @param useRegRepTemplates the useRegRepTemplates to set
+	 */
+	public void setUseRegRepTemplates(boolean useRegRepTemplates) {
+		this.useRegRepTemplates = useRegRepTemplates;
+	}
+
 	public void setSupportsOverlays(boolean supportsOverlays) {
 		this.supportsOverlays = supportsOverlays;
 	}
@@ -1212,7 +1266,7 @@ public abstract class OutputBuilder implements OutputWriterIntf{
 	
 	/** set next address value */
 	protected  void setNextAddress(RegNumber regAddress) {
-		nextAddress.setValue(regAddress.getValue());  // update value but keep format
+		nextAddress.setValue(regAddress);  // update value but keep format
 	}
 
 	/** get base address of root in this builder  */
@@ -1222,7 +1276,7 @@ public abstract class OutputBuilder implements OutputWriterIntf{
 	
 	/** set base address of root in this builder */
 	protected  void setBaseAddress(RegNumber regAddress) {
-		baseAddress.setValue(regAddress.getValue());  // update value but keep format
+		baseAddress.setValue(regAddress);  // update value but keep format
 	}
 	
 	/** get externalBaseAddress
@@ -1368,9 +1422,8 @@ public abstract class OutputBuilder implements OutputWriterIntf{
 	private  void updateNextAddress(int reps) {
 		int regBytes = regProperties.getRegByteWidth();
 		int incBytes = !Utils.isPowerOf2(regProperties.getRegWidth()) ? (Utils.getNextHighestPowerOf2(regProperties.getRegWidth())/8) : regBytes; 
-		RegNumber inc = new RegNumber(reps * incBytes); //register bytes
-		//System.out.println("updating address, inc=" + inc);
-		nextAddress.add(inc);		
+		//System.out.println("updating address, inc=" + (reps * incBytes));
+		nextAddress.add(reps * incBytes);  //register bytes
 	}
 
 	/**  bump the running address count by an increment value **/
@@ -1403,12 +1456,7 @@ public abstract class OutputBuilder implements OutputWriterIntf{
 
 	/** write a stmt to the specified BufferedWriter */
 	public  void writeStmt(BufferedWriter bw, int indentLevel, String stmt) {
-		   //System.out.println("OutputBuilder: bufnull=" + (bufferedWriter == null) + ", indent=" + ",Stmt=" + stmt);
-		   try {
-			bw.write(MsgUtils.repeat(' ', indentLevel*2) + stmt +"\n");
-		} catch (IOException e) {
-			e.printStackTrace();
-		}
+		SimpleOutputWriter.writeStmt(bw, indentLevel, stmt);
 	}
 	
 	/** write multiple stmts to the specified BufferedWriter */
@@ -1554,37 +1602,12 @@ public abstract class OutputBuilder implements OutputWriterIntf{
 	/** validate output file and create buffered writer
      */
     public static BufferedWriter openBufferedWriter(String outName, String description) {
-    	File outFile = null;
-    	try {	  			
-    		outFile = new File(outName); 
-
-    		System.out.println(MsgUtils.getProgName() + ": writing " + description + " file " + outFile + "...");
-
-    		// if file doesnt exists, then create it
-    		if (!outFile.exists()) {
-    			outFile.createNewFile();
-    		}
-
-    		FileWriter fw = new FileWriter(outFile.getAbsoluteFile());
-    		BufferedWriter bw = new BufferedWriter(fw);
-    		return bw;
-
-    	} catch (IOException e) {
-    		MsgUtils.errorMessage("Create of " + description + " file " + outFile.getAbsoluteFile() + " failed.");
-    		return null;
-    	}
+    	return SimpleOutputWriter.openBufferedWriter(outName, description);
     }
     
-    /** validate output file and create buffered writer
+    /** close buffered writer
      */
     public static void closeBufferedWriter(BufferedWriter bw) {
-    	try {	  
-    		bw.close();
-
-    	} catch (IOException e) {
-    		MsgUtils.errorMessage("File close failed.");
-    	}
+    	SimpleOutputWriter.closeBufferedWriter(bw);
     }
-
-		
-}
\ No newline at end of file
+}
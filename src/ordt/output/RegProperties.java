@@ -3,6 +3,9 @@
  */
 package ordt.output;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import ordt.output.common.MsgUtils;
 
 import ordt.extract.DefinedProperties;
@@ -46,6 +49,8 @@ public class RegProperties extends AddressableInstanceProperties {
 	
 	// jspec attributes
 	private String jspecAttributes;
+	
+	private List<FieldProperties> addedFields;  // fields added to this reg if saved for copy into other reps (null if not saved)
 		
 	/** init properties using defaults -> component -> instance values */
 	public RegProperties(ModInstance regInst, boolean fieldOffsetsFromZero) {
@@ -53,6 +58,29 @@ public class RegProperties extends AddressableInstanceProperties {
 		this.fieldOffsetsFromZero = fieldOffsetsFromZero;
 	}
 
+	/** create a copy of a register for use by another rep (saved fields are not copied) */
+	public RegProperties(RegProperties oldInstance) {
+		super(oldInstance);
+		this.regWidth = oldInstance.regWidth;
+		this.category = oldInstance.category;  // category is replaced rather than modified when set
+		this.filledBits = oldInstance.filledBits;
+		this.fieldCount = oldInstance.fieldCount;
+		if (oldInstance.availableBits != null) this.availableBits = oldInstance.availableBits.clone();
+		this.highAvailableIdx = oldInstance.highAvailableIdx;
+		this.fieldSetOffset = oldInstance.fieldSetOffset;
+		this.minValidOffset = oldInstance.minValidOffset;
+		this.fieldOffsetsFromZero = oldInstance.fieldOffsetsFromZero;
+		this.fieldHash = oldInstance.fieldHash;
+		this.aliasedId = oldInstance.aliasedId;
+		this.hasInterruptFields = oldInstance.hasInterruptFields;
+		this.hasInterruptOutputDefined = oldInstance.hasInterruptOutputDefined;
+		this.hasHaltOutputDefined = oldInstance.hasHaltOutputDefined;
+		this.isUvmMem = oldInstance.isUvmMem;
+		this.uvmRegPrune = oldInstance.uvmRegPrune;
+		this.cppModPrune = oldInstance.cppModPrune;
+		this.jspecAttributes = oldInstance.jspecAttributes;
+	}
+
 	@Override
 	public boolean isRegister() {
 		ModComponent comp = getExtractInstance().getRegComp();
@@ -60,7 +88,7 @@ public class RegProperties extends AddressableInstanceProperties {
 		//return true;
 	}
 	
-	// TODO - add clone constructor and display for regprops
+	// TODO - add display for regprops
 	/** extract properties from the calling instance */
     @Override
 	public void extractProperties(PropertyList pList) {
@@ -374,6 +402,16 @@ public class RegProperties extends AddressableInstanceProperties {
 		return fieldCount>0;
 	}
 
+	/** save fields subsequently added to this register so they can be copied into other reps */
+	public void saveAddedFields() {
+		addedFields = new ArrayList<FieldProperties>();
+	}
+
+	/** return fields added to this register since saveAddedFields was called (null if not saved) */
+	public List<FieldProperties> getAddedFields() {
+		return addedFields;
+	}
+
 	/** set current offset info to be used for field packing within a fieldset hierarchy
 	 * 
 	 * @param fieldSetProperties - new fieldset to be added
@@ -439,6 +477,7 @@ public class RegProperties extends AddressableInstanceProperties {
 		}
 		//if (getId().equals("scfg_data")) System.out.println("RegProperties addField: id=" + fieldProperties.getInstancePath() + ", adding at reg lowFieldIndex=" + lowFieldIndex);
 		fieldCount++;  // bump the field count
+		if (addedFields != null) addedFields.add(fieldProperties);
 		return lowFieldIndex;   
 	}
 
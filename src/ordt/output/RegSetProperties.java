@@ -25,10 +25,15 @@ public class RegSetProperties extends AddressableInstanceProperties {
 		super(regSetInst);  // init instance, id, name, description text
 	}
 	
-	/*
+	/** create a copy of a regset for use by another rep */
 	public RegSetProperties(RegSetProperties oldInstance) {
 		super(oldInstance);
-	}*/
+		if (oldInstance.highAddress != null) this.highAddress = new RegNumber(oldInstance.highAddress);
+		this.childHash = oldInstance.childHash;
+		this.jspecTypedefName = oldInstance.jspecTypedefName;
+		this.jspecInstanceName = oldInstance.jspecInstanceName;
+		this.jspecInstanceRepeat = oldInstance.jspecInstanceRepeat;
+	}
 	
 	/** display info AddressableInstanceProperties info */
     @Override
@@ -55,7 +60,7 @@ public class RegSetProperties extends AddressableInstanceProperties {
 	/** update basic info for the root regmap.  no post-prop assigns, path info	 */
 	public void updateRootInstanceInfo() {
 		// before creating instance list update default instance properties 
-		updateDefaultProperties(extractInstance.getDefaultProperties());
+		overrideDefaultProperties(extractInstance.getDefaultProperties());
 		// create a property list for holding combined info for this instance
 		PropertyList mergedList = new PropertyList();
 		// now add defined default instance properties
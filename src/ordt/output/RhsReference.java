@@ -24,13 +24,23 @@ public class RhsReference {
    private boolean sameAddrmap = true;  // true if this rhs reference is in same addrmap as lhs 
    private boolean userSignal = false;  // true if this rhs reference is a user-defined signal
    
-   private static Stack<InstanceProperties> instancePropertyStack;  // pointer to builder active instance path
+   private static ThreadLocal<Stack<InstanceProperties>> activeInstancePropertyStack = new ThreadLocal<Stack<InstanceProperties>>();  // pointer to active builder instance path (per thread so builders can run in parallel)
+   private Stack<InstanceProperties> instancePropertyStack;  // builder active instance path at time of reference creation
 
    public RhsReference(String rawReference, int depth) {
 	   this.depth = depth;
+	   this.instancePropertyStack = activeInstancePropertyStack.get();
 	   parseRawReference(rawReference);  // extract instance and deref  
    }
    
+   /** create a reference from an instance path and deref already split from a raw reference (deref is null if none) */
+   public RhsReference(String rawInstancePath, String deRef, int depth) {
+	   this.depth = depth;
+	   this.instancePropertyStack = activeInstancePropertyStack.get();
+	   setDeRef(deRef);
+	   setInstancePath(rawInstancePath, (deRef == null)? rawInstancePath : rawInstancePath + "->" + deRef);
+   }
+   
    /** return assign depth (depth from instancePath leaf in assignment stmt determined by lhs hierarchy)
     */
    public int getDepth() {
@@ -155,9 +165,9 @@ public class RhsReference {
 	   return userSignal;
    }
 
-   /** set ptr to builder instancePropertyStack */
+   /** set ptr to builder instancePropertyStack for references created by the calling thread */
    public static void setInstancePropertyStack(Stack<InstanceProperties> instancePropertyStack) {
-	   RhsReference.instancePropertyStack = instancePropertyStack;
+	   activeInstancePropertyStack.set(instancePropertyStack);
    }
    
    // ----------------- private methods -----------------
@@ -170,12 +180,22 @@ public class RhsReference {
 	   Matcher m = p.matcher(rawReference);
 	   if (m.matches()) {
 		   rawInstancePath = m.group(1); 
-		   this.deRef = m.group(2);
-		   if (this.deRef.equals("nextposedge") || this.deRef.equals("nextnegedge")) wellFormedSignalName = false;
+		   setDeRef(m.group(2));
 	   }
 	   else {
 		   rawInstancePath = rawReference; 
 	   }
+	   setInstancePath(rawInstancePath, rawReference);
+   }
+   
+   /** set deref of this reference */
+   private void setDeRef(String deRef) {
+	   this.deRef = deRef;
+	   if ((deRef != null) && (deRef.equals("nextposedge") || deRef.equals("nextnegedge"))) wellFormedSignalName = false;
+   }
+
+   /** set instance path of this reference and check for a valid reference */
+   private void setInstancePath(String rawInstancePath, String rawReference) {  
 	   this.instancePath = (rawInstancePath != null)? rawInstancePath.replace("[", "_").replace("]", "") : null;  // replace array indices with index suffixes
 	   if (instancePath != null) this.instancePathElems = instancePath.split("\\.");
 		   
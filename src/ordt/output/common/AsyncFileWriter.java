@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2016 Juniper Networks, Inc. All rights reserved.
+ */
+package ordt.output.common;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+/** file writer that collects output in large char buffers, which are encoded (using the default charset as in FileWriter)
+ *  and written to the file on a background thread so that output generation and file writes overlap.
+ *  Small files are encoded and written on close without starting a thread. */
+public class AsyncFileWriter extends Writer {
+	private static final int INITIAL_BUFFER_CHARS = 1 << 14;
+	private static final int MAX_BUFFER_CHARS = 1 << 20;  // full buffers of this size are passed to the write thread
+
+	private FileChannel channel;
+	private CharsetEncoder encoder;
+	private CharBuffer buffer = CharBuffer.allocate(INITIAL_BUFFER_CHARS);  // buffer being filled
+	private CharBuffer spareBuffer;  // buffer of a completed write available for reuse
+	private ByteBuffer byteBuffer;  // encoded output
+	private ExecutorService writeThread;  // created once a full buffer is passed
+	private Future<CharBuffer> pendingWrite;  // at most one buffer is written while the next is filled
+	private boolean isClosed = false;
+
+	/** open a file for writing, replacing existing contents */
+	public AsyncFileWriter(File file) throws IOException {
+		channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+		encoder = Charset.defaultCharset().newEncoder()
+				.onMalformedInput(CodingErrorAction.REPLACE)
+				.onUnmappableCharacter(CodingErrorAction.REPLACE);
+	}
+
+	@Override
+	public void write(char[] cbuf, int off, int len) throws IOException {
+		ensureOpen();
+		while (len > 0) {
+			if (!buffer.hasRemaining()) makeRoom();
+			int chunk = Math.min(len, buffer.remaining());
+			buffer.put(cbuf, off, chunk);
+			off += chunk;
+			len -= chunk;
+		}
+	}
+
+	@Override
+	public void write(String str, int off, int len) throws IOException {
+		ensureOpen();
+		while (len > 0) {
+			if (!buffer.hasRemaining()) makeRoom();
+			int chunk = Math.min(len, buffer.remaining());
+			buffer.put(str, off, off + chunk);
+			off += chunk;
+			len -= chunk;
+		}
+	}
+
+	@Override
+	public void write(int c) throws IOException {
+		ensureOpen();
+		if (!buffer.hasRemaining()) makeRoom();
+		buffer.put((char) c);
+	}
+
+	/** pass buffered output to the write thread and wait until it is written */
+	@Override
+	public void flush() throws IOException {
+		ensureOpen();
+		if (buffer.position() > 0) startWrite();
+		waitForPendingWrite();
+	}
+
+	/** write remaining output and close the file */
+	@Override
+	public void close() throws IOException {
+		if (isClosed) return;
+		isClosed = true;
+		try {
+			waitForPendingWrite();
+			buffer.flip();
+			encodeAndWrite(buffer);
+		}
+		finally {
+			if (writeThread != null) writeThread.shutdown();
+			channel.close();
+		}
+	}
+
+	/** grow the buffer if below max size, else pass it to the write thread */
+	private void makeRoom() throws IOException {
+		if (buffer.capacity() < MAX_BUFFER_CHARS) {
+			buffer.flip();
+			buffer = CharBuffer.allocate(Math.min(2 * buffer.capacity(), MAX_BUFFER_CHARS)).put(buffer);
+		}
+		else startWrite();
+	}
+
+	/** pass the filled buffer to the write thread, keeping a trailing high surrogate for the next buffer */
+	private void startWrite() throws IOException {
+		final CharBuffer fullBuffer = buffer;
+		fullBuffer.flip();
+		int last = fullBuffer.limit() - 1;
+		boolean hasHighSurrogate = (last >= 0) && Character.isHighSurrogate(fullBuffer.get(last));
+		char highSurrogate = hasHighSurrogate? fullBuffer.get(last) : 0;
+		if (hasHighSurrogate) fullBuffer.limit(last);
+		// wait for prior write so its buffer can be reused
+		waitForPendingWrite();
+		buffer = (spareBuffer != null)? spareBuffer : CharBuffer.allocate(fullBuffer.capacity());
+		spareBuffer = null;
+		if (hasHighSurrogate) buffer.put(highSurrogate);
+		if (writeThread == null) writeThread = Executors.newSingleThreadExecutor(new ThreadFactory() {
+			@Override
+			public Thread newThread(Runnable r) {
+				Thread thread = new Thread(r, "ordt-output-writer");
+				thread.setDaemon(true);
+				return thread;
+			}
+		});
+		pendingWrite = writeThread.submit(new Callable<CharBuffer>() {
+			@Override
+			public CharBuffer call() throws IOException {
+				encodeAndWrite(fullBuffer);
+				fullBuffer.clear();
+				return fullBuffer;
+			}
+		});
+	}
+
+	/** wait for the pending write to complete, saving its buffer for reuse */
+	private void waitForPendingWrite() throws IOException {
+		if (pendingWrite == null) return;
+		try {
+			spareBuffer = pendingWrite.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("interrupted waiting for output file write");
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof IOException) throw (IOException) e.getCause();
+			throw new IOException(e.getCause());
+		} finally {
+			pendingWrite = null;
+		}
+	}
+
+	/** encode chars and write them to the file */
+	private void encodeAndWrite(CharBuffer chars) throws IOException {
+		int maxBytes = (int) Math.ceil(chars.remaining() * (double) encoder.maxBytesPerChar());
+		if ((byteBuffer == null) || (byteBuffer.capacity() < maxBytes)) byteBuffer = ByteBuffer.allocate(maxBytes);
+		byteBuffer.clear();
+		encoder.reset();
+		encoder.encode(chars, byteBuffer, true);
+		encoder.flush(byteBuffer);
+		byteBuffer.flip();
+		while (byteBuffer.hasRemaining()) channel.write(byteBuffer);
+	}
+
+	private void ensureOpen() throws IOException {
+		if (isClosed) throw new IOException("output file writer is closed");
+	}
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2016 Juniper Networks, Inc. All rights reserved.
+ */
+package ordt.output.common;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/** file writer that writes output to a temp file and replaces the target file on close only if content has changed.
+ *  The header date line is ignored in the compare, so an unchanged target file (and its modification time) is left as is. */
+public class ChangedFileWriter extends Writer {
+	private static final int MAX_HEADER_LINES = 64;  // max lines searched for the header date line
+	private static final byte[] DATE_TAG = "   Date: ".getBytes();
+	private static AtomicInteger writtenFiles = new AtomicInteger();
+	private static AtomicInteger skippedFiles = new AtomicInteger();
+
+	private File targetFile;
+	private File tempFile;
+	private Writer tempWriter;
+	private boolean isClosed = false;
+
+	/** create a writer of a temp file in the target file directory */
+	public ChangedFileWriter(File targetFile) throws IOException {
+		this.targetFile = targetFile;
+		tempFile = File.createTempFile("." + targetFile.getName() + ".", ".tmp", targetFile.getParentFile());
+		try {
+			tempWriter = SimpleOutputWriter.openFileWriter(tempFile);
+		} catch (IOException e) {
+			tempFile.delete();
+			throw e;
+		}
+	}
+
+	/** reset written/skipped file counts */
+	public static void init() {
+		writtenFiles.set(0);
+		skippedFiles.set(0);
+	}
+
+	/** return the number of files written since init */
+	public static int getWrittenFiles() {
+		return writtenFiles.get();
+	}
+
+	/** return the number of unchanged files skipped since init */
+	public static int getSkippedFiles() {
+		return skippedFiles.get();
+	}
+
+	@Override
+	public void write(char[] cbuf, int off, int len) throws IOException {
+		tempWriter.write(cbuf, off, len);
+	}
+
+	@Override
+	public void write(String str, int off, int len) throws IOException {
+		tempWriter.write(str, off, len);
+	}
+
+	@Override
+	public void write(int c) throws IOException {
+		tempWriter.write(c);
+	}
+
+	@Override
+	public void flush() throws IOException {
+		tempWriter.flush();
+	}
+
+	/** close the temp file, then replace the target if its content differs */
+	@Override
+	public void close() throws IOException {
+		if (isClosed) return;
+		isClosed = true;
+		try {
+			tempWriter.close();
+			if (targetFile.isFile() && contentMatches(tempFile, targetFile)) {
+				skippedFiles.incrementAndGet();
+				return;
+			}
+			Files.move(tempFile.toPath(), targetFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			writtenFiles.incrementAndGet();
+		}
+		finally {
+			tempFile.delete();  // no-op if moved
+		}
+	}
+
+	/** return true if two files have the same content, ignoring a differing date line in the file header */
+	private static boolean contentMatches(File newFile, File oldFile) throws IOException {
+		try (InputStream newIn = new BufferedInputStream(new FileInputStream(newFile), 1 << 16);
+			 InputStream oldIn = new BufferedInputStream(new FileInputStream(oldFile), 1 << 16)) {
+			// compare header lines, allowing one date line to differ
+			for (int line=0; line<MAX_HEADER_LINES; line++) {
+				byte[] newLine = readLine(newIn);
+				byte[] oldLine = readLine(oldIn);
+				if ((newLine == null) || (oldLine == null)) return (newLine == oldLine);
+				if (!Arrays.equals(newLine, oldLine)) {
+					if (!isDateLine(newLine) || !isDateLine(oldLine)) return false;
+					break;  // header ends with the date line
+				}
+				if (isDateLine(newLine) || (newLine.length <= 1)) break;  // done at date line or blank line ending header
+			}
+			// compare remaining bytes
+			byte[] newBuf = new byte[1 << 16];
+			byte[] oldBuf = new byte[1 << 16];
+			while (true) {
+				int newCount = readBlock(newIn, newBuf);
+				int oldCount = readBlock(oldIn, oldBuf);
+				if (newCount != oldCount) return false;
+				if (newCount == 0) return true;
+				for (int idx=0; idx<newCount; idx++) {
+					if (newBuf[idx] != oldBuf[idx]) return false;
+				}
+			}
+		}
+	}
+
+	/** read a line including its terminating newline, returning null at end of file */
+	private static byte[] readLine(InputStream in) throws IOException {
+		ByteArrayOutputStream line = new ByteArrayOutputStream();
+		int b;
+		while ((b = in.read()) >= 0) {
+			line.write(b);
+			if (b == '\n') break;
+		}
+		return ((b < 0) && (line.size() == 0))? null : line.toByteArray();
+	}
+
+	/** return true if line contains the header date tag */
+	private static boolean isDateLine(byte[] line) {
+		for (int start=0; start<=line.length-DATE_TAG.length; start++) {
+			int idx = 0;
+			while ((idx < DATE_TAG.length) && (line[start + idx] == DATE_TAG[idx])) idx++;
+			if (idx == DATE_TAG.length) return true;
+		}
+		return false;
+	}
+
+	/** fill a buffer from a stream, returning the count read (less than buffer size only at end of file) */
+	private static int readBlock(InputStream in, byte[] buf) throws IOException {
+		int count = 0;
+		while (count < buf.length) {
+			int n = in.read(buf, count, buf.length - count);
+			if (n < 0) break;
+			count += n;
+		}
+		return count;
+	}
+}
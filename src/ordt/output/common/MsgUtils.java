@@ -1,35 +1,87 @@
 package ordt.output.common;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
 
 public class MsgUtils {
 
 	private final static int ERROR_CONTINUE_RC = 4;
 	private final static int ERROR_EXIT_RC = 8;
-	private static int returnCode = 0;
+	private static volatile int returnCode = 0;
 	private static String progName = "Ordt";
+	private static boolean exitOnError = true;  // if false, exits throw an ExitException rather than ending the jvm (server mode)
+
+	// per thread message capture (used to merge messages from parallel output generation in a deterministic order)
+	private static ThreadLocal<CapturedMessages> capturedMessages = new ThreadLocal<CapturedMessages>();
+	private static ThreadLocal<int[]> messageCount = new ThreadLocal<int[]>() {  // count of messages issued by each thread
+		@Override
+		protected int[] initialValue() {
+			return new int[1];
+		}
+	};
+	// per thread recording of error/info/warning messages (used to save extract messages with a cached model)
+	private static ThreadLocal<RecordedMessages> recordedMessages = new ThreadLocal<RecordedMessages>();
+	private static PrintStream stdOut;  // original stdout/stderr streams, set when capture streams are installed
+	private static PrintStream stdErr;
 
 	/** display error message and exit */
 	public static void errorExit(String msg) {
 		errorMessage(msg);	
 		System.out.println(progName + " exited due to error " + new Date());
-		System.exit(ERROR_EXIT_RC);
+		// if this thread's messages are being captured, display them before exit
+		CapturedMessages msgs = stopMessageCapture();
+		if (msgs != null) msgs.replay();
+		exit(ERROR_EXIT_RC);
+	}
+
+	/** exit with specified return code. If exitOnError is not set, an ExitException is thrown instead */
+	public static void exit(int rc) {
+		if (exitOnError) System.exit(rc);
+		throw new ExitException(rc);
+	}
+
+	/** set to false if exits should throw an ExitException rather than ending the jvm */
+	public static void setExitOnError(boolean exitOnError) {
+		MsgUtils.exitOnError = exitOnError;
+	}
+
+	/** reset the return code for a new run */
+	public static void init() {
+		returnCode = 0;
+		recordedMessages.remove();
 	}
 
 	/** display error message */
 	public static void errorMessage(String msg) {
 		System.err.println("*** ERROR ***: " + msg);
 		returnCode = ERROR_CONTINUE_RC;
+		messageCount.get()[0]++;
+		recordMessage(RecordedMessages.ERROR, msg);
 	}
 	
 	/** display error message */
 	public static void infoMessage(String msg) {
 		System.out.println("*** INFO ***: " + msg);		
+		messageCount.get()[0]++;
+		recordMessage(RecordedMessages.INFO, msg);
 	}
 	
 	/** display error message */
 	public static void warnMessage(String msg) {
 		System.err.println("*** WARNING ***: " + msg);		
+		messageCount.get()[0]++;
+		recordMessage(RecordedMessages.WARNING, msg);
+	}
+
+	/** get count of error/info/warning messages issued by the calling thread */
+	public static int getMessageCount() {
+		return messageCount.get()[0];
 	}
 
 	/** get return code */
@@ -54,4 +106,176 @@ public class MsgUtils {
 	   return retstr;	
 	}
 
+	// ------------------------ message recording methods ---------------------------
+
+	/** start recording error/info/warning messages of the calling thread (nested recordings are appended to the enclosing one on stop) */
+	public static void startMessageRecording() {
+		recordedMessages.set(new RecordedMessages(recordedMessages.get(), returnCode));
+	}
+
+	/** stop recording messages of the calling thread and return recorded messages (null if thread was not recording) */
+	public static RecordedMessages stopMessageRecording() {
+		RecordedMessages msgs = recordedMessages.get();
+		if (msgs == null) return null;
+		if (msgs.parent != null) {
+			msgs.parent.add(msgs);
+			recordedMessages.set(msgs.parent);
+			msgs.parent = null;
+		}
+		else recordedMessages.remove();
+		return msgs;
+	}
+
+	/** add messages recorded on another thread to the calling thread's recording (messages are not redisplayed) */
+	public static void addRecordedMessages(RecordedMessages other) {
+		RecordedMessages msgs = recordedMessages.get();
+		if ((msgs != null) && (other != null)) msgs.add(other);
+	}
+
+	private static void recordMessage(char type, String msg) {
+		RecordedMessages msgs = recordedMessages.get();
+		if (msgs != null) msgs.messages.add(type + msg);
+	}
+
+	// ------------------------ message capture methods ---------------------------
+
+	/** start capturing all stdout/stderr messages of the calling thread */
+	public static void startMessageCapture() {
+		installCaptureStreams();
+		capturedMessages.set(new CapturedMessages());
+	}
+
+	/** stop capturing messages of the calling thread and return captured messages (null if thread was not being captured) */
+	public static CapturedMessages stopMessageCapture() {
+		CapturedMessages msgs = capturedMessages.get();
+		capturedMessages.remove();
+		return msgs;
+	}
+
+	/** replace System.out/err with streams that redirect output of capturing threads */
+	private static synchronized void installCaptureStreams() {
+		if (stdOut != null) return;
+		stdOut = System.out;
+		stdErr = System.err;
+		System.setOut(new PrintStream(new ThreadCaptureStream(stdOut, false), true));
+		System.setErr(new PrintStream(new ThreadCaptureStream(stdErr, true), true));
+	}
+
+	/** restore the original System.out/err streams if capture streams were installed */
+	public static synchronized void removeCaptureStreams() {
+		if (stdOut == null) return;
+		System.out.flush();
+		System.err.flush();
+		System.setOut(stdOut);
+		System.setErr(stdErr);
+		stdOut = null;
+		stdErr = null;
+	}
+
+	/** output stream that sends data to a per-thread capture buffer if active, else to the original stream */
+	private static class ThreadCaptureStream extends OutputStream {
+		private PrintStream target;
+		private boolean isErr;
+
+		private ThreadCaptureStream(PrintStream target, boolean isErr) {
+			this.target = target;
+			this.isErr = isErr;
+		}
+
+		private OutputStream getStream() {
+			CapturedMessages msgs = capturedMessages.get();
+			if (msgs == null) return target;
+			return isErr? msgs.err : msgs.out;
+		}
+
+		@Override
+		public void write(int b) throws IOException {
+			getStream().write(b);
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			getStream().write(b, off, len);
+		}
+
+		@Override
+		public void flush() {
+			target.flush();
+		}
+	}
+
+	/** exception thrown on exit if exitOnError is not set */
+	public static class ExitException extends RuntimeException {
+		private static final long serialVersionUID = 1L;
+		private int returnCode;
+
+		public ExitException(int returnCode) {
+			super("exit with return code " + returnCode);
+			this.returnCode = returnCode;
+		}
+
+		/** return the exit return code */
+		public int getReturnCode() {
+			return returnCode;
+		}
+	}
+
+	/** error/info/warning messages recorded from a single thread */
+	public static class RecordedMessages implements Serializable {
+		private static final long serialVersionUID = 1L;
+		private static final char ERROR = 'E';
+		private static final char WARNING = 'W';
+		private static final char INFO = 'I';
+		private transient RecordedMessages parent;
+		private transient int startReturnCode;  // return code when recording started
+		private List<String> messages = new ArrayList<String>();  // message text prefixed by type
+
+		private RecordedMessages(RecordedMessages parent, int startReturnCode) {
+			this.parent = parent;
+			this.startReturnCode = startReturnCode;
+		}
+
+		private void add(RecordedMessages other) {
+			messages.addAll(other.messages);
+		}
+
+		/** return true if no errors were issued before recording started */
+		public boolean startedClean() {
+			return startReturnCode == 0;
+		}
+
+		/** return the return code resulting from the recorded messages */
+		public int getReturnCode() {
+			for (String msg: messages) if (msg.charAt(0) == ERROR) return ERROR_CONTINUE_RC;
+			return 0;
+		}
+
+		/** redisplay recorded messages and restore the return code they set */
+		public void replay() {
+			for (String msg: messages) {
+				String text = msg.substring(1);
+				if (msg.charAt(0) == ERROR) errorMessage(text);
+				else if (msg.charAt(0) == WARNING) warnMessage(text);
+				else infoMessage(text);
+			}
+			if (getReturnCode() > returnCode) returnCode = getReturnCode();
+		}
+	}
+
+	/** stdout/stderr messages captured from a single thread */
+	public static class CapturedMessages {
+		private ByteArrayOutputStream out = new ByteArrayOutputStream();
+		private ByteArrayOutputStream err = new ByteArrayOutputStream();
+		private PrintStream replayOut = stdOut;  // original streams at capture start (capture streams may be removed before replay)
+		private PrintStream replayErr = stdErr;
+
+		/** write captured messages to the original stdout/stderr streams */
+		public void replay() {
+			replayOut.write(out.toByteArray(), 0, out.size());
+			replayOut.flush();
+			replayErr.write(err.toByteArray(), 0, err.size());
+			replayErr.flush();
+		}
+	}
+
 }
@@ -3,8 +3,6 @@
  */
 package ordt.output.common;
 
-import java.util.HashMap;
-
 /** class defining a line of output
  */
 public class OutputLine {
@@ -12,9 +10,7 @@ public class OutputLine {
 	private String line;
 	private Integer specialType = null;  // use to indicate overidden OutputLine class for special processsing (null = no special type defined)
 	private static final int DEFAULT_SPECIAL_TYPE = 0;
-	private boolean hasTextReplacements = false;  // indication that test replacements should be processed in this line
-	//private static List<ReplacePair> replacements = new ArrayList<ReplacePair>();
-	private static HashMap<String, String> replacements = new HashMap<String, String>();
+	private ReplacedLine replacedLine = null;  // text replacement info for this line (null if none)
 	
 	/**
 	 * @param indent
@@ -28,6 +24,7 @@ public class OutputLine {
 	/** set line value */
 	public void setLine(String line) {
 		this.line = line;			
+		if (replacedLine != null) replacedLine.text = null;
 	}
 
 	/** add a suffix string to a line */
@@ -53,22 +50,18 @@ public class OutputLine {
 	 *  @return the line
 	 */
 	public String getLine() {
-		if (hasTextReplacements) return replaceText();
+		if (replacedLine != null) return replaceText();
 		return line;
 	}
 
-	/** return line string with text values in replacements list replaced */
+	/** return line string with text values in replacements set replaced, reusing the prior result if replacements are unchanged */
 	private String replaceText() {
-		String retStr = line;
-		for (String key : replacements.keySet()) {
-			retStr = retStr.replaceAll(key, replacements.get(key));
+		TextReplacements replacements = replacedLine.replacements;
+		if ((replacedLine.text == null) || (replacedLine.version != replacements.getVersion())) {
+			replacedLine.version = replacements.getVersion();
+			replacedLine.text = replacements.replace(line);
 		}
-		return retStr;
-	}
-	
-	/** set text replace pairs */
-	public static void setReplacements(HashMap<String, String> newReplacements) {
-		if (newReplacements != null) replacements = newReplacements;
+		return replacedLine.text;
 	}
 	
 	/** get special
@@ -93,21 +86,32 @@ public class OutputLine {
 	}
 
 	public boolean hasTextReplacements() {
-		return hasTextReplacements;
+		return (replacedLine != null);
 	}
 
-	public void setHasTextReplacements(boolean hasTextReplacements) {
-		this.hasTextReplacements = hasTextReplacements;
+	/** set the replacement set to be processed in this line (null for none) */
+	public void setTextReplacements(TextReplacements textReplacements) {
+		replacedLine = (textReplacements != null)? new ReplacedLine(textReplacements) : null;
+	}
+	
+	/** replacement set of a line and cached line with replacements applied */
+	private static class ReplacedLine {
+		private TextReplacements replacements;
+		private String text = null;  // line with replacements applied
+		private int version;  // version of replacements used in text
+		
+		private ReplacedLine(TextReplacements replacements) {
+			this.replacements = replacements;
+		}
 	}
 	
     public static void main(String[] args) throws Exception {
-    	HashMap<String, String> repStrings = new HashMap<String, String>();
+    	TextReplacements repStrings = new TextReplacements();
     	repStrings.put("line", "booger");
     	repStrings.put("is a", "isn't a");
     	
     	OutputLine line = new OutputLine(0, "this is a line;");
-    	line.setHasTextReplacements(true);
-    	OutputLine.setReplacements(repStrings);
+    	line.setTextReplacements(repStrings);
     	System.out.println(line.getLine());
     }
 
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2016 Juniper Networks, Inc. All rights reserved.
+ */
+package ordt.output.common;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/** list of output lines that stores plain lines as packed text in fixed size chunks with a byte indent per line.
+ *  A plain OutputLine is copied on add and re-created on get, so it must not be modified once added.
+ *  Special lines, lines with text replacements and OutputLine subclasses are stored by reference.
+ *  Lines can only be appended (set/remove are not supported). */
+public class OutputLineList extends AbstractList<OutputLine> {
+	private static final int CHUNK_CHARS = 1 << 16;  // chars per text chunk
+	private static final byte REF_LINE = Byte.MIN_VALUE;  // indent value of a line stored by reference
+
+	private List<StringBuilder> chunks = new ArrayList<StringBuilder>();  // packed text of all lines
+	private int textSize = 0;  // total packed text chars
+	private int[] ends = new int[256];  // end position of each line in packed text
+	private byte[] indents = new byte[256];  // indent of each packed line or REF_LINE
+	private int size = 0;
+	private int[] refIndices = new int[16];  // sorted indices of lines stored by reference
+	private List<OutputLine> refLines = new ArrayList<OutputLine>();
+
+	@Override
+	public boolean add(OutputLine outputLine) {
+		if (size == ends.length) {
+			ends = Arrays.copyOf(ends, 2 * size);
+			indents = Arrays.copyOf(indents, 2 * size);
+		}
+		if (isPackable(outputLine)) {
+			appendText(outputLine.getLine());
+			indents[size] = (byte) outputLine.getIndent();
+		}
+		else {
+			if (refLines.size() == refIndices.length) refIndices = Arrays.copyOf(refIndices, 2 * refIndices.length);
+			refIndices[refLines.size()] = size;
+			refLines.add(outputLine);
+			indents[size] = REF_LINE;
+		}
+		ends[size++] = textSize;
+		modCount++;
+		return true;
+	}
+
+	@Override
+	public void add(int index, OutputLine outputLine) {
+		if (index != size) throw new UnsupportedOperationException("OutputLineList only supports append");
+		add(outputLine);
+	}
+
+	@Override
+	public OutputLine get(int index) {
+		if ((index < 0) || (index >= size)) throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		if (indents[index] == REF_LINE) return refLines.get(Arrays.binarySearch(refIndices, 0, refLines.size(), index));
+		int start = (index > 0)? ends[index - 1] : 0;
+		return new OutputLine(indents[index], getText(start, ends[index]));
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public void clear() {
+		chunks.clear();
+		textSize = 0;
+		size = 0;
+		refLines.clear();
+		modCount++;
+	}
+
+	/** return true if a line can be stored as packed text */
+	private static boolean isPackable(OutputLine outputLine) {
+		if ((outputLine == null) || (outputLine.getClass() != OutputLine.class)) return false;
+		if (outputLine.isSpecial() || outputLine.hasTextReplacements() || (outputLine.getLine() == null)) return false;
+		int indent = outputLine.getIndent();
+		return (indent > REF_LINE) && (indent <= Byte.MAX_VALUE);
+	}
+
+	/** append a string to packed text, filling chunks */
+	private void appendText(String text) {
+		int pos = 0;
+		int len = text.length();
+		while (pos < len) {
+			int chunkPos = textSize % CHUNK_CHARS;
+			if (chunkPos == 0) chunks.add(new StringBuilder(CHUNK_CHARS));
+			int count = Math.min(len - pos, CHUNK_CHARS - chunkPos);
+			chunks.get(textSize / CHUNK_CHARS).append(text, pos, pos + count);
+			pos += count;
+			textSize += count;
+		}
+	}
+
+	/** return packed text between the specified positions */
+	private String getText(int start, int end) {
+		if (start == end) return "";
+		int chunk = start / CHUNK_CHARS;
+		int chunkStart = chunk * CHUNK_CHARS;
+		if (end <= chunkStart + CHUNK_CHARS) return chunks.get(chunk).substring(start - chunkStart, end - chunkStart);
+		// text spans chunks
+		StringBuilder text = new StringBuilder(end - start);
+		int pos = start;
+		while (pos < end) {
+			chunk = pos / CHUNK_CHARS;
+			chunkStart = chunk * CHUNK_CHARS;
+			int chunkEnd = Math.min(end, chunkStart + CHUNK_CHARS);
+			text.append(chunks.get(chunk), pos - chunkStart, chunkEnd - chunkStart);
+			pos = chunkEnd;
+		}
+		return text.toString();
+	}
+}
@@ -4,10 +4,19 @@ import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.io.Writer;
 import java.util.Iterator;
 import java.util.List;
 
+import ordt.parameters.ExtParameters;
+
 public class SimpleOutputWriter implements OutputWriterIntf {
+	private static final int MAX_CACHED_INDENT = 64;
+	private static final String[] indents = new String[MAX_CACHED_INDENT + 1];  // indent strings by level
+	static {
+		for (int level=0; level<=MAX_CACHED_INDENT; level++) indents[level] = MsgUtils.repeat(' ', level*2);
+	}
+
 	protected BufferedWriter bw;
 	
 	public SimpleOutputWriter(String fileName, String description) {
@@ -40,12 +49,7 @@ public class SimpleOutputWriter implements OutputWriterIntf {
 
 	@Override
 	public void writeStmt(int indentLevel, String stmt) {
-		   //System.out.println("OutputBuilder: bufnull=" + (bufferedWriter == null) + ", indent=" + ",Stmt=" + stmt);
-		   try {
-			bw.write(MsgUtils.repeat(' ', indentLevel*2) + stmt +"\n");
-		} catch (IOException e) {
-			e.printStackTrace();
-		}
+		writeStmt(bw, indentLevel, stmt);
 	}
 
 	@Override
@@ -54,6 +58,25 @@ public class SimpleOutputWriter implements OutputWriterIntf {
 		while (iter.hasNext()) writeStmt(indentLevel, iter.next());	
 	}	
 	
+	/** write an indented stmt to the specified BufferedWriter */
+	public static void writeStmt(BufferedWriter bw, int indentLevel, String stmt) {
+		   //System.out.println("OutputBuilder: bufnull=" + (bufferedWriter == null) + ", indent=" + ",Stmt=" + stmt);
+		   try {
+			bw.write(getIndent(indentLevel));
+			bw.write(stmt);
+			bw.write('\n');
+		} catch (IOException e) {
+			e.printStackTrace();
+		}
+	}
+
+	/** return the indent string for the specified level */
+	public static String getIndent(int indentLevel) {
+		if (indentLevel <= 0) return indents[0];
+		if (indentLevel <= MAX_CACHED_INDENT) return indents[indentLevel];
+		return MsgUtils.repeat(' ', indentLevel*2);
+	}
+	
 	/** validate output file and create buffered writer
      */
     public static BufferedWriter openBufferedWriter(String outName, String description) {
@@ -63,13 +86,15 @@ public class SimpleOutputWriter implements OutputWriterIntf {
 
     		System.out.println(MsgUtils.getProgName() + ": writing " + description + " file " + outFile + "...");
 
+    		// if only writing changed files, write to a temp file that replaces outFile on close if changed
+    		if (ExtParameters.skipUnchangedOutputs()) return new BufferedWriter(new ChangedFileWriter(outFile.getAbsoluteFile()));
+    		
     		// if file doesnt exists, then create it
     		if (!outFile.exists()) {
     			outFile.createNewFile();
     		}
 
-    		FileWriter fw = new FileWriter(outFile.getAbsoluteFile());
-    		BufferedWriter bw = new BufferedWriter(fw);
+    		BufferedWriter bw = new BufferedWriter(openFileWriter(outFile.getAbsoluteFile()));
     		return bw;
 
     	} catch (IOException e) {
@@ -78,6 +103,11 @@ public class SimpleOutputWriter implements OutputWriterIntf {
     	}
     }
     
+    /** create an unbuffered writer of the specified file */
+    public static Writer openFileWriter(File outFile) throws IOException {
+    	return ExtParameters.asyncOutputWrites()? new AsyncFileWriter(outFile) : new FileWriter(outFile);
+    }
+    
     /** validate output file and create buffered writer
      */
     public static void closeBufferedWriter(BufferedWriter bw) {
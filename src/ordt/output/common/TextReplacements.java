@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2016 Juniper Networks, Inc. All rights reserved.
+ */
+package ordt.output.common;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/** set of literal text replacements applied to OutputLines at write time.
+ *  All keys are compiled into a single pattern so each line is processed in one pass. */
+public class TextReplacements {
+	private HashMap<String, String> replacements = new HashMap<String, String>();
+	private Pattern pattern;  // alternation of all keys, null if not yet compiled
+	private int version = 0;  // incremented on each change so lines can detect stale cached values
+
+	/** add a replacement of text key by value */
+	public void put(String key, String value) {
+		if ((key == null) || key.isEmpty() || (value == null)) return;
+		replacements.put(key, value);
+		pattern = null;
+		version++;
+	}
+
+	/** remove all replacements */
+	public void clear() {
+		replacements.clear();
+		pattern = null;
+		version++;
+	}
+
+	/** return true if no replacements are defined */
+	public boolean isEmpty() {
+		return replacements.isEmpty();
+	}
+
+	/** return the current version of this replacement set */
+	public int getVersion() {
+		return version;
+	}
+
+	/** return a string with all replacement keys in text replaced */
+	public String replace(String text) {
+		if ((text == null) || replacements.isEmpty()) return text;
+		Matcher matcher = getPattern().matcher(text);
+		if (!matcher.find()) return text;
+		StringBuffer retStr = new StringBuffer(text.length() + 16);
+		do {
+			matcher.appendReplacement(retStr, Matcher.quoteReplacement(replacements.get(matcher.group())));
+		} while (matcher.find());
+		matcher.appendTail(retStr);
+		return retStr.toString();
+	}
+
+	/** compile the key pattern if needed. longer keys are listed first so the longest key at a position is matched */
+	private Pattern getPattern() {
+		if (pattern != null) return pattern;
+		List<String> keys = new ArrayList<String>(replacements.keySet());
+		Collections.sort(keys, new Comparator<String>() {
+			@Override
+			public int compare(String k1, String k2) {
+				if (k1.length() != k2.length()) return k2.length() - k1.length();
+				return k1.compareTo(k2);
+			}
+		});
+		StringBuilder regex = new StringBuilder();
+		for (String key : keys) {
+			if (regex.length() > 0) regex.append('|');
+			regex.append(Pattern.quote(key));
+		}
+		pattern = Pattern.compile(regex.toString());
+		return pattern;
+	}
+}
@@ -3,30 +3,26 @@ package ordt.output.drvmod;
 /** base class for storing driver model reg/regset instances */
 public abstract class DrvModBaseInstance {
 
-	protected static DrvModBuilder builder;
-	private static int instanceCount = 0;
+	protected DrvModBuilder builder;  // builder that created this instance
 	
 	protected String name; // instance name
 	protected int mapId = 0;  // id of register map/overlay that created this instance
 	protected int instId = 0;  // unique instance id for inst name generation
 	protected boolean hasBeenProcessed = false;  // set to true if this instance has been processed
 	
-	protected DrvModBaseInstance(String name, int mapId) {
+	protected DrvModBaseInstance(DrvModBuilder builder, String name, int mapId) {
 		super();
+		this.builder = builder;
 		this.name = name;
 		this.mapId = mapId;
-		this.instId = instanceCount++;  // bump unique instance count
+		this.instId = builder.getNextInstanceId();  // bump unique instance count
 		//System.out.println("DrvModBaseInstance: creating name=" + name + ", mapId=" + mapId + ", addressOffset=" + addressOffset + ", reps=" + reps + ", addressStride=" + addressStride);
 	}
 
-	public static DrvModBuilder getBuilder() {
+	public DrvModBuilder getBuilder() {
 		return builder;
 	}
 
-	public static void setBuilder(DrvModBuilder builder) {
-		DrvModBaseInstance.builder = builder;
-	}
-
 	public String getName() {
 		return name;
 	}
@@ -27,6 +27,7 @@ public abstract class DrvModBuilder extends OutputBuilder {
 	private Stack<DrvModRegSetInstance> currentRegSetStack = new Stack<DrvModRegSetInstance>();
 	protected int overlayCount = 0;
 	protected List<RootInstanceInfo> rootInstances = new ArrayList<RootInstanceInfo>();
+	private static int instanceCount = 0;  // count of instances created by all drvmod builders (used for unique instance name generation)
 	
     //---------------------------- constructor ----------------------------------
 
@@ -37,7 +38,6 @@ public abstract class DrvModBuilder extends OutputBuilder {
 	    setVisitExternalRegisters(true);  // we will visit externals 
 	    setVisitEachExternalRegister(false);	    // handle externals as a group
 	    setSupportsOverlays(true);	    // support overlay files
-	    DrvModBaseInstance.setBuilder(this);  // save this builder in overlay model
 		RhsReference.setInstancePropertyStack(instancePropertyStack);  // update pointer to the instance stack for rhs reference evaluation
 	    model.getRoot().generateOutput(null, this);   // generate output structures recursively starting at model root
     }
@@ -70,7 +70,7 @@ public abstract class DrvModBuilder extends OutputBuilder {
 	public void finishRegister() {  
 		//	System.out.println("DrvModBuilder finishRegister: " + regProperties.getInstancePath() + ", base=" + regProperties.getBaseAddress());	
 		// create new reg instance
-		DrvModRegInstance newReg = new DrvModRegInstance(regProperties.getId(), overlayCount, regProperties.getRegWidth());
+		DrvModRegInstance newReg = new DrvModRegInstance(this, regProperties.getId(), overlayCount, regProperties.getRegWidth());
 		// add field info to this reg before uniqueRegs check so has is valid
 		while (fieldList.size() > 0) {
 			FieldProperties fld = fieldList.remove();  // get next field
@@ -100,7 +100,7 @@ public abstract class DrvModBuilder extends OutputBuilder {
 		}
 		// create new regset instance
 		//System.out.println("DrvModBuilder addRegSet: basename=" + regSetProperties.getBaseName() + ", id=" + regSetProperties.getId() + ", reps=" + regSetProperties.getRepCount() + ", relAddr=" + relativeAddr + ", alignedSize=" + regSetProperties.getAlignedSize());
-		DrvModRegSetInstance newRegSet = new DrvModRegSetInstance(regSetProperties.getId(), overlayCount);
+		DrvModRegSetInstance newRegSet = new DrvModRegSetInstance(this, regSetProperties.getId(), overlayCount);
 		// update current instance
 		currentRegSetStack.push(newRegSet);
 		// save root instance for this overlay
@@ -157,6 +157,17 @@ public abstract class DrvModBuilder extends OutputBuilder {
 	public abstract void processRegSetInstance(DrvModRegSetInstance drvModRegSetInstance); 
 	public abstract void processRegInstance(DrvModRegInstance drvModRegInstance);
 
+	/** reset instance count shared by builders */
+	public static void init() {
+		instanceCount = 0;
+	}
+
+	/** return a new unique id for a created instance.  Ids are numbered across all drvmod builders in the run
+	 *  (drvmod builders are in a single generation group so are never run in parallel) */
+	int getNextInstanceId() {
+		return instanceCount++;
+	}
+
 	// inner clas to save root instance/offset
 	public class RootInstanceInfo {
 		public DrvModRegSetInstance instance;
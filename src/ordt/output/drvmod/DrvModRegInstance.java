@@ -11,8 +11,8 @@ public class DrvModRegInstance extends DrvModBaseInstance {
 	private int width = ModRegister.defaultWidth;
 	private List<DrvModField> fields = new ArrayList<DrvModField>();
 	
-	DrvModRegInstance(String name, int mapId, int width) {
-		super(name, mapId);
+	DrvModRegInstance(DrvModBuilder builder, String name, int mapId, int width) {
+		super(builder, name, mapId);
 		this.width=width;
 	}
 
@@ -10,8 +10,8 @@ public class DrvModRegSetInstance extends DrvModBaseInstance {
 	
 	HashMap<DrvModRegSetChildInfo, Integer> childMaps = new HashMap<DrvModRegSetChildInfo, Integer>(); // hash of child instances and encoded overlay use map 
 
-	DrvModRegSetInstance(String name, int mapId) {
-		super(name, mapId);
+	DrvModRegSetInstance(DrvModBuilder builder, String name, int mapId) {
+		super(builder, name, mapId);
 	}
 
 	/** get list of children with this instances mapId */
@@ -24,7 +24,7 @@ public class CppDrvModBuilder extends DrvModBuilder {  // Note no OutputBuilder
 	private BufferedWriter hppBw;
 	private BufferedWriter cppBw;
 
-	private static CppBaseModClass rootClass;
+	private CppBaseModClass rootClass;
 	
 	private static HashSet<String> reservedWords = getReservedWords();
 	
@@ -22,7 +22,7 @@ public class PyDrvModBuilder extends DrvModBuilder {  // Note no OutputBuilder o
 	//private BufferedWriter hppBw;
 	private BufferedWriter pyBw;
 
-	private static PyBaseModClass rootClass;
+	private PyBaseModClass rootClass;
 		
 	public PyDrvModBuilder(RegModelIntf model) {  
 		super(model);
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2016 Juniper Networks, Inc. All rights reserved.
+ */
+package ordt.output.othertypes;
+
+import java.io.BufferedWriter;
+import java.math.BigInteger;
+
+import ordt.extract.RegModelIntf;
+import ordt.extract.RegNumber;
+import ordt.output.AddressIntervalIndex;
+import ordt.output.OutputBuilder;
+import ordt.output.RhsReference;
+import ordt.output.common.MsgUtils;
+
+/** builder of an address interval index of all elaborated registers and register sets.
+ *  The index is available via getAddressIndex and written as a list of address ranges sorted by address,
+ *  indented by nesting level. */
+public class AddressLookupBuilder extends OutputBuilder {
+	private AddressIntervalIndex.RangeList ranges = new AddressIntervalIndex.RangeList();
+	private AddressIntervalIndex addressIndex;
+	private boolean addressWidthError = false;  // set if an address exceeding 64b is found
+
+	//---------------------------- constructors ----------------------------------
+
+	public AddressLookupBuilder(RegModelIntf model) {
+		setBaseBuilderID();   // set unique ID of this instance
+		this.model = model;
+	    setVisitEachReg(true);   // add each reg rep
+	    setVisitEachRegSet(true);   // add each reg set rep
+	    setVisitExternalRegisters(true);  // visit externals also
+	    setVisitEachExternalRegister(true);	    // treat external regs exactly as internals
+	    setUseRegRepTemplates(true);  // field outputs are the same for each reg rep
+		RhsReference.setInstancePropertyStack(instancePropertyStack);  // update pointer to the instance stack for rhs reference evaluation
+		model.getRoot().generateOutput(null, this);   // generate output structures recursively starting at model root
+		addressIndex = new AddressIntervalIndex(ranges);
+		ranges = null;
+		// report any overlapping address ranges
+		for (int[] overlap: addressIndex.getOverlaps())
+			MsgUtils.warnMessage("address range of " + getRangeString(overlap[1]) + " overlaps " + getRangeString(overlap[0]));
+	}
+
+	/** return the address index of the model */
+	public AddressIntervalIndex getAddressIndex() {
+		return addressIndex;
+	}
+
+	//---------------------------- OutputBuilder methods to load address ranges ----------------------------------------
+
+	@Override
+	public  void addField() {
+	}
+
+	@Override
+	public  void addAliasField() {
+	}
+
+	@Override
+	public  void addRegister() {
+	}
+
+	/** add the address range of a register */
+	@Override
+	public  void finishRegister() {
+		long start = toAddress(regProperties.getFullBaseAddress());
+		addRange(start, start + regProperties.getRegByteWidth() - 1, regProperties.getInstancePath(), true);
+	}
+
+	@Override
+	public  void addRegSet() {
+	}
+
+	/** add the address range of a register set */
+	@Override
+	public  void finishRegSet() {
+		if (regSetProperties.getHighAddress() == null) return;
+		long start = toAddress(regSetProperties.getFullBaseAddress());
+		long end = toAddress(regSetProperties.getFullHighAddress());
+		if (Long.compareUnsigned(end, start) >= 0) addRange(start, end, regSetProperties.getInstancePath(), false);  // skip empty regsets
+	}
+
+	@Override
+	public  void addRegMap() {
+	}
+
+	@Override
+	public  void finishRegMap() {
+	}
+
+	//--------------------------------------------------------------------
+
+	/** add a range to the index if its addresses are valid */
+	private void addRange(long start, long end, String instancePath, boolean isReg) {
+		if (!addressWidthError) ranges.add(start, end, instancePath, isReg);
+	}
+
+	/** return a 64b address value, issuing an error if the address does not fit */
+	private long toAddress(RegNumber address) {
+		BigInteger value = address.getValue();
+		if ((value.bitLength() > 64) && !addressWidthError) {
+			MsgUtils.errorMessage("address lookup output does not support addresses larger than 64 bits");
+			addressWidthError = true;
+		}
+		return value.longValue();
+	}
+
+	/** return a string describing a range in the index */
+	private String getRangeString(int idx) {
+		return (addressIndex.isRegister(idx)? "register " : "register set ") + addressIndex.getInstancePath(idx) +
+				" (" + getAddressString(addressIndex.getStart(idx)) + " to " + getAddressString(addressIndex.getEnd(idx)) + ")";
+	}
+
+	/** return hex string of an address */
+	private static String getAddressString(long address) {
+		return "0x" + Long.toUnsignedString(address, 16);
+	}
+
+	//---------------------------- methods to output  ----------------------------------------
+
+	/** write out the address ranges
+	 * @param bw */
+	@Override
+	public void write(BufferedWriter bw) {
+		bufferedWriter = bw;
+		for (int idx=0; idx<addressIndex.size(); idx++) {
+			int depth = 0;
+			for (int parent = addressIndex.getParent(idx); parent >= 0; parent = addressIndex.getParent(parent)) depth++;
+			writeStmt(0, String.format("%-18s  %-18s  %-6s  %s%s", getAddressString(addressIndex.getStart(idx)), getAddressString(addressIndex.getEnd(idx)),
+					addressIndex.isRegister(idx)? "reg" : "regset", MsgUtils.repeat(' ', 2 * depth), addressIndex.getInstancePath(idx)));
+		}
+	}
+}
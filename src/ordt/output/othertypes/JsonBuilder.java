@@ -4,7 +4,6 @@
 package ordt.output.othertypes;
 
 import java.io.BufferedWriter;
-import java.util.ArrayList;
 import java.util.List;
 
 import ordt.output.common.MsgUtils;
@@ -16,10 +15,11 @@ import ordt.output.FieldProperties;
 import ordt.output.OutputBuilder;
 import ordt.output.RhsReference;
 import ordt.output.common.OutputLine;
+import ordt.output.common.OutputLineList;
 import ordt.parameters.ExtParameters;
 
 public class JsonBuilder extends OutputBuilder {  
-	private List<OutputLine> outputList = new ArrayList<OutputLine>();
+	private List<OutputLine> outputList = new OutputLineList();
 	private int indentLvl = 0;
 	private String commonRegAccess = null;  // detect common access mode of all fields
 	
@@ -4,7 +4,6 @@
 package ordt.output.othertypes;
 
 import java.io.BufferedWriter;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.PriorityQueue;
 import java.util.Comparator;
@@ -25,11 +24,12 @@ import ordt.output.InstanceProperties;
 import ordt.output.OutputBuilder;
 import ordt.output.RhsReference;
 import ordt.output.common.OutputLine;
+import ordt.output.common.OutputLineList;
 import ordt.parameters.ExtParameters;
 
 public class JspecBuilder extends OutputBuilder {
 	
-	private List<OutputLine> outputList = new ArrayList<OutputLine>();
+	private List<OutputLine> outputList = new OutputLineList();
 	private int indentLvl = 0;
 	private static HashSet<String> reservedWords = getReservedWords();  // reserved jspec words
 	
@@ -384,7 +384,7 @@ public class JspecBuilder extends OutputBuilder {
 	private void buildJsPassthruAssigns(InstanceProperties inst) {
 		if (!inst.hasJsPassthruProperties()) return;
 		PropertyList pList = inst.getJsPassthruProperties();
-		for (String name : pList.getProperties().keySet()) {
+		for (String name : pList.getPropertyNames()) {
 			String value = (pList.getProperty(name) == null)? "" : pList.getProperty(name);
 			DefinedProperty prop = DefinedProperties.getProperty(name);
 			if (prop!=null) outputList.add(new OutputLine(indentLvl, name.substring(3) + " = " + prop.getJsValue(value) + ";")); 	// strip js_ prefix	
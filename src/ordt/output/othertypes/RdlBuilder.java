@@ -4,7 +4,6 @@
 package ordt.output.othertypes;
 
 import java.io.BufferedWriter;
-import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 
@@ -24,11 +23,12 @@ import ordt.output.InstanceProperties;
 import ordt.output.OutputBuilder;
 import ordt.output.RhsReference;
 import ordt.output.common.OutputLine;
+import ordt.output.common.OutputLineList;
 import ordt.parameters.ExtParameters;
 
 public class RdlBuilder extends OutputBuilder {
 	
-	private List<OutputLine> outputList = new ArrayList<OutputLine>();
+	private List<OutputLine> outputList = new OutputLineList();
 	private static HashSet<String> escapedIds = new HashSet<String>(); // set of keywords needing to be escaped
 	private int indentLvl = 0;
 	
@@ -303,7 +303,7 @@ public class RdlBuilder extends OutputBuilder {
 	private void buildJsPassthruAssigns(InstanceProperties inst) {
 		if (!inst.hasJsPassthruProperties()) return;
 		PropertyList pList = inst.getJsPassthruProperties();
-		for (String name : pList.getProperties().keySet()) {
+		for (String name : pList.getPropertyNames()) {
 			String value = (pList.getProperty(name) == null)? "" : pList.getProperty(name);
 			DefinedProperty prop = DefinedProperties.getProperty(name);
 			if (prop!=null) outputList.add(new OutputLine(indentLvl, name + " = " + prop.getRdlValue(value) + ";")); 		
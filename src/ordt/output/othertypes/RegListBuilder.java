@@ -4,7 +4,6 @@
 package ordt.output.othertypes;
 
 import java.io.BufferedWriter;
-import java.util.ArrayList;
 
 import java.util.List;
 
@@ -13,6 +12,7 @@ import ordt.output.FieldProperties;
 import ordt.output.OutputBuilder;
 import ordt.output.RhsReference;
 import ordt.output.common.OutputLine;
+import ordt.output.common.OutputLineList;
 import ordt.parameters.ExtParameters;
 
 /**
@@ -21,7 +21,7 @@ import ordt.parameters.ExtParameters;
  *
  */
 public class RegListBuilder extends OutputBuilder {  // TODO handle alias fields
-	private List<OutputLine> outputList = new ArrayList<OutputLine>();
+	private List<OutputLine> outputList = new OutputLineList();
 	private int indentLvl = 0;
 
 	//---------------------------- constructors ----------------------------------
@@ -33,6 +33,7 @@ public class RegListBuilder extends OutputBuilder {  // TODO handle alias fields
 	    setVisitEachRegSet(true);   // gen code for each reg set
 	    setVisitExternalRegisters(ExtParameters.reglistDisplayExternalRegs());  //visit externals also?
 	    setVisitEachExternalRegister(true);	    // treat external regs exactly as internals
+	    setUseRegRepTemplates(true);  // field outputs are the same for each reg rep
 		RhsReference.setInstancePropertyStack(instancePropertyStack);  // update pointer to the instance stack for rhs reference evaluation
 		model.getRoot().generateOutput(null, this);   // generate output structures recursively starting at model root
 	}
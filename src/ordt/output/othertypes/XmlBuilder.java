@@ -4,7 +4,6 @@
 package ordt.output.othertypes;
 
 import java.io.BufferedWriter;
-import java.util.ArrayList;
 import java.util.List;
 
 import ordt.output.common.MsgUtils;
@@ -23,11 +22,12 @@ import ordt.output.OutputBuilder;
 import ordt.output.RhsReference;
 import ordt.output.FieldProperties.RhsRefType;
 import ordt.output.common.OutputLine;
+import ordt.output.common.OutputLineList;
 import ordt.output.InstanceProperties;
 import ordt.parameters.ExtParameters;
 
 public class XmlBuilder extends OutputBuilder {  
-	private List<OutputLine> outputList = new ArrayList<OutputLine>();
+	private List<OutputLine> outputList = new OutputLineList();
 	private int indentLvl = 0;
 	private String commonRegAccess = null;  // detect common access mode of all fields
 	
@@ -476,7 +476,7 @@ public class XmlBuilder extends OutputBuilder {
 		if (!instProperties.hasUserDefinedProperties()) return;  // done if no external properties
 		addXmlElementStart("user_properties");
 		PropertyList pList = instProperties.getUserDefinedProperties();
-		for (String name : pList.getProperties().keySet()) {
+		for (String name : pList.getPropertyNames()) {
 			String value = (pList.getProperty(name) == null)? "" : pList.getProperty(name);
 			addXmlElement(name, value);
 		}
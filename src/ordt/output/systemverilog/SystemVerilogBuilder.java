@@ -28,6 +28,7 @@ import ordt.output.systemverilog.common.SystemVerilogSignal;
 import ordt.output.systemverilog.common.io.SystemVerilogIOSignalList;
 import ordt.output.systemverilog.common.io.SystemVerilogIOSignalSet;
 import ordt.output.systemverilog.common.wrap.SystemVerilogWrapModule;
+import ordt.output.systemverilog.common.wrap.WrapperRemapSyncStagesXform;
 import ordt.output.AddressableInstanceProperties.ExtType;
 import ordt.parameters.ExtParameters;
 import ordt.parameters.Utils;
@@ -44,8 +45,8 @@ public class SystemVerilogBuilder extends OutputBuilder {
 	
 	// clk names	
 	protected static final String defaultClk = "clk";	
-	protected static String decodeClk = ExtParameters.systemverilogUseGatedLogicClk() ? "uclk" : defaultClk;	
-	protected static String logicClk = ExtParameters.systemverilogUseGatedLogicClk() ? "gclk" : defaultClk;	
+	protected String decodeClk = ExtParameters.systemverilogUseGatedLogicClk() ? "uclk" : defaultClk;	
+	protected String logicClk = ExtParameters.systemverilogUseGatedLogicClk() ? "gclk" : defaultClk;	
 
 	// reset names
 	protected String defaultReset = ExtParameters.sysVerResetLowActive() ? "rst_n" : "reset"; // MYTOYS
@@ -56,7 +57,7 @@ public class SystemVerilogBuilder extends OutputBuilder {
 	private boolean resetsLocked = false;  // set to true before first reg instance
 	private boolean isTestBuilder = false;  // true if modules are generated for test only (eg via generate_external_regs) 
 	
-	private static ValidAddressRanges addressRanges;
+	private ValidAddressRanges addressRanges;  // valid address ranges of the base builder (shared by child builders)
 	
 	// define io locations
 	protected static final Integer HW = SystemVerilogDefinedOrdtSignals.HW;
@@ -103,7 +104,7 @@ public class SystemVerilogBuilder extends OutputBuilder {
 	
 	// constructor for addressmap children
 	public SystemVerilogBuilder(SystemVerilogBuilder parentBuilder, boolean isTestModule) {
-		setNewBuilderID();   // set unique ID of this instance
+		setNewBuilderID(parentBuilder);   // set unique ID of this instance
 		this.model = parentBuilder.model;    // inherit parent model
 	    setVisitEachReg(true);   // gen code for each reg
 	    setVisitEachRegSet(true);   // gen code for each reg set
@@ -111,6 +112,7 @@ public class SystemVerilogBuilder extends OutputBuilder {
 	    setVisitEachExternalRegister(false);	    // handle externals as a group
 		setLegacyVerilog(SystemVerilogBuilder.isLegacyVerilog());  // cascade state for systemverilog construct gen
 		initIOLists(parentBuilder);  // setup IO lists for logic, decode, and top modules
+	    this.addressRanges = parentBuilder.addressRanges;  // share base builder address range list
 	    // inherit name prefixes from parent
 	    this.setModulePrefix(parentBuilder.getModuleName());
 	    // save state of the current regSet and the instance stacks
@@ -178,6 +180,13 @@ public class SystemVerilogBuilder extends OutputBuilder {
 		if (parentBuilder != null) hwSigList.copyActiveSetStack(parentBuilder.hwSigList, DefSignalType.SIGSET);
 	}
 	
+	/** reset static systemverilog generation state for a new run */
+	public static void init() {
+		setLegacyVerilog(false);
+		SystemVerilogModule.init();
+		WrapperRemapSyncStagesXform.init();
+	}
+	
 	/** set legacyVerilog
 	 *  @param boolean legacyVerilog value to set
 	 */
@@ -155,6 +155,14 @@ public class SystemVerilogModule {
 		this.useInterfaces = useInterfaces;
 	}
 
+	/** reset static module state for a new run */
+	public static void init() {
+		uniqueModules.clear();
+		createUniqueModuleMap = false;
+		showDefaultIOListWarnings = true;
+		isLegacyVerilog = false;
+	}
+
 	public static void showDefaultIOListWarnings(boolean showDefaultIOListWarnings) {
 		SystemVerilogModule.showDefaultIOListWarnings = showDefaultIOListWarnings;
 	}
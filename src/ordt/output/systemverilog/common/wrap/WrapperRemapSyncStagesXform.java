@@ -13,6 +13,12 @@ public class WrapperRemapSyncStagesXform extends WrapperRemapXform {
 	static String moduleName = "ordt_wrap_sync_stages";
     private static boolean hasBeenWritten = false;
 	
+	/** reset instance count and written state for a new run */
+	public static void init() {
+		instanceCount = 0;
+		hasBeenWritten = false;
+	}
+
 	public WrapperRemapSyncStagesXform(int delayStages, String clkName, String moduleOverride) {
 		super();
 		this.type = WrapperRemapType.SYNC_STAGES;
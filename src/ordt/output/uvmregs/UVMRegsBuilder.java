@@ -30,6 +30,8 @@ import ordt.output.RhsReference;
 import ordt.output.UniqueNameSet;
 import ordt.output.UniqueNameSet.UniqueNameSetInfo;
 import ordt.output.common.OutputLine;
+import ordt.output.common.OutputLineList;
+import ordt.output.common.TextReplacements;
 import ordt.output.FieldProperties.RhsRefType;
 import ordt.output.systemverilog.common.SystemVerilogFunction;
 import ordt.output.systemverilog.common.SystemVerilogTask;
@@ -37,8 +39,8 @@ import ordt.parameters.ExtParameters;
 
 public class UVMRegsBuilder extends OutputBuilder {
 
-	protected List<OutputLine> outputList = new ArrayList<OutputLine>();
-	protected List<OutputLine> pkgOutputList = new ArrayList<OutputLine>();  // define a separate list for package info
+	protected List<OutputLine> outputList = new OutputLineList();
+	protected List<OutputLine> pkgOutputList = new OutputLineList();  // define a separate list for package info
 	
 	protected subComponentLists subcompDefList = new subComponentLists();   // lists of subcomponent define statements (per block)
 	protected subComponentLists subcompBuildList = new subComponentLists();  // lists of subcomponent build statements (per block)
@@ -46,6 +48,7 @@ public class UVMRegsBuilder extends OutputBuilder {
 	protected subComponentLists regCbsDefineStatements = new subComponentLists();  // list of register callback defines (per block)
 	protected subComponentLists regCbsAssignStatements = new subComponentLists();  // list of register callback assign statements (per block)
 	protected List<SystemVerilogFunction> externMethods = new ArrayList<SystemVerilogFunction>();  // list of functions to be defined outside class scope
+	protected TextReplacements textReplacements = new TextReplacements();  // text replaced in marked output lines at write time
 	
 	protected int indentLvl = 0;
 	
@@ -57,8 +60,8 @@ public class UVMRegsBuilder extends OutputBuilder {
 	protected Stack<Integer> activeRegisterCount = new Stack<Integer>(); // stack of non-pruned register counts in active regset
 	
 	// search state for use in field callbacks
-	protected static int lastCBDepth = -1;
-	protected static int lastCBCount = 0;
+	protected int lastCBDepth = -1;
+	protected int lastCBCount = 0;
 	
 	// unique uvm reg and block class name structures
 	protected UniqueNameSet<RegProperties> uniqueRegNames = new UniqueNameSet<RegProperties>(ExtParameters.uvmregsReuseUvmClasses(), 
@@ -1397,7 +1400,7 @@ public class UVMRegsBuilder extends OutputBuilder {
 	protected void addUserDefinedPropertyElements(int indentLvl, FieldProperties instProperties, String instName) {
 		if (!instProperties.hasUserDefinedProperties()) return;  // done if no external properties
 		PropertyList pList = instProperties.getUserDefinedProperties();
-		for (String name : pList.getProperties().keySet()) {
+		for (String name : pList.getPropertyNames()) {
 			String value = (pList.getProperty(name) == null)? "" : pList.getProperty(name);
 			outputList.add(new OutputLine(indentLvl, "this." + instName +  ".add_def_property(\"" + name + "\", \"" + cleanSysVerString(value) + "\");")); 
 		}
@@ -1407,7 +1410,7 @@ public class UVMRegsBuilder extends OutputBuilder {
 	protected void addUserDefinedPropertyElements(String parentID, InstanceProperties instProperties, String instName) {
 		if (!instProperties.hasUserDefinedProperties()) return;  // done if no external properties
 		PropertyList pList = instProperties.getUserDefinedProperties();
-		for (String name : pList.getProperties().keySet()) {
+		for (String name : pList.getPropertyNames()) {
 			String value = (pList.getProperty(name) == null)? "" : pList.getProperty(name);
 			subcompBuildList.addStatement(parentID, "  this." + instName + ".add_def_property(\"" + name + "\", \"" + cleanSysVerString(value) + "\");"); 
 		}
@@ -1512,7 +1515,7 @@ public class UVMRegsBuilder extends OutputBuilder {
 			String addr = "`UVM_REG_ADDR_WIDTH" + (ExtParameters.hasUvmregsBaseAddressOverride()? ExtParameters.uvmregsBaseAddressOverride().toFormat(RegNumber.NumBase.Hex, RegNumber.NumFormat.NoLengthVerilog) :
 				ExtParameters.getPrimaryBaseAddress().toFormat(RegNumber.NumBase.Hex, RegNumber.NumFormat.NoLengthVerilog));
 			OutputLine oLine = new OutputLine(indentLvl, "this.default_map = create_map(\"\", " + addr + ", " + byteWidthString + ", " + endianness + ", 1);");
-			oLine.setHasTextReplacements(true);
+			oLine.setTextReplacements(textReplacements);
 			outputList.add(oLine);
 			outputList.add(new OutputLine(indentLvl, "this.set_rdl_address_map(1);"));  			
 			if (ExtParameters.uvmregsUseModulePathDefines()) outputList.add(new OutputLine(indentLvl, "this.set_rdl_address_map_hdl_path({`" + getParentAddressMapName().toUpperCase() + "_PIO_INSTANCE_PATH, \".pio_logic\"});"));  			
@@ -1520,7 +1523,7 @@ public class UVMRegsBuilder extends OutputBuilder {
 		}
 		else {
 			OutputLine oLine = new OutputLine(indentLvl, "this.default_map = create_map(\"\", 0, " + byteWidthString + ", " + endianness + ", 1);");
-			oLine.setHasTextReplacements(true);
+			oLine.setTextReplacements(textReplacements);
 			outputList.add(oLine);
 		}
 		
@@ -1814,10 +1817,8 @@ public class UVMRegsBuilder extends OutputBuilder {
 	public void write(BufferedWriter bw) {
 		bufferedWriter = bw;
 		
-		// create text replacement set to set final max width  
-    	HashMap<String, String> repStrings = new HashMap<String, String>();
-    	repStrings.put("<MAX_REG_BYTE_WIDTH>", String.valueOf(this.getMaxRegByteWidth())); // replace with max reg size   	
-    	OutputLine.setReplacements(repStrings);
+		// set final max width in text replacements  
+    	textReplacements.put("<MAX_REG_BYTE_WIDTH>", String.valueOf(this.getMaxRegByteWidth())); // replace with max reg size   	
 
 		// write the output for each output group
 		for (OutputLine rLine: outputList) {
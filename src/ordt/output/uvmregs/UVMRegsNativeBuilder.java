@@ -340,12 +340,12 @@ public class UVMRegsNativeBuilder extends UVMRegsBuilder {
 		if (isBaseBlock) {
 			String addr = "`UVM_REG_ADDR_WIDTH" + ExtParameters.getPrimaryBaseAddress().toFormat(RegNumber.NumBase.Hex, RegNumber.NumFormat.NoLengthVerilog);
 			OutputLine oLine = new OutputLine(indentLvl, "this.default_map = create_map(\"\", " + addr + ", " + byteWidthString + ", " + endianness + ", 1);");
-			oLine.setHasTextReplacements(true);
+			oLine.setTextReplacements(textReplacements);
 			outputList.add(oLine);
 		}
 		else {
 			OutputLine oLine = new OutputLine(indentLvl, "this.default_map = create_map(\"\", 0, " + byteWidthString + ", " + endianness + ", 1);");
-			oLine.setHasTextReplacements(true);
+			oLine.setTextReplacements(textReplacements);
 			outputList.add(oLine);
 		}
 		
@@ -71,6 +71,11 @@ public class ExtParameters extends ExtParmsBaseListener  {
 	/** initialize all parameters */
 	public static void init() {
 		
+		// clear any annotations, wrapper xforms, and min_data_size register width set in a prior run
+		annotations.clear();
+		xformMap.clear();
+		ModRegister.setDefaultWidth(32);
+		
 		// ---- global defaults
 		params.put("min_data_size", new ExtIntegerParameter("min_data_size", 32) {  // special handling for min_data_size
 			@Override
@@ -96,6 +101,11 @@ public class ExtParameters extends ExtParmsBaseListener  {
 		initBooleanParameter("suppress_alignment_warnings", false); 
 		initStringParameter("default_base_map_name", "");  
 		initBooleanParameter("allow_unordered_addresses", false); 
+		initIntegerParameter("output_generation_threads", 1); 
+		initBooleanParameter("use_sll_parse", true); 
+		initBooleanParameter("streaming_extract", false); 
+		initBooleanParameter("async_output_writes", true); 
+		initBooleanParameter("skip_unchanged_outputs", false); 
 		// special handling for debug_mode. currently defined:
 		//     uvmregs_no_mem_wrap
 		//     uvmregs_maps_use_max_width
@@ -444,17 +454,29 @@ public class ExtParameters extends ExtParmsBaseListener  {
 	// -------------------
 
 	public static void processAnnotationCommand(ParserRuleContext ctx) {
+		processAnnotationCommand(getChildTexts(ctx));
+	}
+
+	/** return the text of each child of a parse context */
+	public static List<String> getChildTexts(ParserRuleContext ctx) {
+		List<String> texts = new ArrayList<String>();
+		for (int idx=0; idx<ctx.getChildCount(); idx++) texts.add(ctx.getChild(idx).getText());
+		return texts;
+	}
+
+	/** save an annotation command given the text of each command token */
+	public static void processAnnotationCommand(List<String> command) {
 		// extract command info
-		String cmdName = ctx.getChild(0).getText();
+		String cmdName = command.get(0);
 		// if a set command, then extract info and save command
 		if ("set_reg_property".equals(cmdName) || "set_field_property".equals(cmdName) || "set_fieldset_property".equals(cmdName) || "set_regset_property".equals(cmdName)) {
-			String nextTag = ctx.getChild(1).getText().replaceAll("\"", "");
+			String nextTag = command.get(1).replaceAll("\"", "");
 			boolean isDefault = "default".equals(nextTag);
 			int offset = isDefault? 1 : 0;
-			String propertyName = ctx.getChild(1 + offset).getText().replaceAll("\"", "");
-			String propertyValue = ctx.getChild(3 + offset).getText().replaceAll("\"", "");
-			boolean pathUsesComps = "components".equals(ctx.getChild(4 + offset).getText());
-			String pathStr = ctx.getChild(5 + offset).getText().replaceAll("\"", "");
+			String propertyName = command.get(1 + offset).replaceAll("\"", "");
+			String propertyValue = command.get(3 + offset).replaceAll("\"", "");
+			boolean pathUsesComps = "components".equals(command.get(4 + offset));
+			String pathStr = command.get(5 + offset).replaceAll("\"", "");
 			CompType target = "set_field_property".equals(cmdName)? CompType.FIELD : 
 							  "set_fieldset_property".equals(cmdName)? CompType.FIELDSET : 
 							  "set_reg_property".equals(cmdName)? CompType.REG : CompType.REGSET;
@@ -619,6 +641,36 @@ public class ExtParameters extends ExtParmsBaseListener  {
 		return getBooleanParameter("allow_unordered_addresses");
 	}
 
+	/** get number of threads used for output generation and model sizing (1 = all outputs generated sequentially)
+	 */
+	public static Integer getOutputGenerationThreads() {
+		return getIntegerParameter("output_generation_threads");
+	}
+
+	/** get useSllParse (if true, inputs are parsed using sll prediction with fallback to full ll on failure)
+	 */
+	public static Boolean useSllParse() {
+		return getBooleanParameter("use_sll_parse");
+	}
+
+	/** get streamingExtract (if true, the model is extracted during parse rather than from a full parse tree)
+	 */
+	public static Boolean streamingExtract() {
+		return getBooleanParameter("streaming_extract");
+	}
+
+	/** get asyncOutputWrites (if true, output files are encoded and written on a background thread)
+	 */
+	public static Boolean asyncOutputWrites() {
+		return getBooleanParameter("async_output_writes");
+	}
+
+	/** get skipUnchangedOutputs (if true, existing output files are only replaced if content other than header date changes)
+	 */
+	public static Boolean skipUnchangedOutputs() {
+		return getBooleanParameter("skip_unchanged_outputs");
+	}
+
 	/** get defaultBaseMapName
 	 *  @return the defaultBaseMapName
 	 */
@@ -6,9 +6,8 @@ package ordt.parameters;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
+import ordt.extract.RegNumber;
 import ordt.output.common.MsgUtils;
 
 /** utilities class */
@@ -95,37 +94,8 @@ public class Utils {
      **/
 	public static Integer numStrToPosInteger (String numStr, String messageSuffix) {
 		if ((numStr == null) || (numStr.length()<1)) return null;
-		// check for plain integers
-		Pattern p = Pattern.compile("^(\\d+)$");
-		Matcher m = p.matcher(numStr);
-		if (m.matches()) {
-		  return strToInteger(m.group(1), messageSuffix);
-		}
-		// check for hex number
-		p = Pattern.compile("^0x([\\d_[a-f][A-F]]+)$");
-		m = p.matcher(numStr);
-		if (m.matches()) {
-			String num = m.group(1).replace("_","");  // remove underscores
-			  return strToInteger(num, 16, messageSuffix);
-		}
-		// check for bin number
-		p = Pattern.compile("^0b([_[0-1]]+)$");
-		m = p.matcher(numStr);
-		if (m.matches()) {
-			String num = m.group(1).replace("_","");  // remove underscores
-			  return strToInteger(num, 2, messageSuffix);
-		}
-		// check for verilog number
-		p = Pattern.compile("^(\\d+)\\s*'\\s*([bdoh])\\s*([\\d_[a-f][A-F]]+)$");
-		m = p.matcher(numStr);
-		if (m.matches()) {
-			String base = m.group(2);
-			String num = m.group(3).replace("_","");  // remove underscores
-			if ("h".equals(base)) return strToInteger(num, 16, messageSuffix);
-			else if ("d".equals(base)) return strToInteger(num, messageSuffix);
-			else if ("o".equals(base)) return strToInteger(num, 8, messageSuffix);
-			else if ("b".equals(base)) return strToInteger(num, 2, messageSuffix);
-		}
+		RegNumber.Literal literal = RegNumber.Literal.scan(numStr);
+		if (literal != null) return strToInteger(literal.getDigits(), literal.getRadix(), messageSuffix);
 		//else System.err.println("Utils numStrToInteger: string match failed s=" + numStr);
 		return null;
 	}
@@ -41,6 +41,11 @@ ext_parm_defs
    | 'suppress_alignment_warnings' EQ bool
    | 'default_base_map_name' EQ STR
    | 'allow_unordered_addresses' EQ bool
+   | 'output_generation_threads' EQ NUM
+   | 'use_sll_parse' EQ bool
+   | 'streaming_extract' EQ bool
+   | 'async_output_writes' EQ bool
+   | 'skip_unchanged_outputs' EQ bool
    | 'debug_mode' EQ STR
    ;
 
@@ -11,13 +11,25 @@ grammar JSpec;
 }
 
 @lexer::members {
-  private static java.util.Set<String> userDefinedParameters = new java.util.HashSet<String>();
+  private static java.util.Set<String> userDefinedParameters = java.util.Collections.synchronizedSet(new java.util.HashSet<String>());  // shared by concurrent overlay parses
 
   public static void addUserParameter(String parm) {
     userDefinedParameters.add(parm);
     //System.out.println("adding user parameter " + parm + " to set");
   }
 
+  public static void clearUserParameters() {
+    userDefinedParameters.clear();
+  }
+
+  public static java.util.Set<String> getUserParameters() {
+    synchronized (userDefinedParameters) { return new java.util.HashSet<String>(userDefinedParameters); }
+  }
+
+  public static void setUserParameters(java.util.Set<String> parms) {
+    synchronized (userDefinedParameters) { userDefinedParameters.clear(); userDefinedParameters.addAll(parms); }
+  }
+
   public static boolean isUserParameter(String parm) {
     //System.out.println("user parameter " + parm + " is found=" + userDefinedParameters.contains(parm));
     return userDefinedParameters.contains(parm);
@@ -85,7 +97,7 @@ type_definition
 
  param_type_definition
    : 'typedef' 'param'
-     id  { JSpecLexer.addUserParameter($id.text); }  // System.out.println("user parameter=" + $id.text); 
+     id  { JSpecLexer.addUserParameter($id.start.getText()); }  // System.out.println("user parameter=" + $id.text); 
      EQ ('string' | 'boolean' | 'integer')
      SEMI 
    ;
@@ -46,13 +46,25 @@ import CommonExtParms;
 }
 
 @lexer::members {
-  private static java.util.Set<String> userDefinedProperties = new java.util.HashSet<String>();
+  private static java.util.Set<String> userDefinedProperties = java.util.Collections.synchronizedSet(new java.util.HashSet<String>());  // shared by concurrent overlay parses
 
   public static void addUserProperty(String prop) {
     userDefinedProperties.add(prop);
     //System.out.println("adding user property " + prop + " to set");
   }
 
+  public static void clearUserProperties() {
+    userDefinedProperties.clear();
+  }
+
+  public static java.util.Set<String> getUserProperties() {
+    synchronized (userDefinedProperties) { return new java.util.HashSet<String>(userDefinedProperties); }
+  }
+
+  public static void setUserProperties(java.util.Set<String> props) {
+    synchronized (userDefinedProperties) { userDefinedProperties.clear(); userDefinedProperties.addAll(props); }
+  }
+
   public static boolean isUserProperty(String prop) {
     //System.out.println("user property " + prop + " is found=" + userDefinedProperties.contains(prop));
     return userDefinedProperties.contains(prop);
@@ -76,7 +88,7 @@ root
     
  property_definition
    : 'property'
-     (id | PROPERTY)  { SystemRDLLexer.addUserProperty($id.text); }  // System.out.println("user property=" + $id.text); 
+     (id | PROPERTY)  { if ($id.ctx != null) SystemRDLLexer.addUserProperty($id.start.getText()); }  // System.out.println("user property=" + $id.text); 
      LBRACE
      property_body
      RBRACE
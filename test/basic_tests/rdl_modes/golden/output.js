@@ -0,0 +1,273 @@
+/*   Ordt 20190725.01 autogenerated file 
+ *   Input: ./rdl_mode_threads/test.rdl
+ *   Parms: ./rdl_mode_threads/test.parms
+ *   Date: Sat Oct 17 21:19:50 UTC 2026
+ */
+
+register_set simple1 "Registers for simple1" {
+
+  address = 0x0;
+  register_width = 32;
+  register_set stats "stats register_set" {
+    address = 0x1000;
+    
+    register disable_check "disable_check register" {
+      address = 0x0;
+      repeat = 2;
+      nop[25];
+      integer l0_b3[1] "l0_b3 field" param {
+        access_mode = READ_WRITE;
+        reset = 0x0;
+      };
+      integer l0_b2[1] "l0_b2 field" param {
+        access_mode = READ_WRITE;
+        reset = 0x0;
+      };
+      integer l0_b1[1] "l0_b1 field" param {
+        access_mode = READ_WRITE;
+        reset = 0x0;
+      };
+      integer l0_b0[1] "l0_b0 field" param {
+        access_mode = READ_WRITE;
+        reset = 0x0;
+      };
+      integer lut_st[1] "lut_st field" param {
+        access_mode = READ_WRITE;
+        reset = 0x0;
+      };
+      integer cbuf_fifo[1] "cbuf_fifo field" param {
+        access_mode = READ_WRITE;
+        reset = 0x0;
+      };
+      integer timer_sram[1] "timer_sram field" param {
+        access_mode = READ_WRITE;
+        reset = 0x0;
+      };
+    };
+    
+    register features "features register" {
+      address = 0x100;
+      integer version[2] "version field" param {
+        access_mode = READ_ONLY;
+        reset = 0x2;
+      };
+      nop[12];
+      integer default_rst_fld[2] "default_rst_fld field" param {
+        access_mode = READ_WRITE;
+        reset = 0x0;
+      };
+      integer alt_rst_fld[2] "alt_rst_fld field" param {
+        access_mode = READ_WRITE;
+        reset = 0x0;
+      };
+      nop[4];
+      integer syn_logged[1] "syn_logged field" param {
+        access_mode = READ_ONLY;
+        reset = 0x0;
+      };
+      integer wdth[5] "wdth field" param {
+        access_mode = READ_ONLY;
+        reset = 0x7;
+      };
+      integer generator[1] "generator field" param {
+        access_mode = READ_ONLY;
+        reset = 0x1;
+      };
+      integer checker[1] "checker field" param {
+        access_mode = READ_ONLY;
+        reset = 0x1;
+      };
+      integer correctable[1] "correctable field" param {
+        access_mode = READ_ONLY;
+        reset = 0x0;
+      };
+      integer adr_logged[1] "adr_logged field" param {
+        access_mode = READ_ONLY;
+        reset = 0x1;
+      };
+    };
+    
+    register log_address1 "log_address1 register" {
+      address = 0x104;
+      category = { STATE };
+      description = "{
+        newdesc bla bla
+      }";
+      nop[22];
+      integer value[10] "value field" param {
+        access_mode = READ_WRITE;
+        reset = 0x0;
+      };
+    };
+    
+    register log_address2 "log_address2 register" {
+      address = 0x110;
+      category = { STATE };
+      description = "{
+        newdesc 2 bla bla
+      }";
+      nop[22];
+      integer value[10] "value field" param {
+        access_mode = READ_WRITE;
+        reset = 0x0;
+      };
+    };
+    
+    register wide_reg "wide_reg register" {
+      address = 0x120;
+      register_width = 128;
+      nop[32];
+      integer value[96] "value field" param {
+        access_mode = READ_WRITE;
+        reset = 0xa5a5a5a5a5a5a5a5a5a5a5a5;
+      };
+    };
+    
+    register_set_size = 0x130;
+  };
+  
+  register_set rdr "rdr register_set" {
+    address = 0x4000;
+    
+    register reorder_window "reorder_window register" {
+      address = 0x0;
+      category = { STATE };
+      integer ws_enable[1] "ws_enable field" param {
+        description = "{
+          SW Configuration field
+        }";
+        access_mode = READ_WRITE;
+        reset = 0x1;
+      };
+      nop[4];
+      integer set_back[11] "set_back field" param {
+        description = "{
+          SW Configuration field
+        }";
+        access_mode = READ_WRITE;
+        reset = 0x10;
+      };
+      nop[5];
+      integer size[11] "size field" param {
+        description = "{
+          SW Configuration field
+        }";
+        access_mode = READ_WRITE;
+        reset = 0x80;
+      };
+    };
+    
+    register stream_reconf "stream_reconf register" {
+      address = 0x4;
+      nop[15];
+      integer busy[1] "busy field" param {
+        description = "{
+          HW Status field
+        }";
+        access_mode = READ_ONLY;
+        reset = 0x0;
+      };
+      nop[6];
+      integer stream[10] "stream field" param {
+        description = "{
+          SW Configuration field
+        }";
+        access_mode = READ_WRITE;
+        reset = 0x0;
+      };
+    };
+    
+    register_set cp_fp_wr "cp_fp_wr register_set" {
+      address = 0x21c0;
+      
+      register buffer "buffer register" {
+        address = 0x0;
+        access_mode = READ_ONLY;
+        category = { STATE };
+        repeat = 4;
+        nop[5];
+        integer addr0[11] "addr0 field" param {
+          description = "{
+            HW Status field
+          }";
+          access_mode = READ_ONLY;
+          reset = unknown;
+        };
+        nop[5];
+        integer addr1[11] "addr1 field" param {
+          description = "{
+            HW Status field
+          }";
+          access_mode = READ_ONLY;
+          reset = unknown;
+        };
+      };
+      
+      register_set_size = 0x10;
+    };
+    
+    register roll32_counter_reg "roll32_counter_reg register" {
+      address = 0x21d0;
+      nop[28];
+      integer count[4] "count field" param {
+        access_mode = READ_WRITE;
+        reset = 0x0;
+      };
+    };
+    
+    register sat32_counter_reg "sat32_counter_reg register" {
+      address = 0x21d4;
+      attributes = JS_ATTRIB_TEST_ACCESS_ONLY;
+      nop[28];
+      integer count[4] "count field" param {
+        access_mode = READ_TO_CLEAR;
+        reset = unknown;
+      };
+    };
+    
+    register rcnt_sat_log "rcnt_sat_log register" {
+      address = 0x21d8;
+      integer en[1] "en field" param {
+        description = "{
+          SW Configuration field
+        }";
+        access_mode = READ_WRITE;
+        reset = 0x1;
+      };
+      integer subch[5] "subch field" param {
+        access_mode = READ_TO_CLEAR;
+        reset = 0x0;
+      };
+      integer str[10] "str field" param {
+        access_mode = READ_TO_CLEAR;
+        sub_category = { INFO };
+        reset = 0x0;
+      };
+      integer count[16] "count field" param {
+        access_mode = READ_TO_CLEAR;
+        reset = 0x0;
+      };
+    };
+    
+    register_set_size = 0x21dc;
+  };
+  
+  register extra_reg "extra_reg name" {
+    address = 0x61dc;
+    category = { DYNAMIC_CONFIG };
+    description = "{
+      extra_reg description bla bla bla
+                more bla
+    }";
+    integer value[32] "value field" param {
+      description = "{
+        SW Configuration field
+      }";
+      access_mode = READ_WRITE;
+      reset = unknown;
+    };
+  };
+  
+  register_set_size = 0x61e0;
+};
+